@@ -1,7 +1,9 @@
 package com.devonfw.cobigen.api;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.devonfw.cobigen.api.annotation.Cached;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
@@ -34,6 +36,22 @@ public interface ConfigurationInterpreter {
      */
     public List<IncrementTo> getMatchingIncrements(Object matcherInput) throws InvalidConfigurationException;
 
+    /**
+     * Returns all matching increments for each of the given input objects. Larger batches of inputs are
+     * evaluated in parallel, i.e. the {@link com.devonfw.cobigen.api.extension.MatcherInterpreter matcher
+     * interpreters} and {@link com.devonfw.cobigen.api.extension.InputReader input readers} of the plug-ins are
+     * called from several threads concurrently. The conversion of increments is shared between inputs matching
+     * the same templates. Each input still gets its own increment instances.
+     *
+     * @param matcherInputs
+     *            input objects, each being treated like an input of {@link #getMatchingIncrements(Object)}
+     * @return the {@link List} of matching increments mapped by input object in the order of the given inputs
+     * @throws InvalidConfigurationException
+     *             if the configuration of CobiGen is not valid
+     */
+    public Map<Object, List<IncrementTo>> getMatchingIncrements(Collection<?> matcherInputs)
+        throws InvalidConfigurationException;
+
     /**
      * Returns the {@link List} of matching templates for the given input object
      *
@@ -47,6 +65,22 @@ public interface ConfigurationInterpreter {
     @Cached
     public List<TemplateTo> getMatchingTemplates(Object matcherInput) throws InvalidConfigurationException;
 
+    /**
+     * Returns the {@link List} of matching templates for each of the given input objects. Larger batches of
+     * inputs are evaluated in parallel, i.e. the {@link com.devonfw.cobigen.api.extension.MatcherInterpreter
+     * matcher interpreters} and {@link com.devonfw.cobigen.api.extension.InputReader input readers} of the
+     * plug-ins are called from several threads concurrently. The conversion of templates is shared between
+     * inputs matching the same templates. Each input still gets its own template instances.
+     *
+     * @param matcherInputs
+     *            input objects, each being treated like an input of {@link #getMatchingTemplates(Object)}
+     * @return the {@link List} of matching templates mapped by input object in the order of the given inputs
+     * @throws InvalidConfigurationException
+     *             if the configuration is not valid
+     */
+    public Map<Object, List<TemplateTo>> getMatchingTemplates(Collection<?> matcherInputs)
+        throws InvalidConfigurationException;
+
     /**
      * Resolves the destination path of a template for a given root path to generate to as well as a given
      * input to be used for variable resolution.
@@ -36,6 +36,12 @@ public class ConfigurationConstants {
     
     /**Name of configuration key for location of templates. It could be Cobigen_Templates folder, an artifact or a maven dependency*/
     public static final String COBIGEN_CONFIG_TEMPLATES_LOCATION_KEY = "cobigen.templates.templates_location";
+
+    /**
+     * Name of configuration key to enable the parallel ahead-of-time compilation of all templates as soon as a
+     * templates configuration is loaded
+     */
+    public static final String COBIGEN_CONFIG_TEMPLATES_PRECOMPILE_KEY = "cobigen.templates.precompile";
     
     /** Resource folder containing templates */
     public static final String TEMPLATE_RESOURCE_FOLDER = "src/main/templates";
@@ -0,0 +1,31 @@
+package com.devonfw.cobigen.api.extension;
+
+import java.io.File;
+import java.util.List;
+
+import com.devonfw.cobigen.api.annotation.ExceptionFacade;
+import com.devonfw.cobigen.api.exception.MergeException;
+
+/**
+ * {@link Merger} being able to merge multiple patches into the same base file at once, e.g. to read and write
+ * the base file just once. CobiGen merges consecutive patches for the same file by the same batch merger at
+ * once.
+ */
+@ExceptionFacade
+public interface BatchMerger extends Merger {
+
+    /**
+     * Merges the patches one after another into the base file. The result has to be the same as merging each
+     * patch into the result of merging the previous patches.
+     * @param base
+     *            target {@link File} to be merged into
+     * @param patches
+     *            {@link List} of patches, which should be applied to the base file in the given order
+     * @param targetCharset
+     *            target char set of the file to be read and write
+     * @return Merged source code (not null)
+     * @throws MergeException
+     *             if an exception occurs while merging the contents
+     */
+    public String merge(File base, List<String> patches, String targetCharset) throws MergeException;
+}
@@ -4,17 +4,24 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.cobigen.api.annotation.ExceptionFacade;
 import com.devonfw.cobigen.api.exception.InputReaderException;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 
 /**
  * This is an extension point to enable further generator input support. Implementations should inherit this
  * interface and should be registered via an implemented {@link TriggerInterpreter} to be integrated into the
- * CobiGen generation process.
+ * CobiGen generation process.<br>
+ * <br>
+ * Implementations have to be thread-safe, as matching multiple inputs at once, e.g. by
+ * {@link com.devonfw.cobigen.api.ConfigurationInterpreter#getMatchingTemplates(java.util.Collection)}, calls
+ * the input reader from several threads concurrently.
  */
 @ExceptionFacade
 public interface InputReader {
@@ -40,6 +47,22 @@ public interface InputReader {
      */
     public Map<String, Object> createModel(Object input);
 
+    /**
+     * This function should create the FreeMarker object model from the given input. The given model usage
+     * states which parts of the model are used by the template to be processed, such that costly parts of the
+     * model not being used might be skipped. The default implementation ignores the model usage and creates
+     * the complete model.
+     * @param input
+     *            object the model should be build of (not null)
+     * @param modelUsage
+     *            the parts of the model used by the template or {@code null} if the complete model should be
+     *            created
+     * @return a key to object {@link Map} representing an object model for the generation
+     */
+    public default Map<String, Object> createModel(Object input, ModelUsageTo modelUsage) {
+        return createModel(input);
+    }
+
     /**
      * Will return the set of combined input objects if the given input combines multiple input objects.
      * @param input
@@ -71,6 +94,47 @@ public interface InputReader {
      */
     public List<Object> getInputObjectsRecursively(Object input, Charset inputCharset);
 
+    /**
+     * Lazily enumerates the input objects combined by the given input. In contrast to
+     * {@link #getInputObjects(Object, Charset)} and {@link #getInputObjectsRecursively(Object, Charset)}, each
+     * input object should just be read once it is consumed, such that CobiGen is able to stop reading the
+     * combined input as soon as a matching input object has been found. The default implementation adapts the
+     * list based methods and thus reads all input objects once the stream is consumed.
+     * @param input
+     *            the combined input object
+     * @param inputCharset
+     *            to be used for reading new inputs
+     * @param recursively
+     *            states, whether the input objects should be retrieved recursively
+     * @return a sequential stream of the input objects in the order of the list based methods
+     */
+    public default Stream<Object> streamInputObjects(Object input, Charset inputCharset, boolean recursively) {
+        return Stream.of(input).flatMap(in -> (recursively ? getInputObjectsRecursively(in, inputCharset)
+            : getInputObjects(in, inputCharset)).stream());
+    }
+
+    /**
+     * Lazily enumerates the input objects combined by the given input just as
+     * {@link #streamInputObjects(Object, Charset, boolean)} does, but skips input objects early, which are
+     * rejected by the given filter. The filter will be applied to cheap previews of the input objects before
+     * reading them, e.g. to a file name. A preview is just matched by the matchers of the same plug-in, which
+     * provide an {@link MatcherInterpreter#getInputKey(String, Object) input key} for it. The default
+     * implementation does not provide any previews and thus ignores the filter.
+     * @param input
+     *            the combined input object
+     * @param inputCharset
+     *            to be used for reading new inputs
+     * @param recursively
+     *            states, whether the input objects should be retrieved recursively
+     * @param previewFilter
+     *            returns {@code false} for previews of input objects, which should not be read at all
+     * @return a sequential stream of the input objects in the order of the list based methods
+     */
+    public default Stream<Object> streamInputObjects(Object input, Charset inputCharset, boolean recursively,
+        Predicate<Object> previewFilter) {
+        return streamInputObjects(input, inputCharset, recursively);
+    }
+
     /**
      * Reads the content at a path and returns a cobigen compliant input
      * @param path
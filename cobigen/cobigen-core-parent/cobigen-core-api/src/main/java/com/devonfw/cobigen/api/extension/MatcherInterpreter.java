@@ -12,7 +12,11 @@ import com.devonfw.cobigen.api.to.VariableAssignmentTo;
  * This interface should be implemented for providing a new input matcher. Input matcher are defined as part
  * of a trigger and provide the ability to restrict specific inputs to a set of templates. Furthermore,
  * matchers may provide several variable assignments, which might be dependent on any information of the
- * matched input and thus should be resolvable by the defining matcher.
+ * matched input and thus should be resolvable by the defining matcher.<br>
+ * <br>
+ * Implementations have to be thread-safe, as matching multiple inputs at once, e.g. by
+ * {@link com.devonfw.cobigen.api.ConfigurationInterpreter#getMatchingTemplates(java.util.Collection)}, calls
+ * the matcher interpreter from several threads concurrently.
  */
 @ExceptionFacade
 public interface MatcherInterpreter {
@@ -26,6 +30,41 @@ public interface MatcherInterpreter {
      */
     public boolean matches(MatcherTo matcher);
 
+    /**
+     * Returns a cheap key of the given input for matchers of the given type, e.g. the full qualified name of
+     * a class for a matcher matching a regular expression against the full qualified name. Together with
+     * {@link #getInputKeyPrefix(String, String)} this enables CobiGen to skip the evaluation of matchers,
+     * which cannot match an input anyway. Matchers providing an input key for the preview of an input object, see
+     * {@link InputReader#streamInputObjects(Object, java.nio.charset.Charset, boolean, java.util.function.Predicate)
+     * InputReader#streamInputObjects}, have to {@link #matches(MatcherTo) match} the preview just as they would
+     * match the input object itself.
+     * @param matcherType
+     *            type of the matcher
+     * @param matcherInput
+     *            the object to be matched
+     * @return the input key or {@code null} if the matcher type does not provide input keys or the input does
+     *         not have any. The default implementation always returns {@code null}.
+     */
+    public default String getInputKey(String matcherType, Object matcherInput) {
+        return null;
+    }
+
+    /**
+     * Returns the prefix the {@link #getInputKey(String, Object) input key} of any input matched by the given
+     * matcher starts with, e.g. the literal prefix of the matcher's regular expression. An input without input
+     * key will be considered as not being matched if a prefix is returned. The result will be cached per
+     * matcher.
+     * @param matcherType
+     *            type of the matcher
+     * @param matcherValue
+     *            value of the matcher
+     * @return the prefix of the input keys matched or {@code null} if the matcher does not restrict the input
+     *         keys. The default implementation always returns {@code null}.
+     */
+    public default String getInputKeyPrefix(String matcherType, String matcherValue) {
+        return null;
+    }
+
     /**
      * This function should resolve all given variable assignments with respect to the given matcher and
      * return a variable, value mapping.
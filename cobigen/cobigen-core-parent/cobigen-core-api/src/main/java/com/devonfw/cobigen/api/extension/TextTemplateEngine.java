@@ -5,6 +5,8 @@ import java.nio.file.Path;
 import java.util.Map;
 
 import com.devonfw.cobigen.api.annotation.ExceptionFacade;
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 
 /**
  * Plug-ins providing a new template engine should implement this interface. The implementation has to be
@@ -37,9 +39,69 @@ public interface TextTemplateEngine {
     public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding);
 
     /**
-     * Sets the root folder of all templates to resolve relative template paths on.
+     * Compiles the passed template ahead of time and stores the result in the engine's template cache, such
+     * that a subsequent {@link #process(TextTemplate, Map, Writer, String) processing} of the template just
+     * has to execute it. Might be called concurrently for different templates of the same template folder.
+     * Template engines not providing any template cache do not have to implement this method.
+     * @param template
+     *            to be compiled
+     * @throws CobiGenRuntimeException
+     *             if the template could not be parsed
+     */
+    public default void compile(TextTemplate template) {
+        // do nothing
+    }
+
+    /**
+     * Determines the parts of the model used by the passed template by analyzing the template and all
+     * templates it includes statically. The result should be cached per template.
+     * @param template
+     *            to be analyzed
+     * @return the parts of the model used or {@code null} if the model usage could not be determined, e.g.
+     *         due to dynamic lookups, and thus the complete model is required. The default implementation
+     *         always returns {@code null}.
+     */
+    public default ModelUsageTo getModelUsage(TextTemplate template) {
+        return null;
+    }
+
+    /**
+     * Sets the root folder of all templates to resolve relative template paths on. As this changes the state
+     * of a template engine shared by all generations, prefer {@link #forTemplateFolder(Path)} to process
+     * templates concurrently.
      * @param templateFolderPath
      *            the root folder of all templates.
      */
     public void setTemplateFolder(Path templateFolderPath);
+
+    /**
+     * Returns a template engine bound to the given root folder of all templates. The returned engine should be
+     * thread-safe and share compiled templates with all engines bound to the same template folder, such that
+     * templates of different template folders can be processed concurrently. Setting the template folder of
+     * the returned engine should just rebind this engine. The default implementation just
+     * {@link #setTemplateFolder(Path) sets the template folder} of this engine and thus is not thread-safe.
+     * @param templateFolderPath
+     *            the root folder of all templates.
+     * @return the template engine resolving relative template paths on the given template folder
+     */
+    public default TextTemplateEngine forTemplateFolder(Path templateFolderPath) {
+        setTemplateFolder(templateFolderPath);
+        return this;
+    }
+
+    /**
+     * Returns a template engine, which provides the given variables to all templates processed in addition to
+     * the model passed on {@link #process(TextTemplate, Map, Writer, String) processing}. This enables template
+     * engines to prepare variables shared by all templates of a generation run, like the instances of logic
+     * classes, just once instead of for each template. Entries of the model take precedence over shared
+     * variables with the same name. The engine returned is expected to be bound to the same template folder
+     * as this engine.
+     * @param sharedVariables
+     *            variables to be provided to all templates
+     * @return the template engine providing the shared variables or {@code null} if shared variables are not
+     *         supported. In the latter case, the shared variables will be added to each model by CobiGen.
+     */
+    public default TextTemplateEngine withSharedVariables(Map<String, Object> sharedVariables) {
+        return null;
+    }
 }
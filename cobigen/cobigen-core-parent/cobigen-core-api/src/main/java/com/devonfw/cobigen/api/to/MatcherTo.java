@@ -1,5 +1,10 @@
 package com.devonfw.cobigen.api.to;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.devonfw.cobigen.api.util.RegexUtil;
+
 /**
  * The transfer object for matchers
  * @author mbrunnli (08.04.2014)
@@ -55,6 +60,17 @@ public class MatcherTo {
         return value;
     }
 
+    /**
+     * Returns the value to match against compiled as regular expression. The compiled pattern is cached and
+     * shared by all matchers of the same value, see {@link RegexUtil#compile(String)}.
+     * @return the compiled value to match against
+     * @throws PatternSyntaxException
+     *             if the value is not a valid regular expression
+     */
+    public Pattern getValuePattern() {
+        return RegexUtil.compile(value);
+    }
+
     /**
      * Returns the target to be matched
      * @return the target to be matched
@@ -0,0 +1,123 @@
+package com.devonfw.cobigen.api.to;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The transfer object describing the parts of a model used by a template. Model parts are addressed by paths
+ * of the keys to be traversed separated by {@link #PATH_SEPARATOR}, e.g. <code>pojo.fields.javaDoc</code>.
+ * Lists are transparent, i.e. the path of a list also addresses its elements. Input readers might use it as a
+ * hint to skip building model parts not being used.
+ */
+public class ModelUsageTo {
+
+    /** Separator of the keys of a model path */
+    public static final String PATH_SEPARATOR = ".";
+
+    /** Paths of the model, which are accessed, but whose sub-models might only be used partially */
+    private final Set<String> accessedPaths;
+
+    /** Paths of the model, whose complete sub-models are used */
+    private final Set<String> completelyUsedPaths;
+
+    /**
+     * Creates a new model usage transfer object with the given properties
+     * @param accessedPaths
+     *            paths of the model, which are accessed, but whose sub-models might only be used partially
+     * @param completelyUsedPaths
+     *            paths of the model, whose complete sub-models are used
+     */
+    public ModelUsageTo(Set<String> accessedPaths, Set<String> completelyUsedPaths) {
+        this.accessedPaths = Collections.unmodifiableSet(new TreeSet<>(accessedPaths));
+        this.completelyUsedPaths = Collections.unmodifiableSet(new TreeSet<>(completelyUsedPaths));
+    }
+
+    /**
+     * Returns the paths of the model, which are accessed, but whose sub-models might only be used partially
+     * @return the accessed paths
+     */
+    public Set<String> getAccessedPaths() {
+        return accessedPaths;
+    }
+
+    /**
+     * Returns the paths of the model, whose complete sub-models are used
+     * @return the completely used paths
+     */
+    public Set<String> getCompletelyUsedPaths() {
+        return completelyUsedPaths;
+    }
+
+    /**
+     * Checks whether any of the given model paths is used, i.e. whether the model part addressed by any of the
+     * paths has to be built.
+     * @param paths
+     *            model paths to be checked
+     * @return {@code true} if any of the model parts addressed is used, {@code false} otherwise
+     */
+    public boolean isUsed(String... paths) {
+        for (String path : paths) {
+            for (String completelyUsedPath : completelyUsedPaths) {
+                if (isPrefix(completelyUsedPath, path) || isPrefix(path, completelyUsedPath)) {
+                    return true;
+                }
+            }
+            for (String accessedPath : accessedPaths) {
+                if (isPrefix(path, accessedPath)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds a model path out of the given keys
+     * @param keys
+     *            to be traversed
+     * @return the model path
+     */
+    public static String path(String... keys) {
+        return String.join(PATH_SEPARATOR, keys);
+    }
+
+    /**
+     * Checks whether the given prefix path addresses the given path or any of its parents
+     * @param prefix
+     *            the prefix path
+     * @param path
+     *            the path to be checked
+     * @return {@code true} if the prefix path is a prefix of the path, {@code false} otherwise
+     */
+    private static boolean isPrefix(String prefix, String path) {
+        return path.equals(prefix) || path.startsWith(prefix + PATH_SEPARATOR);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + accessedPaths.hashCode();
+        result = prime * result + completelyUsedPaths.hashCode();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof ModelUsageTo) {
+            ModelUsageTo other = (ModelUsageTo) obj;
+            return accessedPaths.equals(other.accessedPaths) && completelyUsedPaths.equals(other.completelyUsedPaths);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[accessed=" + accessedPaths + "/completelyUsed=" + completelyUsedPaths
+            + "]";
+    }
+}
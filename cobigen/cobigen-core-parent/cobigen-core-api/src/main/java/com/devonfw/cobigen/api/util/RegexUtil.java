@@ -0,0 +1,62 @@
+package com.devonfw.cobigen.api.util;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Utilities for regular expressions. Compiled patterns are cached and shared by all plug-ins, such that the
+ * regular expressions of a configuration, e.g. matcher values, are just compiled once.
+ */
+public class RegexUtil {
+
+    /** Maximum number of compiled patterns to be cached */
+    private static final int MAX_CACHED_PATTERNS = 1024;
+
+    /** Thread-safe cache of compiled patterns mapped by their regular expression */
+    private static final LoadingCache<String, Pattern> PATTERNS =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATTERNS).build(new CacheLoader<String, Pattern>() {
+            @Override
+            public Pattern load(String regex) {
+                return Pattern.compile(regex);
+            }
+        });
+
+    /**
+     * Returns the compiled pattern of the given regular expression. The pattern will just be compiled on the
+     * first request and is cached for subsequent requests.
+     * @param regex
+     *            regular expression to be compiled
+     * @return the compiled {@link Pattern}
+     * @throws PatternSyntaxException
+     *             if the regular expression is not valid
+     */
+    public static Pattern compile(String regex) {
+        try {
+            return PATTERNS.getUnchecked(regex);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the given input matches the given regular expression completely, equivalently to
+     * {@link String#matches(String)}, but using the {@link #compile(String) cached pattern}.
+     * @param regex
+     *            regular expression to match against
+     * @param input
+     *            the input to be matched
+     * @return {@code true} if the input matches the regular expression, {@code false} otherwise
+     */
+    public static boolean matches(String regex, CharSequence input) {
+        return compile(regex).matcher(input).matches();
+    }
+
+}
@@ -48,4 +48,47 @@ public class StringUtil {
         return codeBlock;
     }
 
+    /**
+     * Determines the literal prefix of the given regular expression, i.e. the prefix every string matching
+     * the regular expression has to start with. The determination is conservative, i.e. it stops at the first
+     * construct, which is not a plain or escaped literal character.
+     *
+     * @param regex
+     *            regular expression to be analyzed
+     * @return the literal prefix of the regular expression, which might be empty
+     */
+    public static String getLiteralPrefix(String regex) {
+        if (regex.indexOf('|') >= 0) {
+            // alternatives may start with different prefixes
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            int next;
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // character classes, back references, quotations etc.
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                next = i + 2;
+            } else if (".[]{}()*+?^$".indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+            if (next < regex.length() && "?*{".indexOf(regex.charAt(next)) >= 0) {
+                // the literal might be optional
+                break;
+            }
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.devonfw.cobigen.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.util.RegexUtil;
+
+/**
+ * Test suite for {@link RegexUtil}
+ */
+public class RegexUtilTest {
+
+    /**
+     * Tests whether compiling the same regular expression twice returns the cached pattern
+     */
+    @Test
+    public void testCompileReturnsCachedPattern() {
+        String regex = "com\\.example\\.(\\w+)\\.Entity";
+        assertThat(RegexUtil.compile(regex)).isSameAs(RegexUtil.compile(new String(regex)));
+        assertThat(RegexUtil.compile(regex).pattern()).isEqualTo(regex);
+        assertThat(RegexUtil.compile("Foo|Bar")).isNotSameAs(RegexUtil.compile(regex));
+    }
+
+    /**
+     * Tests whether matches requires the complete input to match, equivalently to {@link String#matches}
+     */
+    @Test
+    public void testMatches() {
+        assertThat(RegexUtil.matches("Entitys?", "Entitys")).isTrue();
+        assertThat(RegexUtil.matches("Entitys?", "MyEntity")).isFalse();
+    }
+
+    /**
+     * Tests whether an invalid regular expression is reported by the original {@link PatternSyntaxException}
+     * on each request, as it is not cached
+     */
+    @Test
+    public void testCompileInvalidPattern() {
+        Throwable thrown = catchThrowable(() -> RegexUtil.compile("(unclosed"));
+        Throwable thrownAgain = catchThrowable(() -> RegexUtil.compile("(unclosed"));
+        assertThat(thrown).isInstanceOf(PatternSyntaxException.class);
+        assertThat(thrownAgain).isInstanceOf(PatternSyntaxException.class).isNotSameAs(thrown);
+    }
+}
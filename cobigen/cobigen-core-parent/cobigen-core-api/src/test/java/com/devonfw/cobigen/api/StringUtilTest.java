@@ -33,4 +33,19 @@ public class StringUtilTest {
         assertThat(consolidatedLinux).isEqualTo(lineDelimiterLinux);
         assertThat(consolidatedOsx).isEqualTo(lineDelimiterOsx);
     }
+
+    /**
+     * Tests whether getLiteralPrefix stops at the first non-literal construct of a regular expression
+     */
+    @Test
+    public void testGetLiteralPrefix() {
+        assertThat(StringUtil.getLiteralPrefix("com\\.example\\.(\\w+)\\.Entity")).isEqualTo("com.example.");
+        assertThat(StringUtil.getLiteralPrefix("com.example")).isEqualTo("com");
+        assertThat(StringUtil.getLiteralPrefix("Entitys?")).isEqualTo("Entity");
+        assertThat(StringUtil.getLiteralPrefix("ab+c")).isEqualTo("ab");
+        assertThat(StringUtil.getLiteralPrefix("Foo|Bar")).isEmpty();
+        assertThat(StringUtil.getLiteralPrefix("(?i)foo")).isEmpty();
+        assertThat(StringUtil.getLiteralPrefix("\\Qfoo\\E")).isEmpty();
+        assertThat(StringUtil.getLiteralPrefix("exact")).isEqualTo("exact");
+    }
 }
@@ -7,6 +7,7 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -17,6 +18,7 @@ import java.io.File;
 import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -229,6 +231,8 @@ public class ContainerMatcherTest extends AbstractApiTest {
         when(matcher.resolveVariables(argThat(new MatcherToMatcher(equalTo("or"), ANY, sameInstance(child2))),
             anyList())).thenReturn(ImmutableMap.<String, String> builder().put("variable", "child2").build());
         when(inputReader.getInputObjects(any(), any(Charset.class))).thenReturn(Lists.newArrayList(child1, child2));
+        when(inputReader.streamInputObjects(any(), any(Charset.class), anyBoolean(), any()))
+            .thenAnswer(invocation -> Stream.of(child1, child2));
 
         // match container
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("container"), ANY, sameInstance(container)))))
@@ -330,9 +334,13 @@ public class ContainerMatcherTest extends AbstractApiTest {
             };
             when(inputReader.getInputObjects(any(), any(Charset.class)))
                 .thenReturn(Lists.newArrayList(firstChildResource, secondChildResource));
+            when(inputReader.streamInputObjects(any(), any(Charset.class), anyBoolean(), any()))
+                .thenAnswer(invocation -> Stream.of(firstChildResource, secondChildResource));
         } else {
             when(inputReader.getInputObjects(any(), any(Charset.class)))
                 .thenReturn(Lists.newArrayList(firstChildResource));
+            when(inputReader.streamInputObjects(any(), any(Charset.class), anyBoolean(), any()))
+                .thenAnswer(invocation -> Stream.of(firstChildResource));
         }
 
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("fqn"), ANY, sameInstance(firstChildResource)))))
@@ -6,8 +6,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.internal.matchers.Any.ANY;
 
@@ -17,15 +22,22 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
+import org.mockito.ArgumentMatcher;
 
 import com.devonfw.cobigen.api.CobiGen;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
+import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.api.extension.BatchMerger;
 import com.devonfw.cobigen.api.extension.GeneratorPluginActivator;
 import com.devonfw.cobigen.api.extension.InputReader;
 import com.devonfw.cobigen.api.extension.MatcherInterpreter;
@@ -38,6 +50,7 @@ import com.devonfw.cobigen.impl.CobiGenFactory;
 import com.devonfw.cobigen.impl.extension.PluginRegistry;
 import com.devonfw.cobigen.impl.model.ModelBuilderImpl;
 import com.devonfw.cobigen.systemtest.common.AbstractApiTest;
+import com.devonfw.cobigen.systemtest.util.BatchMergerPluginActivator;
 import com.devonfw.cobigen.systemtest.util.PluginMockFactory;
 import com.devonfw.cobigen.test.matchers.MatcherToMatcher;
 
@@ -74,6 +87,82 @@ public class GenerationTest extends AbstractApiTest {
         assertThat(target).hasContent("overwritten");
     }
 
+    /**
+     * Tests that a failing deferred merge is reported for the failing patch only, such that neither the other
+     * patches for the same file nor the subsequent templates are skipped.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testFailingDeferredMergeDoesNotSkipOtherTemplates() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        File folder = tmpFolder.newFolder("GenerationTest");
+        File target = new File(folder, "merged.txt");
+        FileUtils.write(target, "base");
+
+        BatchMerger merger = mock(BatchMerger.class);
+        when(merger.merge(any(File.class), anyListOf(String.class), anyString()))
+            .thenThrow(new MergeException(target, "batch merge failed"));
+        when(merger.merge(any(File.class), eq("patch1"), anyString()))
+            .thenThrow(new MergeException(target, "patch1 failed"));
+        when(merger.merge(any(File.class), eq("patch2"), anyString())).thenReturn("merged");
+        BatchMergerPluginActivator.setMerger(merger);
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "deferredMerges").toURI());
+        List<TemplateTo> templates = cobigen.getMatchingTemplates(input);
+
+        // act
+        GenerationReportTo report = cobigen.generate(input, templates, Paths.get(folder.toURI()));
+
+        // assert
+        assertThat(templates).hasSize(3);
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.getErrors().get(0)).hasMessageContaining("patch1 failed");
+        verify(merger).merge(any(File.class), eq("patch2"), anyString());
+        assertThat(report.getTemporaryWorkingDirectory().resolve("generated.txt").toFile()).hasContent("generated");
+    }
+
+    /**
+     * Tests that a batch merge failing with an arbitrary exception for one file neither skips the merges of other
+     * pending files nor the reporting of the failing patch.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testUnexpectedBatchMergeFailureDoesNotSkipOtherPendingFiles() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        File folder = tmpFolder.newFolder("GenerationTest");
+        FileUtils.write(new File(folder, "first.txt"), "base");
+        FileUtils.write(new File(folder, "second.txt"), "base");
+
+        BatchMerger merger = mock(BatchMerger.class);
+        when(merger.merge(argThat(fileNamed("first.txt")), anyListOf(String.class), anyString()))
+            .thenThrow(new IllegalStateException("batch merge failed"));
+        when(merger.merge(argThat(fileNamed("second.txt")), anyListOf(String.class), anyString()))
+            .thenReturn("b merged");
+        when(merger.merge(any(File.class), eq("a1"), anyString())).thenReturn("a1 merged");
+        when(merger.merge(any(File.class), eq("a2"), anyString())).thenThrow(new IllegalStateException("a2 failed"));
+        BatchMergerPluginActivator.setMerger(merger);
+
+        CobiGen cobigen =
+            CobiGenFactory.create(new File(testFileRootPath + "deferredMergesOfMultipleFiles").toURI());
+        List<TemplateTo> templates = cobigen.getMatchingTemplates(input);
+
+        // act
+        GenerationReportTo report = cobigen.generate(input, templates, Paths.get(folder.toURI()));
+
+        // assert
+        assertThat(templates).hasSize(4);
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.getErrors().get(0)).hasMessageContaining("a2 failed");
+        verify(merger).merge(any(File.class), eq("a1"), anyString());
+        verify(merger).merge(argThat(fileNamed("second.txt")), eq(Arrays.asList("b1", "b2")), anyString());
+        verify(merger, never()).merge(any(File.class), eq("b1"), anyString());
+        verify(merger, never()).merge(any(File.class), eq("b2"), anyString());
+    }
+
     /**
      * Tests whether the generation of external increments works properly.
      * @throws Exception
@@ -111,6 +200,60 @@ public class GenerationTest extends AbstractApiTest {
         assertThat(triggersIds.size()).isEqualTo(2);
     }
 
+    /**
+     * Tests that matching increments and templates of multiple inputs at once results in the same increments and
+     * templates as requesting them for each input separately.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMatchingOfMultipleInputs() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        Object unmatchedInput = new Object();
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "externalIncrementsGeneration").toURI());
+
+        // act
+        Map<Object, List<TemplateTo>> templates = cobigen.getMatchingTemplates(Arrays.asList(input, unmatchedInput));
+        Map<Object, List<IncrementTo>> increments =
+            cobigen.getMatchingIncrements(Arrays.asList(input, unmatchedInput));
+
+        // assert
+        assertThat(templates).containsOnlyKeys(input, unmatchedInput);
+        assertThat(templates.get(input)).containsExactlyElementsOf(cobigen.getMatchingTemplates(input));
+        assertThat(templates.get(unmatchedInput)).isEmpty();
+        assertThat(increments).containsOnlyKeys(input, unmatchedInput);
+        assertThat(increments.get(input)).containsExactlyElementsOf(cobigen.getMatchingIncrements(input));
+        assertThat(increments.get(unmatchedInput)).isEmpty();
+    }
+
+    /**
+     * Tests that matching a batch of inputs large enough to be matched in parallel results in the same templates
+     * as requesting them for each input separately in the order of the given inputs.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMatchingOfManyInputs() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        List<Object> inputs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            inputs.add(i % 2 == 0 ? new Object() : input);
+        }
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "externalIncrementsGeneration").toURI());
+
+        // act
+        Map<Object, List<TemplateTo>> templates = cobigen.getMatchingTemplates(inputs);
+
+        // assert
+        assertThat(templates.keySet()).containsExactlyElementsOf(new LinkedHashSet<>(inputs));
+        for (Object matcherInput : inputs) {
+            assertThat(templates.get(matcherInput))
+                .containsExactlyElementsOf(cobigen.getMatchingTemplates(matcherInput));
+        }
+    }
+
     /**
      * Tests generation of external increments where its trigger does not match
      * @throws IOException
@@ -242,6 +385,21 @@ public class GenerationTest extends AbstractApiTest {
         assertThat(target).hasContent("contextValue,cobigenPropValue,extValue");
     }
 
+    /**
+     * Creates a matcher for files of the given name
+     * @param name
+     *            name of the file to be matched
+     * @return the matcher
+     */
+    private static ArgumentMatcher<File> fileNamed(String name) {
+        return new ArgumentMatcher<File>() {
+            @Override
+            public boolean matches(Object argument) {
+                return argument instanceof File && ((File) argument).getName().equals(name);
+            }
+        };
+    }
+
     /**
      * Finds the template with the given id in the list of templates and assures it to be found.
      * @param templates
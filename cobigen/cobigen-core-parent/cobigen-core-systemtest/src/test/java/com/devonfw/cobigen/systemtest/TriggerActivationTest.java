@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.matchers.Any.ANY;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
@@ -312,4 +313,40 @@ public class TriggerActivationTest extends AbstractApiTest {
 
         assertThat(matchingTriggerIds, hasItem("triggerId2"));
     }
+
+    /**
+     * Tests that matching triggers of different types are returned in order of their declaration
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMatchingTriggersOfInterleavedTypesInOrderOfDeclaration() throws Exception {
+
+        Object input = new Object();
+
+        // Pre-processing: Mocking
+        for (String type : Arrays.asList("testA", "testB")) {
+            GeneratorPluginActivator activator = mock(GeneratorPluginActivator.class);
+            TriggerInterpreter triggerInterpreter = mock(TriggerInterpreter.class);
+            MatcherInterpreter matcher = mock(MatcherInterpreter.class);
+            InputReader inputReader = mock(InputReader.class);
+
+            when(triggerInterpreter.getType()).thenReturn(type);
+            when(triggerInterpreter.getMatcher()).thenReturn(matcher);
+            when(triggerInterpreter.getInputReader()).thenReturn(inputReader);
+
+            when(inputReader.isValidInput(any())).thenReturn(true);
+            when(matcher.matches(argThat(new MatcherToMatcher(equalTo("or"), ANY, sameInstance(input)))))
+                .thenReturn(true);
+
+            PluginRegistry.registerTriggerInterpreter(triggerInterpreter, activator);
+        }
+
+        // execution
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "interleavedTriggerTypes").toURI());
+        List<String> matchingTriggerIds = cobigen.getMatchingTriggerIds(input);
+
+        assertThat(matchingTriggerIds, equalTo(Arrays.asList("zeta", "alpha", "omega", "beta")));
+    }
 }
@@ -0,0 +1,61 @@
+package com.devonfw.cobigen.systemtest.util;
+
+import java.io.File;
+import java.util.List;
+
+import com.devonfw.cobigen.api.annotation.Activation;
+import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.api.extension.BatchMerger;
+import com.devonfw.cobigen.api.extension.GeneratorPluginActivator;
+import com.devonfw.cobigen.api.extension.Merger;
+import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.google.common.collect.Lists;
+
+/**
+ * Plug-in activator binding a {@link BatchMerger} for the merge strategy {@value #MERGE_STRATEGY}, which
+ * delegates to the merger set by the test, as plug-ins are just loaded once.
+ */
+@Activation(byMergeStrategy = BatchMergerPluginActivator.MERGE_STRATEGY)
+public class BatchMergerPluginActivator implements GeneratorPluginActivator {
+
+    /** Merge strategy of the bound merger */
+    public static final String MERGE_STRATEGY = "batchmock";
+
+    /** Merger to delegate to */
+    private static volatile BatchMerger delegate;
+
+    /**
+     * Sets the merger to delegate to
+     * @param merger
+     *            the merger to delegate to
+     */
+    public static void setMerger(BatchMerger merger) {
+        delegate = merger;
+    }
+
+    @Override
+    public List<Merger> bindMerger() {
+        return Lists.newArrayList(new BatchMerger() {
+
+            @Override
+            public String getType() {
+                return MERGE_STRATEGY;
+            }
+
+            @Override
+            public String merge(File base, String patch, String targetCharset) throws MergeException {
+                return delegate.merge(base, patch, targetCharset);
+            }
+
+            @Override
+            public String merge(File base, List<String> patches, String targetCharset) throws MergeException {
+                return delegate.merge(base, patches, targetCharset);
+            }
+        });
+    }
+
+    @Override
+    public List<TriggerInterpreter> bindTriggerInterpreter() {
+        return Lists.newArrayList();
+    }
+}
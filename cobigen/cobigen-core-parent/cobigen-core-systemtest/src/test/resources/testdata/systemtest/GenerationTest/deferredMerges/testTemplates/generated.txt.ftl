@@ -0,0 +1 @@
+generated
\ No newline at end of file
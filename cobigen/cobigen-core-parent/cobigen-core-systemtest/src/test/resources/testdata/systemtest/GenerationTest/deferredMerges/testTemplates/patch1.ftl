@@ -0,0 +1 @@
+patch1
\ No newline at end of file
@@ -0,0 +1 @@
+patch2
\ No newline at end of file
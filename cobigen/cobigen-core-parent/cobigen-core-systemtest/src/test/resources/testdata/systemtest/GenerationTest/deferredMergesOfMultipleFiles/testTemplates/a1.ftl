@@ -0,0 +1 @@
+a1
\ No newline at end of file
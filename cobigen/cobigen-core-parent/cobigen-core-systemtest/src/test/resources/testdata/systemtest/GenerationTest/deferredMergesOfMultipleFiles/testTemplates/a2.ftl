@@ -0,0 +1 @@
+a2
\ No newline at end of file
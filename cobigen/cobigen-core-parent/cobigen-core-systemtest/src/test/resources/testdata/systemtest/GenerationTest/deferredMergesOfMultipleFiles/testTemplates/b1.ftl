@@ -0,0 +1 @@
+b1
\ No newline at end of file
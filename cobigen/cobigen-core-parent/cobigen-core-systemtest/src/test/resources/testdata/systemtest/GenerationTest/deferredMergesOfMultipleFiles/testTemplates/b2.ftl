@@ -0,0 +1 @@
+b2
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.devonfw.cobigen.impl.aop;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +25,7 @@ public class CachedInterceptor extends AbstractInterceptor {
     private static final Logger LOG = LoggerFactory.getLogger(CachedInterceptor.class);
 
     /** Mapping of input object to method name to method result */
-    private Map<Object, Map<Method, Object>> _cache = new HashMap<>();
+    private Map<Object, Map<Method, Object>> _cache = new ConcurrentHashMap<>();
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
@@ -91,11 +91,12 @@ public class CachedInterceptor extends AbstractInterceptor {
      *            to be cached
      */
     private void persistCache(int paramHash, Method method, Object returnValue) {
-        if (!_cache.containsKey(paramHash)) {
-            // setting initial size to 4 as memory optimization due to the fact, that the cache is currently
-            // just used for ConfigurationInterpreter, which just has four public methods.
-            _cache.put(paramHash, new HashMap<Method, Object>(4));
+        if (returnValue == null) {
+            // null values are not cached as they are indistinguishable from a cache miss anyway
+            return;
         }
-        _cache.get(paramHash).put(method, returnValue);
+        // setting initial size to 4 as memory optimization due to the fact, that the cache is currently
+        // just used for ConfigurationInterpreter, which just has four public methods.
+        _cache.computeIfAbsent(paramHash, key -> new ConcurrentHashMap<Method, Object>(4)).put(method, returnValue);
     }
 }
@@ -3,6 +3,7 @@ package com.devonfw.cobigen.impl.aop;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -26,7 +27,7 @@ public final class ProxyFactory {
      * to mark objects which have been already checked to be not proxied. The {@link WeakHashMap} will assure,
      * that the garbage collector will also destroy the interceptor instances.
      */
-    private static Map<Object, Object> _cache = new WeakHashMap<>();
+    private static Map<Object, Object> _cache = Collections.synchronizedMap(new WeakHashMap<>());
 
     static {
         annotationToInterceptorMap = Maps.newHashMap();
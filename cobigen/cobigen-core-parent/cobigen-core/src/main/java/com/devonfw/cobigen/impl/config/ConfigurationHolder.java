@@ -4,9 +4,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
 
+import com.devonfw.cobigen.api.constants.ConfigurationConstants;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
 import com.devonfw.cobigen.impl.extension.PluginRegistry;
+import com.devonfw.cobigen.impl.util.ConfigurationUtil;
 import com.google.common.collect.Maps;
 
 /**
@@ -23,6 +25,12 @@ public class ConfigurationHolder {
     /** Root path of the configuration */
     private Path configurationPath;
 
+    /**
+     * States, whether all templates should be compiled ahead of time when loading a templates configuration as
+     * configured by {@link ConfigurationConstants#COBIGEN_CONFIG_TEMPLATES_PRECOMPILE_KEY}
+     */
+    private final boolean precompileTemplates;
+
     /**
      * Creates a new {@link ConfigurationHolder} which serves as a cache for CobiGen's external configuration.
      * @param configurationPath
@@ -30,6 +38,7 @@ public class ConfigurationHolder {
      */
     public ConfigurationHolder(Path configurationPath) {
         this.configurationPath = configurationPath;
+        precompileTemplates = ConfigurationUtil.isTemplatesPrecompilationEnabled();
         // updates the root template path and informs all of its observers
         PluginRegistry.notifyPlugins(configurationPath);
     }
@@ -42,13 +51,23 @@ public class ConfigurationHolder {
      * @throws InvalidConfigurationException
      *             if the configuration is not valid
      */
-    public TemplatesConfiguration readTemplatesConfiguration(Trigger trigger) {
+    public synchronized TemplatesConfiguration readTemplatesConfiguration(Trigger trigger) {
 
         Path templateFolder = Paths.get(trigger.getTemplateFolder());
         if (!templatesConfigurations.containsKey(templateFolder)) {
             templatesConfigurations.put(templateFolder, Maps.<String, TemplatesConfiguration> newHashMap());
 
             TemplatesConfiguration config = new TemplatesConfiguration(configurationPath, trigger, this);
+            if (precompileTemplates) {
+                try {
+                    config.precompileTemplates(
+                        readContextConfiguration().getConfigurationPath().resolve(trigger.getTemplateFolder()));
+                } catch (InvalidConfigurationException e) {
+                    // do not cache a broken template set
+                    templatesConfigurations.remove(templateFolder);
+                    throw e;
+                }
+            }
             templatesConfigurations.get(templateFolder).put(trigger.getId(), config);
         }
 
@@ -61,7 +80,7 @@ public class ConfigurationHolder {
      * @throws InvalidConfigurationException
      *             if the configuration is not valid
      */
-    public ContextConfiguration readContextConfiguration() {
+    public synchronized ContextConfiguration readContextConfiguration() {
         if (contextConfiguration == null) {
             contextConfiguration = new ContextConfiguration(configurationPath);
         }
@@ -21,6 +21,9 @@ public class ContextConfiguration {
      */
     private Map<String, Trigger> triggers;
 
+    /** Index of all {@link Trigger}s to cheaply determine the triggers, which might match an input */
+    private TriggerIndex triggerIndex;
+
     /**
      * Path of the configuration. Might point to a folder or a jar or maybe even something different in
      * future.
@@ -50,6 +53,7 @@ public class ContextConfiguration {
         ContextConfigurationReader reader = new ContextConfigurationReader(configRoot);
         configurationPath = reader.getContextRoot();
         triggers = reader.loadTriggers();
+        triggerIndex = new TriggerIndex(triggers.values());
     }
 
     /**
@@ -72,6 +76,14 @@ public class ContextConfiguration {
         return new ArrayList<>(triggers.values());
     }
 
+    /**
+     * Returns the index of all registered {@link Trigger}s
+     * @return the {@link TriggerIndex}
+     */
+    public TriggerIndex getTriggerIndex() {
+        return triggerIndex;
+    }
+
     /**
      * Returns the {@link Trigger} with the given id
      * @param id
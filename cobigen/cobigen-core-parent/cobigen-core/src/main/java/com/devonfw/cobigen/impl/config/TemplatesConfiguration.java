@@ -6,8 +6,11 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.exception.UnknownExpressionException;
 import com.devonfw.cobigen.api.extension.TextTemplateEngine;
@@ -16,6 +19,7 @@ import com.devonfw.cobigen.impl.config.entity.Template;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
 import com.devonfw.cobigen.impl.config.reader.TemplatesConfigurationReader;
 import com.devonfw.cobigen.impl.exceptions.UnknownContextVariableException;
+import com.devonfw.cobigen.impl.extension.TemplateEngineRegistry;
 
 /**
  * The {@link TemplatesConfiguration} is a configuration data wrapper for all information of a context about
@@ -168,6 +172,34 @@ public class TemplatesConfiguration {
         return increments;
     }
 
+    /**
+     * Compiles all templates of this configuration (explicitly declared as well as detected by template scans)
+     * in parallel ahead of time. This fills the template engine's template cache and reports all template
+     * syntax errors at once rather than failing on the first template being processed during generation.
+     * @param templateFolderPath
+     *            the root folder of all templates to resolve relative template paths on
+     * @throws InvalidConfigurationException
+     *             if at least one template could not be compiled
+     */
+    public void precompileTemplates(Path templateFolderPath) {
+
+        TextTemplateEngine engine = TemplateEngineRegistry.getEngine(templateEngine, templateFolderPath);
+
+        List<String> errors = templates.values().parallelStream().map(template -> {
+            try {
+                engine.compile(template);
+                return null;
+            } catch (CobiGenRuntimeException e) {
+                return template.getAbsoluteTemplatePath() + ": " + e.getMessage();
+            }
+        }).filter(Objects::nonNull).sorted().collect(Collectors.toList());
+
+        if (!errors.isEmpty()) {
+            throw new InvalidConfigurationException(templateFolderPath,
+                errors.size() + " template(s) could not be compiled:\n" + String.join("\n", errors));
+        }
+    }
+
     /**
      * Loads an specific increment and stores it inside our increments map
      * @param incrementToSearch
@@ -0,0 +1,239 @@
+package com.devonfw.cobigen.impl.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.devonfw.cobigen.api.extension.MatcherInterpreter;
+import com.devonfw.cobigen.impl.config.entity.AbstractMatcher;
+import com.devonfw.cobigen.impl.config.entity.ContainerMatcher;
+import com.devonfw.cobigen.impl.config.entity.Matcher;
+import com.devonfw.cobigen.impl.config.entity.Trigger;
+
+/**
+ * Index of the {@link Trigger}s of a {@link ContextConfiguration} to cheaply determine the triggers, which
+ * might match an input. Triggers are bucketed by their type, i.e. by their input reader, and each matcher is
+ * indexed by the {@link MatcherInterpreter#getInputKeyPrefix(String, String) prefix} of the input keys it is
+ * able to match. As the prefixes are determined by the plug-ins, they are indexed lazily once the plug-in of
+ * a trigger type has been activated.
+ */
+public class TriggerIndex {
+
+    /** Triggers bucketed by their type in order of declaration */
+    private final Map<String, List<Trigger>> triggersByType = new LinkedHashMap<>();
+
+    /** Positions of the triggers in order of declaration mapped by their ids */
+    private final Map<String, Integer> declarationIndices = new HashMap<>();
+
+    /** Input key prefixes of all matchers and container matchers indexed so far */
+    private final Map<AbstractMatcher, Optional<String>> inputKeyPrefixes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new index of the given triggers
+     * @param triggers
+     *            to be indexed in order of declaration
+     */
+    public TriggerIndex(Collection<Trigger> triggers) {
+        for (Trigger trigger : triggers) {
+            declarationIndices.putIfAbsent(trigger.getId(), declarationIndices.size());
+            triggersByType.computeIfAbsent(trigger.getType(), type -> new ArrayList<>()).add(trigger);
+        }
+    }
+
+    /**
+     * Returns the types of all triggers indexed
+     * @return the trigger types
+     */
+    public Set<String> getTriggerTypes() {
+        return Collections.unmodifiableSet(triggersByType.keySet());
+    }
+
+    /**
+     * Returns all triggers of the given type
+     * @param triggerType
+     *            type of the triggers
+     * @return the triggers of the given type in order of declaration
+     */
+    public List<Trigger> getTriggers(String triggerType) {
+        return triggersByType.getOrDefault(triggerType, Collections.emptyList());
+    }
+
+    /**
+     * Returns the position of the given trigger in order of declaration, e.g. to restore the declaration order
+     * of triggers of different types
+     * @param trigger
+     *            the trigger
+     * @return the position of the trigger or {@link Integer#MAX_VALUE} if the trigger is not indexed
+     */
+    public int getDeclarationIndex(Trigger trigger) {
+        return declarationIndices.getOrDefault(trigger.getId(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Determines all triggers of the given type, which might match the given input either by their matchers or
+     * by any of their container matchers.
+     * @param triggerType
+     *            type of the triggers
+     * @param matcherInterpreter
+     *            the {@link MatcherInterpreter} of the trigger type
+     * @param matcherInput
+     *            input to be matched
+     * @return the {@link TriggerCandidate}s in order of declaration
+     */
+    public List<TriggerCandidate> getCandidates(String triggerType, MatcherInterpreter matcherInterpreter,
+        Object matcherInput) {
+
+        Map<String, Optional<String>> inputKeys = new HashMap<>();
+        List<TriggerCandidate> candidates = new ArrayList<>();
+        for (Trigger trigger : getTriggers(triggerType)) {
+            boolean matchersMayMatch = mayMatch(trigger.getMatcher(), matcherInterpreter, matcherInput, inputKeys);
+            List<ContainerMatcher> containerMatchers = new ArrayList<>();
+            for (ContainerMatcher containerMatcher : trigger.getContainerMatchers()) {
+                if (mayMatch(containerMatcher, matcherInterpreter, matcherInput, inputKeys)) {
+                    containerMatchers.add(containerMatcher);
+                }
+            }
+            if (matchersMayMatch || !containerMatchers.isEmpty()) {
+                candidates.add(new TriggerCandidate(trigger, matchersMayMatch, containerMatchers));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks whether the matchers of the given trigger might match the given input.
+     * @param trigger
+     *            the trigger to be checked
+     * @param matcherInterpreter
+     *            the {@link MatcherInterpreter} of the trigger type
+     * @param matcherInput
+     *            input to be matched
+     * @return {@code false} if the matchers of the trigger cannot match the input, {@code true} if they have
+     *         to be evaluated
+     */
+    public boolean mayMatch(Trigger trigger, MatcherInterpreter matcherInterpreter, Object matcherInput) {
+        return mayMatch(trigger.getMatcher(), matcherInterpreter, matcherInput, new HashMap<>());
+    }
+
+    /**
+     * Checks whether the given matchers might match the given input with respect to their accumulation types.
+     * All AND matchers have to match and at least one AND or OR matcher has to match.
+     * @param matchers
+     *            to be checked
+     * @param matcherInterpreter
+     *            the {@link MatcherInterpreter} of the trigger type
+     * @param matcherInput
+     *            input to be matched
+     * @param inputKeys
+     *            input keys of the input already determined mapped by matcher type
+     * @return {@code false} if the matchers cannot match the input, {@code true} if they have to be evaluated
+     */
+    private boolean mayMatch(List<Matcher> matchers, MatcherInterpreter matcherInterpreter, Object matcherInput,
+        Map<String, Optional<String>> inputKeys) {
+
+        boolean anyMatcherMayMatch = false;
+        for (Matcher matcher : matchers) {
+            switch (matcher.getAccumulationType()) {
+            case AND:
+                if (!mayMatch(matcher, matcherInterpreter, matcherInput, inputKeys)) {
+                    return false;
+                }
+                anyMatcherMayMatch = true;
+                break;
+            case OR:
+                if (!anyMatcherMayMatch) {
+                    anyMatcherMayMatch = mayMatch(matcher, matcherInterpreter, matcherInput, inputKeys);
+                }
+                break;
+            default:
+                // NOT matchers are only able to reject inputs
+            }
+        }
+        return anyMatcherMayMatch;
+    }
+
+    /**
+     * Checks whether the given matcher might match the given input by comparing the input key with the
+     * indexed input key prefix of the matcher.
+     * @param matcher
+     *            to be checked
+     * @param matcherInterpreter
+     *            the {@link MatcherInterpreter} of the trigger type
+     * @param matcherInput
+     *            input to be matched
+     * @param inputKeys
+     *            input keys of the input already determined mapped by matcher type
+     * @return {@code false} if the matcher cannot match the input, {@code true} if it has to be evaluated
+     */
+    private boolean mayMatch(AbstractMatcher matcher, MatcherInterpreter matcherInterpreter, Object matcherInput,
+        Map<String, Optional<String>> inputKeys) {
+
+        Optional<String> inputKeyPrefix = inputKeyPrefixes.computeIfAbsent(matcher,
+            m -> Optional.ofNullable(matcherInterpreter.getInputKeyPrefix(m.getType(), m.getValue())));
+        if (!inputKeyPrefix.isPresent()) {
+            return true;
+        }
+        Optional<String> inputKey = inputKeys.computeIfAbsent(matcher.getType(),
+            type -> Optional.ofNullable(matcherInterpreter.getInputKey(type, matcherInput)));
+        return inputKey.isPresent() && inputKey.get().startsWith(inputKeyPrefix.get());
+    }
+
+    /** A trigger, which might match an input */
+    public static class TriggerCandidate {
+
+        /** The trigger */
+        private final Trigger trigger;
+
+        /** States whether the matchers of the trigger might match */
+        private final boolean matchersMayMatch;
+
+        /** Container matchers of the trigger, which might match */
+        private final List<ContainerMatcher> containerMatchers;
+
+        /**
+         * Creates a new candidate
+         * @param trigger
+         *            the trigger
+         * @param matchersMayMatch
+         *            whether the matchers of the trigger might match
+         * @param containerMatchers
+         *            container matchers of the trigger, which might match
+         */
+        TriggerCandidate(Trigger trigger, boolean matchersMayMatch, List<ContainerMatcher> containerMatchers) {
+            this.trigger = trigger;
+            this.matchersMayMatch = matchersMayMatch;
+            this.containerMatchers = containerMatchers;
+        }
+
+        /**
+         * Returns the trigger
+         * @return the trigger
+         */
+        public Trigger getTrigger() {
+            return trigger;
+        }
+
+        /**
+         * Returns whether the matchers of the trigger might match and thus have to be evaluated
+         * @return {@code true} if the matchers might match, {@code false} if they cannot match
+         */
+        public boolean matchersMayMatch() {
+            return matchersMayMatch;
+        }
+
+        /**
+         * Returns the container matchers of the trigger, which might match and thus have to be evaluated
+         * @return the container matchers, which might match
+         */
+        public List<ContainerMatcher> getContainerMatchers() {
+            return containerMatchers;
+        }
+    }
+}
@@ -157,11 +157,11 @@ public class ContextConfigurationReader {
     /**
      * Loads all {@link Trigger}s of the static context into the local representation
      *
-     * @return a {@link List} containing all the {@link Trigger}s
+     * @return a {@link Map} of all {@link Trigger}s by their ids in order of declaration
      */
     public Map<String, Trigger> loadTriggers() {
 
-        Map<String, Trigger> triggers = Maps.newHashMap();
+        Map<String, Trigger> triggers = Maps.newLinkedHashMap();
         for (com.devonfw.cobigen.impl.config.entity.io.Trigger t : contextNode.getTrigger()) {
             triggers.put(t.getId(), new Trigger(t.getId(), t.getType(), t.getTemplateFolder(),
                 Charset.forName(t.getInputCharset()), loadMatchers(t), loadContainerMatchers(t)));
@@ -0,0 +1,70 @@
+package com.devonfw.cobigen.impl.extension;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Map;
+
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+
+/**
+ * {@link TextTemplateEngine} decorator adding shared variables to each model for template engines not
+ * supporting {@link TextTemplateEngine#withSharedVariables(Map) shared variables} on their own.
+ */
+class SharedVariablesTemplateEngine implements TextTemplateEngine {
+
+    /** The decorated template engine */
+    private final TextTemplateEngine templateEngine;
+
+    /** Variables to be added to each model */
+    private final Map<String, Object> sharedVariables;
+
+    /**
+     * Creates a new decorator of the given template engine.
+     * @param templateEngine
+     *            the template engine to be decorated
+     * @param sharedVariables
+     *            variables to be added to each model
+     */
+    SharedVariablesTemplateEngine(TextTemplateEngine templateEngine, Map<String, Object> sharedVariables) {
+        this.templateEngine = templateEngine;
+        this.sharedVariables = sharedVariables;
+    }
+
+    @Override
+    public String getTemplateFileEnding() {
+        return templateEngine.getTemplateFileEnding();
+    }
+
+    @Override
+    public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
+        sharedVariables.forEach(model::putIfAbsent);
+        templateEngine.process(template, model, out, outputEncoding);
+    }
+
+    @Override
+    public void compile(TextTemplate template) {
+        templateEngine.compile(template);
+    }
+
+    @Override
+    public ModelUsageTo getModelUsage(TextTemplate template) {
+        return templateEngine.getModelUsage(template);
+    }
+
+    @Override
+    public void setTemplateFolder(Path templateFolderPath) {
+        templateEngine.setTemplateFolder(templateFolderPath);
+    }
+
+    @Override
+    public TextTemplateEngine forTemplateFolder(Path templateFolderPath) {
+        return templateEngine.forTemplateFolder(templateFolderPath);
+    }
+
+    @Override
+    public TextTemplateEngine withSharedVariables(Map<String, Object> otherSharedVariables) {
+        return new SharedVariablesTemplateEngine(templateEngine, otherSharedVariables);
+    }
+}
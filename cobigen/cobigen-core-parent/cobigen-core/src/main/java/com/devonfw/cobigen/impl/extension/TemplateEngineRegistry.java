@@ -1,5 +1,6 @@
 package com.devonfw.cobigen.impl.extension;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 
@@ -69,17 +70,23 @@ public class TemplateEngineRegistry {
 
         TextTemplateEngine templateEngine = registeredEngines.get(name);
         if (templateEngine == null) {
-            for (Class<? extends TextTemplateEngine> engine : ClassServiceLoader.getTemplateEngineClasses()) {
-                if (engine.isAnnotationPresent(Name.class)) {
-                    Name engineNameAnnotation = engine.getAnnotation(Name.class);
-                    String engineName = engineNameAnnotation.value();
-                    if (name.equals(engineName)) {
-                        register(engine, engineName);
-                        break;
+            // assure a single registration if the engine is requested concurrently
+            synchronized (TemplateEngineRegistry.class) {
+                if (!registeredEngines.containsKey(name)) {
+                    for (Class<? extends TextTemplateEngine> engine : ClassServiceLoader
+                        .getTemplateEngineClasses()) {
+                        if (engine.isAnnotationPresent(Name.class)) {
+                            Name engineNameAnnotation = engine.getAnnotation(Name.class);
+                            String engineName = engineNameAnnotation.value();
+                            if (name.equals(engineName)) {
+                                register(engine, engineName);
+                                break;
+                            }
+                        } else {
+                            LOG.warn("Template engine '{}' should have a name specified by @Name annotation.",
+                                engine.getClass().getCanonicalName());
+                        }
                     }
-                } else {
-                    LOG.warn("Template engine '{}' should have a name specified by @Name annotation.",
-                        engine.getClass().getCanonicalName());
                 }
             }
         }
@@ -91,4 +98,50 @@ public class TemplateEngineRegistry {
 
         return ProxyFactory.getProxy(templateEngine);
     }
+
+    /**
+     * Returns a {@link TextTemplateEngine template engine} based on its name bound to the given template
+     * folder. See {@link TextTemplateEngine#forTemplateFolder(Path)}. Template engines just setting the
+     * template folder of their shared instance are bound by a decorator setting the template folder before
+     * each use.
+     * @param name
+     *            of the {@link TextTemplateEngine template engine}
+     * @param templateFolderPath
+     *            the root folder of all templates to be processed
+     * @return the {@link TextTemplateEngine template engine} resolving relative template paths on the given
+     *         template folder
+     */
+    public static TextTemplateEngine getEngine(String name, Path templateFolderPath) {
+
+        TextTemplateEngine templateFolderEngine = getEngine(name).forTemplateFolder(templateFolderPath);
+        if (templateFolderEngine == registeredEngines.get(name)) {
+            templateFolderEngine = new TemplateFolderBindingEngine(templateFolderEngine, templateFolderPath);
+        }
+        return ProxyFactory.getProxy(templateFolderEngine);
+    }
+
+    /**
+     * Returns a {@link TextTemplateEngine template engine} based on its name bound to the given template
+     * folder, which provides the given variables to all templates processed. See
+     * {@link TextTemplateEngine#withSharedVariables(Map)}. If the template engine does not support shared
+     * variables, they will be added to each model on processing.
+     * @param name
+     *            of the {@link TextTemplateEngine template engine}
+     * @param templateFolderPath
+     *            the root folder of all templates to be processed
+     * @param sharedVariables
+     *            variables to be provided to all templates processed
+     * @return the {@link TextTemplateEngine template engine} resolving relative template paths on the given
+     *         template folder and providing the shared variables
+     */
+    public static TextTemplateEngine getEngine(String name, Path templateFolderPath,
+        Map<String, Object> sharedVariables) {
+
+        TextTemplateEngine templateEngine = getEngine(name, templateFolderPath);
+        TextTemplateEngine sharingTemplateEngine = templateEngine.withSharedVariables(sharedVariables);
+        if (sharingTemplateEngine == null) {
+            return ProxyFactory.getProxy(new SharedVariablesTemplateEngine(templateEngine, sharedVariables));
+        }
+        return ProxyFactory.getProxy(sharingTemplateEngine);
+    }
 }
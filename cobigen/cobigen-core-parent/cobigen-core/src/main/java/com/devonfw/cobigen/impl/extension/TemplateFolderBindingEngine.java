@@ -0,0 +1,105 @@
+package com.devonfw.cobigen.impl.extension;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Map;
+
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+
+/**
+ * {@link TextTemplateEngine} decorator binding template engines, which do not support
+ * {@link TextTemplateEngine#forTemplateFolder(Path) binding to a template folder} on their own, to a template
+ * folder. As such template engines are a single shared instance, the template folder is set again before each
+ * use and all uses are synchronized on the shared instance.
+ */
+class TemplateFolderBindingEngine implements TextTemplateEngine {
+
+    /** The decorated template engine */
+    private final TextTemplateEngine templateEngine;
+
+    /** The shared template engine instance to synchronize all uses on */
+    private final Object lock;
+
+    /** The root folder of all templates processed by this decorator */
+    private volatile Path templateFolderPath;
+
+    /**
+     * Creates a new decorator of the given template engine.
+     * @param templateEngine
+     *            the template engine to be decorated
+     * @param templateFolderPath
+     *            the root folder of all templates processed by this decorator
+     */
+    TemplateFolderBindingEngine(TextTemplateEngine templateEngine, Path templateFolderPath) {
+        this(templateEngine, templateEngine, templateFolderPath);
+    }
+
+    /**
+     * Creates a new decorator of the given template engine.
+     * @param templateEngine
+     *            the template engine to be decorated
+     * @param lock
+     *            the shared template engine instance to synchronize all uses on
+     * @param templateFolderPath
+     *            the root folder of all templates processed by this decorator
+     */
+    private TemplateFolderBindingEngine(TextTemplateEngine templateEngine, Object lock, Path templateFolderPath) {
+        this.templateEngine = templateEngine;
+        this.lock = lock;
+        this.templateFolderPath = templateFolderPath;
+    }
+
+    @Override
+    public String getTemplateFileEnding() {
+        return templateEngine.getTemplateFileEnding();
+    }
+
+    @Override
+    public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
+        synchronized (lock) {
+            templateEngine.setTemplateFolder(templateFolderPath);
+            templateEngine.process(template, model, out, outputEncoding);
+        }
+    }
+
+    @Override
+    public void compile(TextTemplate template) {
+        synchronized (lock) {
+            templateEngine.setTemplateFolder(templateFolderPath);
+            templateEngine.compile(template);
+        }
+    }
+
+    @Override
+    public ModelUsageTo getModelUsage(TextTemplate template) {
+        synchronized (lock) {
+            templateEngine.setTemplateFolder(templateFolderPath);
+            return templateEngine.getModelUsage(template);
+        }
+    }
+
+    @Override
+    public void setTemplateFolder(Path otherTemplateFolderPath) {
+        templateFolderPath = otherTemplateFolderPath;
+    }
+
+    @Override
+    public TextTemplateEngine forTemplateFolder(Path otherTemplateFolderPath) {
+        return new TemplateFolderBindingEngine(templateEngine, lock, otherTemplateFolderPath);
+    }
+
+    @Override
+    public TextTemplateEngine withSharedVariables(Map<String, Object> sharedVariables) {
+        TextTemplateEngine sharingTemplateEngine;
+        synchronized (lock) {
+            templateEngine.setTemplateFolder(templateFolderPath);
+            sharingTemplateEngine = templateEngine.withSharedVariables(sharedVariables);
+        }
+        if (sharingTemplateEngine == null) {
+            return null;
+        }
+        return new TemplateFolderBindingEngine(sharingTemplateEngine, lock, templateFolderPath);
+    }
+}
@@ -2,6 +2,7 @@ package com.devonfw.cobigen.impl.generator;
 
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -163,11 +164,23 @@ public class CobiGenImpl implements CobiGen {
         return configurationInterpreter.getMatchingIncrements(matcherInput);
     }
 
+    @Override
+    public Map<Object, List<IncrementTo>> getMatchingIncrements(Collection<?> matcherInputs)
+        throws InvalidConfigurationException {
+        return configurationInterpreter.getMatchingIncrements(matcherInputs);
+    }
+
     @Override
     public List<TemplateTo> getMatchingTemplates(Object matcherInput) throws InvalidConfigurationException {
         return configurationInterpreter.getMatchingTemplates(matcherInput);
     }
 
+    @Override
+    public Map<Object, List<TemplateTo>> getMatchingTemplates(Collection<?> matcherInputs)
+        throws InvalidConfigurationException {
+        return configurationInterpreter.getMatchingTemplates(matcherInputs);
+    }
+
     @Override
     public List<String> getMatchingTriggerIds(Object matcherInput) {
         return configurationInterpreter.getMatchingTriggerIds(matcherInput);
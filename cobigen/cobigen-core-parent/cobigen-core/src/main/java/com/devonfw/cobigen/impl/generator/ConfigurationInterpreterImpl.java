@@ -1,9 +1,25 @@
 package com.devonfw.cobigen.impl.generator;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 
@@ -42,6 +58,18 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
     /** Logger instance. */
     private static final Logger LOG = LoggerFactory.getLogger(ConfigurationInterpreterImpl.class);
 
+    /** Minimum number of inputs to be matched by each thread when matching inputs in parallel */
+    private static final int MIN_INPUTS_PER_THREAD = 16;
+
+    /** Maximum number of threads matching inputs in parallel */
+    private static final int MAX_MATCHING_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Thread pool matching inputs in parallel shared by all configuration interpreters. Idle threads are
+     * terminated, such that the pool does not keep any threads alive while not matching.
+     */
+    private static final ExecutorService MATCHING_EXECUTOR = createMatchingExecutor();
+
     /** {@link ConfigurationHolder} holding CobiGen's configuration */
     @Inject
     private ConfigurationHolder configurationHolder;
@@ -68,14 +96,16 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
     public List<IncrementTo> getMatchingIncrements(Object matcherInput) throws InvalidConfigurationException {
 
         LOG.debug("Matching increments requested.");
-        List<IncrementTo> increments = Lists.newLinkedList();
-        List<String> matchingTriggerIds = getMatchingTriggerIds(matcherInput);
-        for (TemplatesConfiguration templatesConfiguration : getMatchingTemplatesConfigurations(matcherInput)) {
-            increments.addAll(convertIncrements(templatesConfiguration.getAllGenerationPackages(),
-                templatesConfiguration.getTrigger(), matchingTriggerIds));
-        }
-        LOG.debug("{} matching increments found.", increments.size());
-        return increments;
+        return getMatchingIncrements(matcherInput, new HashMap<>());
+    }
+
+    @Override
+    public Map<Object, List<IncrementTo>> getMatchingIncrements(Collection<?> matcherInputs)
+        throws InvalidConfigurationException {
+
+        LOG.debug("Matching increments requested for {} inputs.", matcherInputs.size());
+        Map<TemplatesConfiguration, List<IncrementTo>> convertedIncrements = new ConcurrentHashMap<>();
+        return matchInParallel(matcherInputs, input -> getMatchingIncrements(input, convertedIncrements));
     }
 
     @Cached
@@ -83,18 +113,190 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
     public List<TemplateTo> getMatchingTemplates(Object matcherInput) throws InvalidConfigurationException {
 
         LOG.debug("Matching templates requested.");
-        List<TemplateTo> templates = Lists.newLinkedList();
-        for (TemplatesConfiguration templatesConfiguration : getMatchingTemplatesConfigurations(matcherInput)) {
+        return getMatchingTemplates(matcherInput, new HashMap<>());
+    }
 
-            for (Template template : templatesConfiguration.getAllTemplates()) {
-                templates.add(new TemplateTo(template.getName(), template.getMergeStrategy(),
-                    templatesConfiguration.getTrigger().getId()));
-            }
+    @Override
+    public Map<Object, List<TemplateTo>> getMatchingTemplates(Collection<?> matcherInputs)
+        throws InvalidConfigurationException {
+
+        LOG.debug("Matching templates requested for {} inputs.", matcherInputs.size());
+        Map<TemplatesConfiguration, List<TemplateTo>> convertedTemplates = new ConcurrentHashMap<>();
+        return matchInParallel(matcherInputs, input -> getMatchingTemplates(input, convertedTemplates));
+    }
+
+    /**
+     * Returns all matching increments for a given input object
+     *
+     * @param matcherInput
+     *            input object
+     * @param convertedIncrements
+     *            increments already converted mapped by their {@link TemplatesConfiguration}, which will be
+     *            extended by the increments converted in this call
+     * @return the {@link List} of matching increments, which are copies of the converted increments as the
+     *         transfer objects are mutable
+     * @throws InvalidConfigurationException
+     *             if the configuration is not valid
+     */
+    private List<IncrementTo> getMatchingIncrements(Object matcherInput,
+        Map<TemplatesConfiguration, List<IncrementTo>> convertedIncrements) throws InvalidConfigurationException {
+
+        List<Trigger> matchingTriggers = triggerMatchingEvaluator.getMatchingTriggers(matcherInput);
+        List<String> matchingTriggerIds = Lists.newLinkedList();
+        for (Trigger trigger : matchingTriggers) {
+            matchingTriggerIds.add(trigger.getId());
+        }
+        List<IncrementTo> increments = Lists.newLinkedList();
+        for (TemplatesConfiguration templatesConfiguration : getMatchingTemplatesConfigurations(matchingTriggers)) {
+            validateExternalIncrements(templatesConfiguration.getAllGenerationPackages(),
+                templatesConfiguration.getTrigger(), matchingTriggerIds);
+            increments.addAll(copyIncrements(convertedIncrements.computeIfAbsent(templatesConfiguration,
+                config -> convertIncrements(config.getAllGenerationPackages()))));
+        }
+        LOG.debug("{} matching increments found.", increments.size());
+        return increments;
+    }
+
+    /**
+     * Returns the {@link List} of matching templates for the given input object
+     *
+     * @param matcherInput
+     *            input object
+     * @param convertedTemplates
+     *            templates already converted mapped by their {@link TemplatesConfiguration}, which will be
+     *            extended by the templates converted in this call
+     * @return the {@link List} of matching templates, which are copies of the converted templates as the
+     *         transfer objects are mutable
+     * @throws InvalidConfigurationException
+     *             if the configuration is not valid
+     */
+    private List<TemplateTo> getMatchingTemplates(Object matcherInput,
+        Map<TemplatesConfiguration, List<TemplateTo>> convertedTemplates) throws InvalidConfigurationException {
+
+        List<TemplateTo> templates = Lists.newLinkedList();
+        for (TemplatesConfiguration templatesConfiguration : getMatchingTemplatesConfigurations(
+            triggerMatchingEvaluator.getMatchingTriggers(matcherInput))) {
+            templates.addAll(copyTemplates(convertedTemplates.computeIfAbsent(templatesConfiguration, config -> {
+                List<TemplateTo> templateTos = Lists.newLinkedList();
+                for (Template template : config.getAllTemplates()) {
+                    templateTos.add(
+                        new TemplateTo(template.getName(), template.getMergeStrategy(), config.getTrigger().getId()));
+                }
+                return templateTos;
+            })));
         }
         LOG.debug("{} matching templates found.", templates.size());
         return templates;
     }
 
+    /**
+     * Evaluates the given function for all inputs. Small batches of inputs are evaluated one after another by the
+     * calling thread. Larger batches are split into consecutive partitions, each being evaluated by a single
+     * thread of the shared matching thread pool using the context class loader of the calling thread. Once the
+     * evaluation of an input fails, no further inputs are evaluated.
+     *
+     * @param <T>
+     *            type of the results
+     * @param matcherInputs
+     *            inputs to evaluate the function for
+     * @param matching
+     *            function determining the result of an input
+     * @return the results mapped by input in the order of the given inputs
+     */
+    private <T> Map<Object, T> matchInParallel(Collection<?> matcherInputs, Function<Object, T> matching) {
+
+        List<Object> inputs = new ArrayList<>(matcherInputs);
+        int threads =
+            Math.min(MAX_MATCHING_THREADS, (inputs.size() + MIN_INPUTS_PER_THREAD - 1) / MIN_INPUTS_PER_THREAD);
+        if (threads <= 1) {
+            List<T> results = new ArrayList<>(inputs.size());
+            for (Object input : inputs) {
+                results.add(matching.apply(input));
+            }
+            return collectResults(inputs, results);
+        }
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Callable<List<T>>> partitions = new ArrayList<>(threads);
+        for (List<Object> partition : Lists.partition(inputs, (inputs.size() + threads - 1) / threads)) {
+            partitions.add(() -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader poolClassLoader = thread.getContextClassLoader();
+                thread.setContextClassLoader(contextClassLoader);
+                try {
+                    List<T> results = new ArrayList<>(partition.size());
+                    for (Object input : partition) {
+                        if (failed.get()) {
+                            break;
+                        }
+                        try {
+                            results.add(matching.apply(input));
+                        } catch (RuntimeException e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }
+                    return results;
+                } finally {
+                    thread.setContextClassLoader(poolClassLoader);
+                }
+            });
+        }
+        try {
+            List<T> results = new ArrayList<>(inputs.size());
+            for (Future<List<T>> partitionResult : MATCHING_EXECUTOR.invokeAll(partitions)) {
+                results.addAll(partitionResult.get());
+            }
+            return collectResults(inputs, results);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CobiGenRuntimeException("Interrupted while matching inputs.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CobiGenRuntimeException("Could not match inputs.", e.getCause());
+        }
+    }
+
+    /**
+     * Creates the thread pool matching inputs in parallel. The pool is bounded by the number of available
+     * processors and its daemon threads are terminated once idle.
+     * @return the thread pool
+     */
+    private static ExecutorService createMatchingExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_MATCHING_THREADS, MAX_MATCHING_THREADS, 30,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "cobigen-matching-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Maps the given results by their inputs. Duplicate inputs are mapped to the result of their first
+     * occurrence.
+     *
+     * @param <T>
+     *            type of the results
+     * @param inputs
+     *            the inputs
+     * @param results
+     *            the results in the order of the inputs
+     * @return the results mapped by input in the order of the given inputs
+     */
+    private <T> Map<Object, T> collectResults(List<Object> inputs, List<T> results) {
+        Map<Object, T> resultsByInput = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            resultsByInput.putIfAbsent(inputs.get(i), results.get(i));
+        }
+        return resultsByInput;
+    }
+
     @Override
     public Path resolveTemplateDestinationPath(Path targetRootPath, TemplateTo template, Object input) {
         Trigger trigger = configurationHolder.readContextConfiguration().getTrigger(template.getTriggerId());
@@ -116,8 +318,8 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
     }
 
     /**
-     * Converts a {@link List} of {@link Increment}s with their parent {@link Trigger} to a {@link List} of
-     * {@link IncrementTo}s
+     * Validates, that the triggers of all external increments referenced from the given {@link Trigger}'s
+     * increments match as well.
      *
      * @param increments
      *            the {@link List} of {@link Increment}s
@@ -125,13 +327,12 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
      *            the parent {@link Trigger}
      * @param matchingTriggerIds
      *            the {@link List} of matching trigger Id
-     * @return the {@link List} of {@link IncrementTo}s
+     * @throws InvalidConfigurationException
+     *             if the trigger of an external increment does not match
      */
-    // TODO create ToConverter
-    private List<IncrementTo> convertIncrements(List<Increment> increments, Trigger trigger,
-        List<String> matchingTriggerIds) {
+    private void validateExternalIncrements(List<Increment> increments, Trigger trigger,
+        List<String> matchingTriggerIds) throws InvalidConfigurationException {
 
-        List<IncrementTo> incrementTos = Lists.newLinkedList();
         for (Increment increment : increments) {
             String triggerId = increment.getTrigger().getId();
             if (!triggerId.equals(trigger.getId())) {
@@ -143,33 +344,85 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
                             + " is referenced from " + trigger.getId() + " but its trigger does not match");
                 }
             }
+            validateExternalIncrements(increment.getDependentIncrements(), trigger, matchingTriggerIds);
+        }
+    }
+
+    /**
+     * Converts a {@link List} of {@link Increment}s to a {@link List} of {@link IncrementTo}s
+     *
+     * @param increments
+     *            the {@link List} of {@link Increment}s
+     * @return the {@link List} of {@link IncrementTo}s
+     */
+    // TODO create ToConverter
+    private List<IncrementTo> convertIncrements(List<Increment> increments) {
+
+        List<IncrementTo> incrementTos = Lists.newLinkedList();
+        for (Increment increment : increments) {
+            String triggerId = increment.getTrigger().getId();
             List<TemplateTo> templates = Lists.newLinkedList();
             for (Template template : increment.getTemplates()) {
                 templates.add(new TemplateTo(template.getName(), template.getMergeStrategy(), triggerId));
             }
             incrementTos.add(new IncrementTo(increment.getName(), increment.getDescription(), triggerId, templates,
-                convertIncrements(increment.getDependentIncrements(), trigger, matchingTriggerIds)));
+                convertIncrements(increment.getDependentIncrements())));
         }
         return incrementTos;
     }
 
     /**
-     * Returns the {@link List} of matching {@link TemplatesConfiguration}s for the given input object
+     * Copies the given {@link IncrementTo}s including their templates and dependent increments
      *
-     * @param matcherInput
-     *            input object activates a matcher and thus is target for context variable extraction.
-     *            Possibly a combined or wrapping object for multiple input objects
+     * @param increments
+     *            the {@link List} of {@link IncrementTo}s
+     * @return the {@link List} of copied {@link IncrementTo}s
+     */
+    private List<IncrementTo> copyIncrements(List<IncrementTo> increments) {
+
+        List<IncrementTo> incrementTos = Lists.newLinkedList();
+        for (IncrementTo increment : increments) {
+            incrementTos.add(new IncrementTo(increment.getId(), increment.getDescription(), increment.getTriggerId(),
+                copyTemplates(increment.getTemplates()), copyIncrements(increment.getDependentIncrements())));
+        }
+        return incrementTos;
+    }
+
+    /**
+     * Copies the given {@link TemplateTo}s
+     *
+     * @param templates
+     *            the {@link List} of {@link TemplateTo}s
+     * @return the {@link List} of copied {@link TemplateTo}s
+     */
+    private List<TemplateTo> copyTemplates(List<TemplateTo> templates) {
+
+        List<TemplateTo> templateTos = Lists.newLinkedList();
+        for (TemplateTo template : templates) {
+            TemplateTo templateTo = new TemplateTo(template.getId(), template.getMergeStrategy(),
+                template.getTriggerId());
+            templateTo.setForceOverride(template.isForceOverride());
+            templateTos.add(templateTo);
+        }
+        return templateTos;
+    }
+
+    /**
+     * Returns the {@link List} of {@link TemplatesConfiguration}s of the given matching triggers
+     *
+     * @param matchingTriggers
+     *            the {@link Trigger}s matching an input object
      * @return the {@link List} of matching {@link TemplatesConfiguration}s
      * @throws InvalidConfigurationException
      *             if the configuration is not valid
      */
-    private List<TemplatesConfiguration> getMatchingTemplatesConfigurations(Object matcherInput)
+    private List<TemplatesConfiguration> getMatchingTemplatesConfigurations(List<Trigger> matchingTriggers)
         throws InvalidConfigurationException {
 
         LOG.debug("Retrieve matching template configurations.");
         List<TemplatesConfiguration> templateConfigurations = Lists.newLinkedList();
 
-        for (Trigger trigger : triggerMatchingEvaluator.getMatchingTriggers(matcherInput)) {
+        for (Trigger trigger : matchingTriggers) {
             TemplatesConfiguration templatesConfiguration = configurationHolder.readTemplatesConfiguration(trigger);
             if (templatesConfiguration != null) {
                 if (!templateConfigurations.contains(templatesConfiguration)) {
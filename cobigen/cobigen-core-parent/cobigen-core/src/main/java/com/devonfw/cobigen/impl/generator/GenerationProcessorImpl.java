@@ -10,8 +10,11 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Formatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -29,6 +32,7 @@ import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.exception.MergeException;
 import com.devonfw.cobigen.api.exception.PluginNotAvailableException;
+import com.devonfw.cobigen.api.extension.BatchMerger;
 import com.devonfw.cobigen.api.extension.InputReader;
 import com.devonfw.cobigen.api.extension.Merger;
 import com.devonfw.cobigen.api.extension.TextTemplateEngine;
@@ -36,6 +40,7 @@ import com.devonfw.cobigen.api.extension.TriggerInterpreter;
 import com.devonfw.cobigen.api.to.GenerableArtifact;
 import com.devonfw.cobigen.api.to.GenerationReportTo;
 import com.devonfw.cobigen.api.to.IncrementTo;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.api.to.TemplateTo;
 import com.devonfw.cobigen.impl.config.ConfigurationHolder;
 import com.devonfw.cobigen.impl.config.TemplatesConfiguration;
@@ -74,6 +79,12 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     /** Singletons of the Java classes to be served by the model implementing template logic */
     private Map<String, Object> logicClassesModel;
 
+    /**
+     * Template engines of this generation run by template folder. They provide the logic classes to all
+     * templates processed.
+     */
+    private Map<Path, TextTemplateEngine> templateEngines = Maps.newHashMap();
+
     /** Externally provided model to be used for generation */
     private Map<String, Object> rawModel;
 
@@ -89,6 +100,9 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     /** {@link InputResolver} instance */
     private InputResolver inputResolver;
 
+    /** Merges deferred to be processed at once, or {@code null} if there are none */
+    private PendingMerges pendingMerges;
+
     /**
      * Creates a new generation processor. This instance should be used once per generate call as of the
      * internal state cannot be reused.
@@ -162,6 +176,7 @@ public class GenerationProcessorImpl implements GenerationProcessor {
         }
         this.targetRootPath = targetRootPath;
         generationReport = new GenerationReportTo();
+        pendingMerges = null;
 
         progressCallback.accept("load Templates", 50);
         Collection<TemplateTo> templatesToBeGenerated = flatten(generableArtifacts);
@@ -175,22 +190,32 @@ public class GenerationProcessorImpl implements GenerationProcessor {
                         configurationHolder.readContextConfiguration().getTrigger(template.getTriggerId());
                     TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(trigger.getType());
                     InputValidator.validateTriggerInterpreter(triggerInterpreter, trigger);
+                    Template templateEty =
+                        configurationHolder.readTemplatesConfiguration(trigger).getTemplate(template.getId());
+                    if (pendingMerges != null && (templateEty == null || !pendingMerges.accepts(templateEty))) {
+                        // merge the deferred patches first without skipping this template on merge failures
+                        try {
+                            flushPendingMerges();
+                        } catch (CobiGenCancellationException e) {
+                            throw (e);
+                        } catch (Throwable e) {
+                            addGenerationError(e);
+                        }
+                    }
                     generate(template, triggerInterpreter, origToTmpFileTrace);
                     progressCallback.accept("generates... ",
                         Math.round(1 / (float) templatesToBeGenerated.size() * 800));
                 } catch (CobiGenCancellationException e) {
                     throw (e);
-                } catch (CobiGenRuntimeException e) {
-                    generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
-                    generationReport.addError(e);
-                    LOG.error("An internal error occurred during generation.", e);
                 } catch (Throwable e) {
-                    generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
-                    generationReport.addError(new CobiGenRuntimeException(
-                        "Something unexpected happened" + ((e.getMessage() != null) ? ": " + e.getMessage() : "!"), e));
-                    LOG.error("An unknown exception occurred during generation.", e);
+                    addGenerationError(e);
                 }
             }
+            try {
+                flushPendingMerges();
+            } catch (Throwable e) {
+                addGenerationError(e);
+            }
         } catch (CobiGenCancellationException e) {
             LOG.error("the Generation has been Canceled.", e);
             generationReport.setCancelled(true);
@@ -220,6 +245,23 @@ public class GenerationProcessorImpl implements GenerationProcessor {
         return generationReport;
     }
 
+    /**
+     * Adds the given error to the generation report
+     * @param e
+     *            the error occurred during generation
+     */
+    private void addGenerationError(Throwable e) {
+        generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
+        if (e instanceof CobiGenRuntimeException) {
+            generationReport.addError((CobiGenRuntimeException) e);
+            LOG.error("An internal error occurred during generation.", e);
+        } else {
+            generationReport.addError(new CobiGenRuntimeException(
+                "Something unexpected happened" + ((e.getMessage() != null) ? ": " + e.getMessage() : "!"), e));
+            LOG.error("An unknown exception occurred during generation.", e);
+        }
+    }
+
     /**
      * Delete the temporary files in {@link #tmpTargetRootPath}.
      */
@@ -320,9 +362,7 @@ public class GenerationProcessorImpl implements GenerationProcessor {
         List<Object> inputObjects = inputResolver.resolveContainerElements(input, trigger);
         TemplatesConfiguration tConfig = configurationHolder.readTemplatesConfiguration(trigger);
         String templateEngineName = tConfig.getTemplateEngine();
-        TextTemplateEngine templateEngine = TemplateEngineRegistry.getEngine(templateEngineName);
-
-        templateEngine.setTemplateFolder(
+        TextTemplateEngine templateEngine = getTemplateEngine(templateEngineName,
             configurationHolder.readContextConfiguration().getConfigurationPath().resolve(trigger.getTemplateFolder()));
 
         Template templateEty = tConfig.getTemplate(template.getId());
@@ -330,9 +370,11 @@ public class GenerationProcessorImpl implements GenerationProcessor {
             throw new UnknownTemplateException(template.getId());
         }
 
+        ModelUsageTo modelUsage = templateEngine.getModelUsage(templateEty);
         for (Object generatorInput : inputObjects) {
 
-            Map<String, Object> model = buildModel(triggerInterpreter, trigger, generatorInput, templateEty);
+            Map<String, Object> model =
+                buildModel(triggerInterpreter, trigger, generatorInput, templateEty, modelUsage);
 
             String targetCharset = templateEty.getTargetCharset();
 
@@ -355,7 +397,6 @@ public class GenerationProcessorImpl implements GenerationProcessor {
                 // remember mapping to later on copy the generated resources to its target destinations
                 origToTmpFileTrace.put(originalFile, tmpOriginalFile);
             }
-
             if (originalFile.exists() || tmpOriginalFile.exists()) {
                 if (!tmpOriginalFile.exists()) {
                     try {
@@ -384,34 +425,31 @@ public class GenerationProcessorImpl implements GenerationProcessor {
                             LOG.info(formatter.out().toString());
                         }
                     }
-                    String patch = null;
+                    String patch;
                     try (Writer out = new StringWriter()) {
                         templateEngine.process(templateEty, model, out, targetCharset);
                         patch = out.toString();
-                        String mergeResult = null;
-                        Merger merger = PluginRegistry.getMerger(templateEty.getMergeStrategy());
-                        if (merger != null) {
-                            mergeResult = merger.merge(tmpOriginalFile, patch, targetCharset);
-                        } else {
-                            throw new PluginNotAvailableException(
-                                "merge strategy '" + templateEty.getMergeStrategy() + "'", null);
-                        }
-
-                        if (mergeResult != null) {
-                            LOG.debug("Merge {} with char set {}.", tmpOriginalFile.getName(), targetCharset);
-                            FileUtils.writeStringToFile(tmpOriginalFile, mergeResult, targetCharset);
-                        } else {
-                            throw new PluginProcessingException(
-                                "Merger " + merger.getType() + " returned null on merge(...), which is not allowed.");
-                        }
-                    } catch (MergeException e) {
-                        writeBrokenPatchFile(targetCharset, tmpOriginalFile, patch);
-                        // enrich merge exception to provide template ID
-                        throw new MergeException(e, templateEty.getAbsoluteTemplatePath());
                     } catch (IOException e) {
                         throw new CobiGenRuntimeException(
                             "Could not write file " + tmpOriginalFile.toPath() + " after merge.", e);
                     }
+                    Merger merger = PluginRegistry.getMerger(templateEty.getMergeStrategy());
+                    if (merger == null) {
+                        throw new PluginNotAvailableException(
+                            "merge strategy '" + templateEty.getMergeStrategy() + "'", null);
+                    }
+
+                    if (merger instanceof BatchMerger) {
+                        // defer the merge to merge the patches of consecutive templates for the same file at
+                        // once. Pending merges of other templates have already been flushed if not compatible.
+                        if (pendingMerges == null) {
+                            pendingMerges = new PendingMerges((BatchMerger) merger, templateEty.getMergeStrategy(),
+                                targetCharset);
+                        }
+                        pendingMerges.add(tmpOriginalFile, patch, templateEty);
+                    } else {
+                        mergeAndWriteFile(merger, tmpOriginalFile, patch, templateEty, targetCharset);
+                    }
                 }
             } else {
                 if (LOG.isInfoEnabled()) {
@@ -426,6 +464,109 @@ public class GenerationProcessorImpl implements GenerationProcessor {
         }
     }
 
+    /**
+     * Merges all pending patches into their files. If merging all patches of a file at once fails for any reason,
+     * the patches are merged one after another to report the patch and template causing the failure. Failures are
+     * added to the generation report without skipping the merges of other patches or files.
+     */
+    private void flushPendingMerges() {
+
+        if (pendingMerges == null) {
+            return;
+        }
+        PendingMerges merges = pendingMerges;
+        pendingMerges = null;
+        for (Entry<File, List<String>> filePatches : merges.patches.entrySet()) {
+            File file = filePatches.getKey();
+            List<String> patches = filePatches.getValue();
+            List<Template> templates = merges.templates.get(file);
+            if (patches.size() > 1) {
+                String mergeResult;
+                try {
+                    LOG.debug("Merge {} patches into {} at once.", patches.size(), file.getName());
+                    mergeResult = merges.merger.merge(file, patches, merges.targetCharset);
+                } catch (CobiGenCancellationException e) {
+                    throw (e);
+                } catch (Throwable e) {
+                    LOG.debug("Merging all patches into {} at once failed. Merging them one after another.",
+                        file.getName(), e);
+                    mergeResult = null;
+                }
+                if (mergeResult != null) {
+                    try {
+                        writeMergeResult(merges.merger, file, mergeResult, merges.targetCharset);
+                    } catch (CobiGenCancellationException e) {
+                        throw (e);
+                    } catch (Throwable e) {
+                        addGenerationError(e);
+                    }
+                    continue;
+                }
+            }
+            for (int i = 0; i < patches.size(); i++) {
+                try {
+                    mergeAndWriteFile(merges.merger, file, patches.get(i), templates.get(i), merges.targetCharset);
+                } catch (CobiGenCancellationException e) {
+                    throw (e);
+                } catch (Throwable e) {
+                    addGenerationError(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the patch into the given file and writes the result to the file.
+     * @param merger
+     *            the {@link Merger} to be used
+     * @param file
+     *            the file to merge into
+     * @param patch
+     *            the generated patch
+     * @param templateEty
+     *            the template the patch has been generated from
+     * @param targetCharset
+     *            target charset of the file
+     */
+    private void mergeAndWriteFile(Merger merger, File file, String patch, Template templateEty,
+        String targetCharset) {
+
+        String mergeResult;
+        try {
+            mergeResult = merger.merge(file, patch, targetCharset);
+        } catch (MergeException e) {
+            writeBrokenPatchFile(targetCharset, file, patch);
+            // enrich merge exception to provide template ID
+            throw new MergeException(e, templateEty.getAbsoluteTemplatePath());
+        }
+        writeMergeResult(merger, file, mergeResult, targetCharset);
+    }
+
+    /**
+     * Writes the result of a merge to the merged file.
+     * @param merger
+     *            the {@link Merger}, which merged
+     * @param file
+     *            the merged file
+     * @param mergeResult
+     *            the merged contents
+     * @param targetCharset
+     *            target charset of the file
+     */
+    private void writeMergeResult(Merger merger, File file, String mergeResult, String targetCharset) {
+
+        if (mergeResult == null) {
+            throw new PluginProcessingException(
+                "Merger " + merger.getType() + " returned null on merge(...), which is not allowed.");
+        }
+        LOG.debug("Merge {} with char set {}.", file.getName(), targetCharset);
+        try {
+            FileUtils.writeStringToFile(file, mergeResult, targetCharset);
+        } catch (IOException e) {
+            throw new CobiGenRuntimeException("Could not write file " + file.toPath() + " after merge.", e);
+        }
+    }
+
     /**
      * Writes a broken patch file to the file system. As an invalid generation will not lead to a merge into
      * the code base, we simply can generate it next to the target file.
@@ -471,24 +612,43 @@ public class GenerationProcessorImpl implements GenerationProcessor {
      *            input for generation to retrieve information from.
      * @param template
      *            the internal {@link Template} representation
+     * @param modelUsage
+     *            the parts of the model used by the template or {@code null} if the complete model is required
      * @return the object model for generation.
      */
     private Map<String, Object> buildModel(TriggerInterpreter triggerInterpreter, Trigger trigger,
-        Object generatorInput, Template template) {
+        Object generatorInput, Template template, ModelUsageTo modelUsage) {
         ModelBuilderImpl modelBuilderImpl = new ModelBuilderImpl(generatorInput, trigger);
         Map<String, Object> model;
         if (rawModel != null) {
             model = rawModel;
         } else {
-            model = modelBuilderImpl.createModel(triggerInterpreter);
+            model = modelBuilderImpl.createModel(triggerInterpreter, modelUsage);
         }
         modelBuilderImpl.enrichByContextVariables(model, triggerInterpreter, template, targetRootPath);
-        if (logicClassesModel != null) {
-            model.putAll(logicClassesModel);
-        }
         return model;
     }
 
+    /**
+     * Returns the template engine of this generation run for the given template folder. The template engine
+     * provides the logic classes as shared variables, such that template engines only have to prepare them
+     * once per generation run instead of for each template.
+     * @param templateEngineName
+     *            name of the template engine
+     * @param templateFolderPath
+     *            the root folder of all templates to be processed
+     * @return the template engine
+     */
+    private TextTemplateEngine getTemplateEngine(String templateEngineName, Path templateFolderPath) {
+        return templateEngines.computeIfAbsent(templateFolderPath, path -> {
+            if (logicClassesModel != null) {
+                return TemplateEngineRegistry.getEngine(templateEngineName, path, logicClassesModel);
+            } else {
+                return TemplateEngineRegistry.getEngine(templateEngineName, path);
+            }
+        });
+    }
+
     /**
      * Generates the given template contents using the given model and writes the contents into the given
      * {@link File}
@@ -515,4 +675,68 @@ public class GenerationProcessorImpl implements GenerationProcessor {
                 "Could not write file while processing template " + template.getAbsoluteTemplatePath(), e);
         }
     }
+
+    /**
+     * Patches of consecutive templates to be merged at once per file by the same {@link BatchMerger}. The deferral
+     * is bound to the merge strategy and target charset only, i.e. it intentionally spans templates targeting
+     * different files, so that patches of the same file are merged at once even if the templates generating them
+     * are interleaved with templates for other files.
+     */
+    private static final class PendingMerges {
+
+        /** The merger to be used */
+        private final BatchMerger merger;
+
+        /** The merge strategy of the merger */
+        private final String mergeStrategy;
+
+        /** Target charset of the files */
+        private final String targetCharset;
+
+        /** The patches in order of generation mapped by the file to merge into */
+        private final Map<File, List<String>> patches = new LinkedHashMap<>();
+
+        /** The templates the patches have been generated from mapped by the file to merge into */
+        private final Map<File, List<Template>> templates = new HashMap<>();
+
+        /**
+         * Creates new pending merges
+         * @param merger
+         *            the merger to be used
+         * @param mergeStrategy
+         *            the merge strategy of the merger
+         * @param targetCharset
+         *            target charset of the files
+         */
+        PendingMerges(BatchMerger merger, String mergeStrategy, String targetCharset) {
+            this.merger = merger;
+            this.mergeStrategy = mergeStrategy;
+            this.targetCharset = targetCharset;
+        }
+
+        /**
+         * Checks whether the patches of a template can be merged together with the pending patches
+         * @param template
+         *            the template to be generated
+         * @return {@code true} if the patches of the template can be merged at once with the pending patches
+         */
+        boolean accepts(Template template) {
+            return mergeStrategy.equals(template.getMergeStrategy())
+                && targetCharset.equals(template.getTargetCharset());
+        }
+
+        /**
+         * Adds a patch to be merged
+         * @param file
+         *            the file to merge into
+         * @param patch
+         *            the generated patch
+         * @param template
+         *            the template the patch has been generated from
+         */
+        void add(File file, String patch, Template template) {
+            patches.computeIfAbsent(file, f -> new ArrayList<>()).add(patch);
+            templates.computeIfAbsent(file, f -> new ArrayList<>()).add(template);
+        }
+    }
 }
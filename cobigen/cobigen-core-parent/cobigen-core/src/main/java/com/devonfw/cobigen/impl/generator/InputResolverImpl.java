@@ -1,8 +1,9 @@
 package com.devonfw.cobigen.impl.generator;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -49,19 +50,14 @@ public class InputResolverImpl implements InputResolver {
                 }
             }
 
-            if (retrieveInputsRecursively) {
-                inputObjects = inputReader.getInputObjectsRecursively(input, trigger.getInputCharset());
-            } else {
-                inputObjects = inputReader.getInputObjects(input, trigger.getInputCharset());
-            }
-
-            // Remove non matching inputs
-            Iterator<Object> it = inputObjects.iterator();
-            while (it.hasNext()) {
-                Object next = it.next();
-                if (!matcherEvaluator.matches(next, trigger.getMatcher(), triggerInterpreter)) {
-                    it.remove();
-                }
+            // skip inputs not matching for sure before reading them and remove non matching inputs while
+            // reading them
+            try (Stream<Object> containerElements = inputReader.streamInputObjects(input, trigger.getInputCharset(),
+                retrieveInputsRecursively,
+                preview -> matcherEvaluator.mightMatch(preview, trigger.getMatcher(), triggerInterpreter))) {
+                inputObjects = containerElements
+                    .filter(element -> matcherEvaluator.matches(element, trigger.getMatcher(), triggerInterpreter))
+                    .collect(Collectors.toCollection(ArrayList::new));
             }
         } else {
             inputObjects.add(input);
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.cobigen.api.annotation.Cached;
+import com.devonfw.cobigen.api.extension.MatcherInterpreter;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.impl.config.entity.Matcher;
@@ -53,4 +54,37 @@ public class MatcherEvaluatorImpl implements MatcherEvaluator {
         LOG.debug("Matcher declarations " + (matcherSetMatches ? "match the input." : "do not match the input."));
         return matcherSetMatches;
     }
+
+    @Override
+    public boolean mightMatch(Object preview, List<Matcher> matcherList, TriggerInterpreter triggerInterpreter) {
+        // as evaluated by #matches, the input matches if no NOT matcher matches, all AND matchers match, and at
+        // least one AND or OR matcher matches. Just matchers providing an input key are decidable on a preview.
+        MatcherInterpreter matcherInterpreter = triggerInterpreter.getMatcher();
+        boolean anyMightMatch = false;
+        for (Matcher matcher : matcherList) {
+            Boolean matches = null;
+            if (matcherInterpreter.getInputKey(matcher.getType(), preview) != null) {
+                matches = matcherInterpreter.matches(new MatcherTo(matcher.getType(), matcher.getValue(), preview));
+            }
+            switch (matcher.getAccumulationType()) {
+            case NOT:
+                if (Boolean.TRUE.equals(matches)) {
+                    return false;
+                }
+                break;
+            case AND:
+                if (Boolean.FALSE.equals(matches)) {
+                    return false;
+                }
+                anyMightMatch = true;
+                break;
+            case OR:
+                anyMightMatch |= !Boolean.FALSE.equals(matches);
+                break;
+            default:
+            }
+        }
+        LOG.trace("Preview {} {} match the matcher declarations.", preview, anyMightMatch ? "might" : "does not");
+        return anyMightMatch;
+    }
 }
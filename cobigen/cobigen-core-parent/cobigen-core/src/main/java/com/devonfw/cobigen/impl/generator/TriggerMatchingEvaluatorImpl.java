@@ -1,6 +1,8 @@
 package com.devonfw.cobigen.impl.generator;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -11,6 +13,8 @@ import com.devonfw.cobigen.api.annotation.Cached;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.impl.config.ConfigurationHolder;
+import com.devonfw.cobigen.impl.config.TriggerIndex;
+import com.devonfw.cobigen.impl.config.TriggerIndex.TriggerCandidate;
 import com.devonfw.cobigen.impl.config.entity.ContainerMatcher;
 import com.devonfw.cobigen.impl.config.entity.Matcher;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
@@ -44,21 +48,31 @@ public class TriggerMatchingEvaluatorImpl implements TriggerMatchingEvaluator {
 
         LOG.debug("Retrieve matching trigger. input {}, hash: {}", matcherInput, matcherInput.hashCode());
         List<Trigger> matchingTrigger = Lists.newLinkedList();
-        for (Trigger trigger : configurationHolder.readContextConfiguration().getTriggers()) {
-            TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(trigger.getType());
+        TriggerIndex triggerIndex = configurationHolder.readContextConfiguration().getTriggerIndex();
+        for (String triggerType : triggerIndex.getTriggerTypes()) {
+            TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(triggerType);
             if (triggerInterpreter == null) {
                 continue;
                 // trigger interpreter not yet activated as the plug-in was not yet used.
                 // unfortunately the invariant here is, that the CobiGen user has once called CobigenImpl#read
                 // to get the matcher input
             }
-            InputValidator.validateTriggerInterpreter(triggerInterpreter, trigger);
-            LOG.debug("Check {} to match the input.", trigger);
+            InputValidator.validateTriggerInterpreter(triggerInterpreter, triggerType);
 
-            if (triggerInterpreter.getInputReader().isValidInput(matcherInput)) {
-                LOG.debug("Matcher input is marked as valid.");
-                boolean triggerMatches =
-                    matcherEvaluator.matches(matcherInput, trigger.getMatcher(), triggerInterpreter);
+            // all triggers of the same type share the input reader, so validate the input just once
+            if (!triggerInterpreter.getInputReader().isValidInput(matcherInput)) {
+                LOG.debug("Matcher input is not valid for triggers of type {}.", triggerType);
+                continue;
+            }
+            LOG.debug("Matcher input is marked as valid for triggers of type {}.", triggerType);
+
+            for (TriggerCandidate candidate : triggerIndex.getCandidates(triggerType, triggerInterpreter.getMatcher(),
+                matcherInput)) {
+                Trigger trigger = candidate.getTrigger();
+                LOG.debug("Check {} to match the input.", trigger);
+
+                boolean triggerMatches = candidate.matchersMayMatch()
+                    && matcherEvaluator.matches(matcherInput, trigger.getMatcher(), triggerInterpreter);
                 if (triggerMatches) {
                     matchingTrigger.add(trigger);
                 }
@@ -68,32 +82,18 @@ public class TriggerMatchingEvaluatorImpl implements TriggerMatchingEvaluator {
                 if (!triggerMatches) {
                     LOG.debug("Check container matchers ...");
                     FOR_CONTAINERMATCHER:
-                    for (ContainerMatcher containerMatcher : trigger.getContainerMatchers()) {
+                    for (ContainerMatcher containerMatcher : candidate.getContainerMatchers()) {
                         MatcherTo containerMatcherTo =
                             new MatcherTo(containerMatcher.getType(), containerMatcher.getValue(), matcherInput);
                         LOG.debug("Check {} ...", containerMatcherTo);
                         if (triggerInterpreter.getMatcher().matches(containerMatcherTo)) {
                             LOG.debug("Match! Retrieve objects from container ...", containerMatcherTo);
-                            // keep backward-compatibility
-                            List<Object> containerResources;
-                            if (containerMatcher.isRetrieveObjectsRecursively()) {
-                                containerResources = triggerInterpreter.getInputReader()
-                                    .getInputObjectsRecursively(matcherInput, Charsets.UTF_8);
-                            } else {
-                                // the charset does not matter as we just want to see whether there is one
-                                // matcher for one of the container resources
-                                containerResources =
-                                    triggerInterpreter.getInputReader().getInputObjects(matcherInput, Charsets.UTF_8);
-                            }
-                            LOG.debug("{} objects retrieved.", containerResources.size());
-
                             // check if at least one container element matches the matcher declarations
-                            for (Object resource : containerResources) {
-                                if (matcherEvaluator.matches(resource, trigger.getMatcher(), triggerInterpreter)) {
-                                    LOG.debug("At least one object from container matches.");
-                                    triggerMatches = true;
-                                    break FOR_CONTAINERMATCHER;
-                                }
+                            if (anyContainerResourceMatches(matcherInput, containerMatcher, trigger,
+                                triggerInterpreter, triggerIndex)) {
+                                LOG.debug("At least one object from container matches.");
+                                triggerMatches = true;
+                                break FOR_CONTAINERMATCHER;
                             }
                             LOG.debug("No element of the container is matched.");
                         }
@@ -105,6 +105,37 @@ public class TriggerMatchingEvaluatorImpl implements TriggerMatchingEvaluator {
                 LOG.debug("{} {}", trigger, triggerMatches ? "matches." : "does not match.");
             }
         }
+        // triggers have been matched bucketed by their type, so restore the order of declaration
+        matchingTrigger.sort(Comparator.comparingInt(triggerIndex::getDeclarationIndex));
         return matchingTrigger;
     }
+
+    /**
+     * Checks whether at least one resource of the given container matches the matcher declarations of the
+     * given trigger. The resources are read lazily to stop reading the container on the first match.
+     * @param container
+     *            the container input
+     * @param containerMatcher
+     *            the {@link ContainerMatcher} having matched the container
+     * @param trigger
+     *            the {@link Trigger} declaring the matchers
+     * @param triggerInterpreter
+     *            the {@link TriggerInterpreter} of the trigger
+     * @param triggerIndex
+     *            the {@link TriggerIndex} to skip resources, which cannot match
+     * @return {@code true} if at least one resource matches, {@code false} otherwise
+     */
+    private boolean anyContainerResourceMatches(Object container, ContainerMatcher containerMatcher, Trigger trigger,
+        TriggerInterpreter triggerInterpreter, TriggerIndex triggerIndex) {
+
+        // the charset does not matter as we just want to see whether there is one matcher for one of the
+        // container resources. Resources not matching for sure are skipped before reading them.
+        try (Stream<Object> containerResources = triggerInterpreter.getInputReader().streamInputObjects(container,
+            Charsets.UTF_8, containerMatcher.isRetrieveObjectsRecursively(),
+            preview -> matcherEvaluator.mightMatch(preview, trigger.getMatcher(), triggerInterpreter))) {
+            return containerResources
+                .anyMatch(resource -> triggerIndex.mayMatch(trigger, triggerInterpreter.getMatcher(), resource)
+                    && matcherEvaluator.matches(resource, trigger.getMatcher(), triggerInterpreter));
+        }
+    }
 }
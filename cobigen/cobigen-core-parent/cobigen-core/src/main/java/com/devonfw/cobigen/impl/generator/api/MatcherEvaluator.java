@@ -21,4 +21,18 @@ public interface MatcherEvaluator {
      *         <code>false</code>, otherwise
      */
     public boolean matches(Object matcherInput, List<Matcher> matcherList, TriggerInterpreter triggerInterpreter);
+
+    /**
+     * Checks whether the list of matchers might match an input object, given just a preview of it. Matchers not
+     * providing an input key for the preview are assumed to be able to match.
+     * @param preview
+     *            preview of the input object
+     * @param matcherList
+     *            list of matchers to be checked
+     * @param triggerInterpreter
+     *            to be called for checking the matchers on the preview
+     * @return <code>false</code> if the input object will not match the matcher list for sure<br>
+     *         <code>true</code>, otherwise
+     */
+    public boolean mightMatch(Object preview, List<Matcher> matcherList, TriggerInterpreter triggerInterpreter);
 }
@@ -15,6 +15,7 @@ import com.devonfw.cobigen.api.extension.InputReader;
 import com.devonfw.cobigen.api.extension.MatcherInterpreter;
 import com.devonfw.cobigen.api.extension.ModelBuilder;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.impl.config.entity.Template;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
 import com.devonfw.cobigen.impl.config.entity.VariableAssignment;
@@ -81,7 +82,23 @@ public class ModelBuilderImpl implements ModelBuilder {
      */
     @Override
     public Map<String, Object> createModel(TriggerInterpreter triggerInterpreter) throws InvalidConfigurationException {
-        Map<String, Object> model = new HashMap<>(triggerInterpreter.getInputReader().createModel(generatorInput));
+        return createModel(triggerInterpreter, null);
+    }
+
+    /**
+     * Creates a new model by using the given {@link TriggerInterpreter} to retrieve the {@link InputReader}
+     * from. The model will just contain the parts stated by the given model usage, if the input reader
+     * supports it.
+     * @param triggerInterpreter
+     *            to be used
+     * @param modelUsage
+     *            the parts of the model used by the template to be processed or {@code null} if the complete
+     *            model should be created
+     * @return the created model
+     */
+    public Map<String, Object> createModel(TriggerInterpreter triggerInterpreter, ModelUsageTo modelUsage) {
+        Map<String, Object> model =
+            new HashMap<>(triggerInterpreter.getInputReader().createModel(generatorInput, modelUsage));
         return model;
     }
 
@@ -58,6 +58,23 @@ public class ConfigurationUtil {
         return findTemplatesInCobigenHome();
     }
 
+    /**
+     * Determines, whether all templates should be compiled ahead of time as soon as a templates configuration
+     * is loaded.
+     * @return <code>true</code> if the property
+     *         {@link ConfigurationConstants#COBIGEN_CONFIG_TEMPLATES_PRECOMPILE_KEY} is enabled in the cobigen
+     *         configuration file, otherwise <code>false</code>
+     */
+    public static boolean isTemplatesPrecompilationEnabled() {
+        Path configFile = getConfigurationFile();
+        if (configFile != null && Files.exists(configFile)) {
+            Properties props = readConfigrationFile(configFile);
+            return Boolean
+                .parseBoolean(props.getProperty(ConfigurationConstants.COBIGEN_CONFIG_TEMPLATES_PRECOMPILE_KEY));
+        }
+        return false;
+    }
+
     /**
      * Find the cobigen configuration file
      * @return a path of cobigen configuration file if exist, otherwise null
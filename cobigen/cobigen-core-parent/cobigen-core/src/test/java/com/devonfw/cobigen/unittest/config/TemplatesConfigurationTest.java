@@ -0,0 +1,77 @@
+package com.devonfw.cobigen.unittest.config;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.impl.config.ConfigurationHolder;
+import com.devonfw.cobigen.impl.config.TemplatesConfiguration;
+import com.devonfw.cobigen.impl.config.entity.Trigger;
+import com.devonfw.cobigen.impl.extension.TemplateEngineRegistry;
+import com.devonfw.cobigen.unittest.config.common.AbstractUnitTest;
+
+/** Test suite for {@link TemplatesConfiguration} */
+public class TemplatesConfigurationTest extends AbstractUnitTest {
+
+    /** Root path to all resources used in this test case */
+    private static final Path testFileRootPath =
+        Paths.get("src/test/resources/testdata/unittest/config/TemplatesConfigurationTest");
+
+    static {
+        TemplateEngineRegistry.register(CompileErrorTemplateEngineStub.class, "CompileErrorStub");
+    }
+
+    /**
+     * Tests that precompiling the templates of a configuration reports all templates, which could not be
+     * compiled, at once
+     */
+    @Test
+    public void testPrecompileTemplatesReportsAllBrokenTemplates() {
+        // arrange
+        Trigger trigger = new Trigger("brokenTemplates", "mockplugin", "brokenTemplates", StandardCharsets.UTF_8,
+            null, null);
+        TemplatesConfiguration templatesConfiguration =
+            new TemplatesConfiguration(testFileRootPath, trigger, new ConfigurationHolder(testFileRootPath));
+
+        // act / assert
+        assertThatThrownBy(
+            () -> templatesConfiguration.precompileTemplates(testFileRootPath.resolve(trigger.getTemplateFolder())))
+                .isInstanceOf(InvalidConfigurationException.class).hasMessageContaining("2 template(s)")
+                .hasMessageContaining("broken1.ftl: cannot compile")
+                .hasMessageContaining("broken2.ftl: cannot compile");
+    }
+
+    /** Template engine failing to compile all templates named broken */
+    public static class CompileErrorTemplateEngineStub implements TextTemplateEngine {
+
+        @Override
+        public String getTemplateFileEnding() {
+            return ".ftl";
+        }
+
+        @Override
+        public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
+        }
+
+        @Override
+        public void compile(TextTemplate template) {
+            if (template.getRelativeTemplatePath().startsWith("broken")) {
+                throw new CobiGenRuntimeException("cannot compile");
+            }
+        }
+
+        @Override
+        public void setTemplateFolder(Path templateFolderPath) {
+        }
+    }
+}
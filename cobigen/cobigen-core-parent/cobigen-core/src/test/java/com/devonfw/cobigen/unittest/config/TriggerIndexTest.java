@@ -0,0 +1,101 @@
+package com.devonfw.cobigen.unittest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.extension.MatcherInterpreter;
+import com.devonfw.cobigen.api.to.MatcherTo;
+import com.devonfw.cobigen.api.to.VariableAssignmentTo;
+import com.devonfw.cobigen.api.util.StringUtil;
+import com.devonfw.cobigen.impl.config.TriggerIndex;
+import com.devonfw.cobigen.impl.config.TriggerIndex.TriggerCandidate;
+import com.devonfw.cobigen.impl.config.entity.ContainerMatcher;
+import com.devonfw.cobigen.impl.config.entity.Matcher;
+import com.devonfw.cobigen.impl.config.entity.Trigger;
+import com.devonfw.cobigen.impl.config.entity.io.AccumulationType;
+import com.google.common.collect.Lists;
+
+/** Test suite for {@link TriggerIndex} */
+public class TriggerIndexTest {
+
+    /**
+     * Tests that only triggers, whose matchers or container matchers might match the input key, are returned
+     * as candidates
+     */
+    @Test
+    public void testGetCandidates() {
+        // arrange
+        Trigger entityTrigger = createTrigger("entity", "java", AccumulationType.OR, "com\\.example\\..*Entity");
+        Trigger otherTrigger = createTrigger("other", "java", AccumulationType.OR, "org\\.other\\..*");
+        Trigger andTrigger = createTrigger("and", "java", AccumulationType.AND, "com\\.example\\..*", "org\\..*");
+        Trigger expressionTrigger = createTrigger("expression", "java", AccumulationType.OR, "(?i)anything");
+        Trigger containerTrigger = new Trigger("container", "java", "container", StandardCharsets.UTF_8,
+            Lists.newArrayList(new Matcher("fqn", "org\\..*", null, AccumulationType.OR)),
+            Lists.newArrayList(new ContainerMatcher("fqn", "com\\.example", false)));
+        Trigger xmlTrigger = createTrigger("xml", "xml", AccumulationType.OR, "com\\.example\\..*");
+        TriggerIndex triggerIndex = new TriggerIndex(
+            Arrays.asList(entityTrigger, otherTrigger, andTrigger, expressionTrigger, containerTrigger, xmlTrigger));
+
+        // act
+        List<TriggerCandidate> candidates =
+            triggerIndex.getCandidates("java", new FqnMatcherInterpreter(), "com.example.MyEntity");
+
+        // assert
+        assertThat(triggerIndex.getTriggerTypes()).containsExactly("java", "xml");
+        assertThat(candidates.stream().map(c -> c.getTrigger().getId()).collect(Collectors.toList()))
+            .containsExactly("entity", "expression", "container");
+        assertThat(candidates.get(2).matchersMayMatch()).isFalse();
+        assertThat(candidates.get(2).getContainerMatchers()).hasSize(1);
+        assertThat(triggerIndex.mayMatch(otherTrigger, new FqnMatcherInterpreter(), "org.other.Foo")).isTrue();
+    }
+
+    /**
+     * Creates a trigger with the given matchers of type fqn
+     * @param id
+     *            of the trigger
+     * @param type
+     *            of the trigger
+     * @param accumulationType
+     *            of all matchers
+     * @param fqnRegexs
+     *            values of the matchers
+     * @return the trigger
+     */
+    private Trigger createTrigger(String id, String type, AccumulationType accumulationType, String... fqnRegexs) {
+        List<Matcher> matchers = Arrays.stream(fqnRegexs)
+            .map(regex -> new Matcher("fqn", regex, null, accumulationType)).collect(Collectors.toList());
+        return new Trigger(id, type, id, StandardCharsets.UTF_8, matchers, null);
+    }
+
+    /** {@link MatcherInterpreter} matching regular expressions against string inputs */
+    private static class FqnMatcherInterpreter implements MatcherInterpreter {
+
+        @Override
+        public boolean matches(MatcherTo matcher) {
+            return matcher.getTarget().toString().matches(matcher.getValue());
+        }
+
+        @Override
+        public Map<String, String> resolveVariables(MatcherTo matcher,
+            List<VariableAssignmentTo> variableAssignments) {
+            return null;
+        }
+
+        @Override
+        public String getInputKey(String matcherType, Object matcherInput) {
+            return matcherInput.toString();
+        }
+
+        @Override
+        public String getInputKeyPrefix(String matcherType, String matcherValue) {
+            return StringUtil.getLiteralPrefix(matcherValue);
+        }
+    }
+}
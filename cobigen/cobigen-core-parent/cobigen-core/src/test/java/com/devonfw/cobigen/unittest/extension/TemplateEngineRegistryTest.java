@@ -0,0 +1,83 @@
+package com.devonfw.cobigen.unittest.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.impl.extension.TemplateEngineRegistry;
+
+/** Test suite for {@link TemplateEngineRegistry} */
+public class TemplateEngineRegistryTest {
+
+    static {
+        TemplateEngineRegistry.register(LegacyTemplateEngineStub.class, "Legacy");
+    }
+
+    /**
+     * Tests that engines bound to different template folders resolve templates from their own template folder,
+     * even if the template engine does not support binding to a template folder on its own
+     */
+    @Test
+    public void testGetEngineBindsLegacyEngineToTemplateFolder() {
+        // arrange
+        Path templateFolder = Paths.get("templates");
+        Path otherTemplateFolder = Paths.get("otherTemplates");
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return Paths.get("template.ftl");
+            }
+        };
+
+        // act
+        TextTemplateEngine engine = TemplateEngineRegistry.getEngine("Legacy", templateFolder);
+        TextTemplateEngine otherEngine = TemplateEngineRegistry.getEngine("Legacy", otherTemplateFolder);
+        StringWriter out = new StringWriter();
+        engine.process(template, new HashMap<>(), out, "UTF-8");
+        otherEngine.process(template, new HashMap<>(), out, "UTF-8");
+        engine.process(template, new HashMap<>(), out, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString(templateFolder + ";" + otherTemplateFolder + ";" + templateFolder + ";");
+    }
+
+    /** Template engine just supporting to set the template folder of its single instance */
+    public static class LegacyTemplateEngineStub implements TextTemplateEngine {
+
+        /** The current template folder */
+        private Path templateFolderPath;
+
+        @Override
+        public String getTemplateFileEnding() {
+            return ".ftl";
+        }
+
+        @Override
+        public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
+            try {
+                out.write(templateFolderPath + ";");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void setTemplateFolder(Path templateFolderPath) {
+            this.templateFolderPath = templateFolderPath;
+        }
+    }
+}
@@ -0,0 +1 @@
+valid
\ No newline at end of file
@@ -12,7 +12,9 @@ import com.google.common.collect.Lists;
 
 /** Plug-in activator to be registered to the PluginRegistry of CobiGen by any client. */
 @Activation(byFileExtension = { JavaInputReader.VALID_EXTENSION },
-    byMergeStrategy = { JavaPluginActivator.JAVAMERGE, JavaPluginActivator.JAVAMERGE_OVERRIDE }, byFolder = true)
+    byMergeStrategy = { JavaPluginActivator.JAVAMERGE, JavaPluginActivator.JAVAMERGE_OVERRIDE,
+        JavaPluginActivator.JAVAMERGE_SPLICE, JavaPluginActivator.JAVAMERGE_OVERRIDE_SPLICE },
+    byFolder = true)
 public class JavaPluginActivator implements GeneratorPluginActivator {
 
     /** Merge Strategy name for simple java merging (prefer patch) */
@@ -21,11 +23,19 @@ public class JavaPluginActivator implements GeneratorPluginActivator {
     /** Merge Strategy name for simple java merging (prefer base) */
     static final String JAVAMERGE = "javamerge";
 
+    /** Merge Strategy name for java merging writing just the changes into the base file (prefer patch) */
+    static final String JAVAMERGE_OVERRIDE_SPLICE = "javamerge_override_splice";
+
+    /** Merge Strategy name for java merging writing just the changes into the base file (prefer base) */
+    static final String JAVAMERGE_SPLICE = "javamerge_splice";
+
     @Override
     public List<Merger> bindMerger() {
         List<Merger> merger = Lists.newLinkedList();
         merger.add(new JavaMerger(JAVAMERGE, false));
         merger.add(new JavaMerger(JAVAMERGE_OVERRIDE, true));
+        merger.add(new JavaMerger(JAVAMERGE_SPLICE, false, true));
+        merger.add(new JavaMerger(JAVAMERGE_OVERRIDE_SPLICE, true, true));
         return merger;
     }
 
@@ -0,0 +1,250 @@
+package com.devonfw.cobigen.javaplugin.inputreader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.javaplugin.inputreader.to.PackageFolder;
+import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableClassLibraryBuilder;
+import com.thoughtworks.qdox.library.AbstractClassLibrary;
+import com.thoughtworks.qdox.library.ClassLibraryBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaSource;
+
+/**
+ * Context of a java project to read many java inputs of the same project with. The class path of the project is
+ * registered once and a single class loader is kept for all inputs, which remembers the classes not found to
+ * not scan the class path for them again. Pass the context as additional argument to
+ * {@link JavaInputReader#read(Path, Charset, Object...)} or use {@link #read(Path, Charset)} directly. The
+ * context is thread-safe and should be closed if not needed anymore to release the class path.
+ */
+public class JavaInputContext implements Closeable {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(JavaInputContext.class);
+
+    /** Class loader of the project */
+    private final NegativeCachingClassLoader classLoader;
+
+    /**
+     * Class libraries resolving types by the default class loaders and the project's class loader set up once
+     * per thread, as class libraries are not thread-safe. Tracked for all threads to release them on close.
+     */
+    private final Map<Thread, AbstractClassLibrary> classLibraries =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** States whether the context has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Creates a new context for a project with the given class path. Classes not found on the class path are
+     * loaded by the class loader of the java plug-in.
+     * @param classPath
+     *            class path entries of the project, i.e. folders or jar files
+     */
+    public JavaInputContext(Collection<Path> classPath) {
+        this(classPath, JavaInputContext.class.getClassLoader());
+    }
+
+    /**
+     * Creates a new context for a project with the given class path
+     * @param classPath
+     *            class path entries of the project, i.e. folders or jar files
+     * @param parent
+     *            class loader to load classes with, which are not found on the class path
+     */
+    public JavaInputContext(Collection<Path> classPath, ClassLoader parent) {
+        List<URL> urls = new ArrayList<>(classPath.size());
+        for (Path classPathEntry : classPath) {
+            try {
+                urls.add(classPathEntry.toUri().toURL());
+            } catch (MalformedURLException e) {
+                throw new CobiGenRuntimeException("Invalid class path entry " + classPathEntry, e);
+            }
+        }
+        classLoader = new NegativeCachingClassLoader(urls.toArray(new URL[urls.size()]), parent);
+    }
+
+    /**
+     * Creates a new context for a project, whose classes are loaded by the given class loader. The class loader
+     * will not be closed with the context.
+     * @param projectClassLoader
+     *            class loader of the project
+     */
+    public JavaInputContext(ClassLoader projectClassLoader) {
+        this(new ArrayList<>(), projectClassLoader);
+    }
+
+    /**
+     * Returns the class loader of the project, e.g. to be passed as additional argument to
+     * {@link JavaInputReader#read(Path, Charset, Object...)} for packages
+     * @return the class loader of the project
+     */
+    public ClassLoader getClassLoader() {
+        checkNotClosed();
+        return classLoader;
+    }
+
+    /**
+     * Loads the class of the given name by the project's class loader
+     * @param name
+     *            binary name of the class
+     * @return the loaded class or {@code null} if the class could not be found
+     */
+    public Class<?> loadClass(String name) {
+        checkNotClosed();
+        try {
+            return classLoader.loadClass(name);
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOG.debug("Could not load class {} by the project's class loader.", name);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the first class of the given java source file just as
+     * {@link JavaInputReader#read(Path, Charset, Object...)} does.
+     * @param path
+     *            java source file
+     * @param charset
+     *            {@link Charset} to read the file with
+     * @return an array of the parsed {@link JavaClass} and the loaded {@link Class} or just the parsed
+     *         {@link JavaClass} if the class could not be loaded
+     * @throws IOException
+     *             if the file could not be read
+     * @throws com.thoughtworks.qdox.parser.ParseException
+     *             if the file is not a valid java source file
+     */
+    public Object read(Path path, Charset charset) throws IOException {
+        JavaClass javaClass = readFirstJavaClass(path, charset);
+        Class<?> loadedClass = loadClass(javaClass.getBinaryName());
+        return loadedClass != null ? new Object[] { javaClass, loadedClass } : javaClass;
+    }
+
+    /**
+     * Creates the input of a package folder of the project
+     * @param path
+     *            the package's folder
+     * @param packageName
+     *            the package's name
+     * @return the {@link PackageFolder} resolving its classes by the project's class loader
+     */
+    public PackageFolder getPackageFolder(Path path, String packageName) {
+        return new PackageFolder(path.toUri(), packageName, getClassLoader());
+    }
+
+    /**
+     * Returns the first class of the given java source file, which will just be parsed if not already cached by
+     * the {@link JavaParseCache}. Types are resolved by the class library of the current thread.
+     * @param path
+     *            java source file
+     * @param charset
+     *            {@link Charset} to read the file with
+     * @return the first {@link JavaClass} of the file
+     * @throws IOException
+     *             if the file could not be read or does not declare any class
+     */
+    JavaClass readFirstJavaClass(Path path, Charset charset) throws IOException {
+        checkNotClosed();
+        JavaClass javaClass = JavaParseCache.getFirstJavaClass(path.toFile(), charset, classLoader, reader -> {
+            AbstractClassLibrary classLibrary =
+                classLibraries.computeIfAbsent(Thread.currentThread(), thread -> createClassLibrary());
+            JavaSource source = new ModifyableClassLibraryBuilder(classLibrary).addSource(reader);
+            return source != null && source.getClasses().size() > 0 ? source.getClasses().get(0) : null;
+        });
+        if (javaClass == null) {
+            throw new IOException("The file " + path + " does not declare any java class.");
+        }
+        return javaClass;
+    }
+
+    /**
+     * Closes the class loader of the project, if created by the context, and releases all cached lookups, i.e.
+     * the class libraries of all threads as well as the sources parsed by the context.
+     * @throws IOException
+     *             if the class path could not be released
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        classLibraries.clear();
+        JavaParseCache.invalidate(classLoader);
+        classLoader.unknownClasses.clear();
+        classLoader.close();
+    }
+
+    /**
+     * Creates a class library resolving classes with the default class loaders as well as the project's class
+     * loader
+     * @return the class library
+     */
+    private AbstractClassLibrary createClassLibrary() {
+        ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
+        classLibraryBuilder.appendDefaultClassLoaders();
+        classLibraryBuilder.appendClassLoader(classLoader);
+        return (AbstractClassLibrary) classLibraryBuilder.getClassLibrary();
+    }
+
+    /**
+     * Checks that the context is still open
+     */
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The java input context has already been closed.");
+        }
+    }
+
+    /**
+     * Class loader remembering the names of classes, which could not be found, such that neither the parent
+     * class loaders nor the class path are searched again for them.
+     */
+    private static final class NegativeCachingClassLoader extends URLClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        /** Names of the classes not found */
+        private final Set<String> unknownClasses = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Creates a new class loader
+         * @param urls
+         *            class path to load classes from
+         * @param parent
+         *            parent class loader
+         */
+        NegativeCachingClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (unknownClasses.contains(name)) {
+                throw new ClassNotFoundException(name);
+            }
+            try {
+                return super.loadClass(name, resolve);
+            } catch (ClassNotFoundException e) {
+                unknownClasses.add(name);
+                throw e;
+            }
+        }
+    }
+}
@@ -1,21 +1,31 @@
 package com.devonfw.cobigen.javaplugin.inputreader;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
@@ -23,12 +33,16 @@ import org.slf4j.LoggerFactory;
 
 import com.devonfw.cobigen.api.exception.InputReaderException;
 import com.devonfw.cobigen.api.extension.InputReader;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+import com.devonfw.cobigen.javaplugin.inputreader.to.JavaSourceFile;
 import com.devonfw.cobigen.javaplugin.inputreader.to.PackageFolder;
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableClassLibraryBuilder;
 import com.devonfw.cobigen.javaplugin.model.ModelConstant;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
+import com.thoughtworks.qdox.library.AbstractClassLibrary;
 import com.thoughtworks.qdox.library.ClassLibraryBuilder;
 import com.thoughtworks.qdox.model.JavaClass;
 import com.thoughtworks.qdox.model.JavaSource;
@@ -46,6 +60,20 @@ public class JavaInputReader implements InputReader {
     /** Logger instance */
     private static final Logger LOG = LoggerFactory.getLogger(JavaInputReader.class);
 
+    /** Minimal number of java source files to be parsed by a single thread */
+    private static final int MIN_FILES_PER_THREAD = 32;
+
+    /** Comments as well as string and character literals of java sources, which might contain any keywords */
+    private static final Pattern COMMENTS_AND_LITERALS =
+        Pattern.compile("/\\*.*?\\*/|//[^\\r\\n]*|\"(?:\\\\.|[^\"\\\\])*\"|'(?:\\\\.|[^'\\\\])*'", Pattern.DOTALL);
+
+    /** Package declaration of a java source */
+    private static final Pattern PACKAGE_DECLARATION = Pattern.compile("\\bpackage\\s+([\\w.]+)\\s*;");
+
+    /** Type declaration of a java source, the first one being the first top level type */
+    private static final Pattern TYPE_DECLARATION =
+        Pattern.compile("\\b(?:class|interface|enum)\\s+(\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*)");
+
     @Override
     public boolean isValidInput(Object input) {
 
@@ -79,26 +107,31 @@ public class JavaInputReader implements InputReader {
         return false;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Map<String, Object> createModel(Object o) {
+        return createModel(o, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> createModel(Object o, ModelUsageTo modelUsage) {
 
         if (o instanceof Class<?>) {
-            return new ReflectedJavaModelBuilder().createModel((Class<?>) o);
+            return new ReflectedJavaModelBuilder().createModel((Class<?>) o, modelUsage);
         }
         if (o instanceof JavaClass) {
-            return new ParsedJavaModelBuilder().createModel((JavaClass) o);
+            return new ParsedJavaModelBuilder().createModel((JavaClass) o, modelUsage);
         }
         if (o instanceof Object[] && isValidInput(o)) {
             Object[] inputArr = (Object[]) o;
             Object parsedModel;
             Object reflectionModel;
             if (inputArr[0] instanceof JavaClass) {
-                parsedModel = new ParsedJavaModelBuilder().createModel((JavaClass) inputArr[0]);
-                reflectionModel = new ReflectedJavaModelBuilder().createModel((Class<?>) inputArr[1]);
+                parsedModel = new ParsedJavaModelBuilder().createModel((JavaClass) inputArr[0], modelUsage);
+                reflectionModel = new ReflectedJavaModelBuilder().createModel((Class<?>) inputArr[1], modelUsage);
             } else {
-                parsedModel = new ParsedJavaModelBuilder().createModel((JavaClass) inputArr[1]);
-                reflectionModel = new ReflectedJavaModelBuilder().createModel((Class<?>) inputArr[0]);
+                parsedModel = new ParsedJavaModelBuilder().createModel((JavaClass) inputArr[1], modelUsage);
+                reflectionModel = new ReflectedJavaModelBuilder().createModel((Class<?>) inputArr[0], modelUsage);
             }
             return (Map<String, Object>) mergeModelsRecursively(parsedModel, reflectionModel);
         }
@@ -130,51 +163,228 @@ public class JavaInputReader implements InputReader {
         List<Object> javaClasses = new LinkedList<>();
         if (input instanceof PackageFolder) {
             File packageFolder = new File(((PackageFolder) input).getLocation());
+            ClassLoader containerClassloader = ((PackageFolder) input).getClassLoader();
             List<File> files = retrieveAllJavaSourceFiles(packageFolder, recursively);
-            for (File f : files) {
+            for (List<Object> parsedFiles : readInputObjectsInParallel(files, inputCharset, containerClassloader)) {
+                javaClasses.addAll(parsedFiles);
+            }
+        }
+        LOG.debug("{} java classes found!", javaClasses.size());
+        return javaClasses;
+    }
+
+    @Override
+    public Stream<Object> streamInputObjects(Object input, Charset inputCharset, boolean recursively) {
+        return streamInputObjects(input, inputCharset, recursively, preview -> true);
+    }
+
+    /**
+     * {@inheritDoc} The previews are {@link JavaSourceFile}s providing the full qualified name of the class
+     * inferred from the package name and the path of the file, such that sources not matching by name are not
+     * parsed at all. Sources, whose declared package or first type do not correspond to their path, are not
+     * previewed but always parsed.
+     */
+    @Override
+    public Stream<Object> streamInputObjects(Object input, Charset inputCharset, boolean recursively,
+        Predicate<Object> previewFilter) {
+        LOG.debug("Stream input objects for input {} {}", input, recursively ? "recursively" : "");
+        if (input instanceof PackageFolder) {
+            File packageFolder = new File(((PackageFolder) input).getLocation());
+            String packageName = ((PackageFolder) input).getPackageName();
+            ClassLoader containerClassloader = ((PackageFolder) input).getClassLoader();
+            // listing the files is cheap, so just parse each file once it is consumed. The class library is
+            // shared by all files of the stream, but just set up once the first file is consumed.
+            Supplier<AbstractClassLibrary> classLibrary =
+                Suppliers.memoize(() -> createClassLoaderLibrary(containerClassloader));
+            return retrieveAllJavaSourceFiles(packageFolder, recursively).stream()
+                .filter(f -> {
+                    String fqn = inferFullyQualifiedName(packageFolder, packageName, f);
+                    return !declaresType(f, inputCharset, fqn) || previewFilter.test(new JavaSourceFile(f, fqn));
+                })
+                .map(f -> readInputObject(f, inputCharset, containerClassloader, classLibrary))
+                .filter(Objects::nonNull);
+        }
+        return Stream.empty();
+    }
 
-                ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
-                classLibraryBuilder.appendDefaultClassLoaders();
-                ClassLoader containerClassloader = ((PackageFolder) input).getClassLoader();
+    /**
+     * Infers the full qualified name of the class declared by a java source file from its path relative to
+     * the package folder
+     * @param packageFolder
+     *            the package's folder
+     * @param packageName
+     *            the package's name
+     * @param file
+     *            java source file within the package's folder or its sub folders
+     * @return the full qualified name of the class as expected by the java conventions
+     */
+    private String inferFullyQualifiedName(File packageFolder, String packageName, File file) {
+        StringBuilder fqn = new StringBuilder();
+        if (packageName != null) {
+            fqn.append(packageName);
+        }
+        for (Path folder : packageFolder.toPath().relativize(file.getParentFile().toPath())) {
+            if (!folder.toString().isEmpty()) {
+                fqn.append(fqn.length() > 0 ? "." : "").append(folder);
+            }
+        }
+        return fqn.append(fqn.length() > 0 ? "." : "").append(FilenameUtils.getBaseName(file.getName())).toString();
+    }
+
+    /**
+     * Checks whether the given java source file declares the given package and first top level type, without
+     * parsing the file
+     * @param file
+     *            java source file
+     * @param inputCharset
+     *            {@link Charset} to be used to read the file
+     * @param fullyQualifiedName
+     *            the full qualified name of the first top level type expected to be declared by the file
+     * @return {@code true} if the file declares the expected package and first type, {@code false} if it
+     *         declares another package or type or if the file cannot be read
+     */
+    private boolean declaresType(File file, Charset inputCharset, String fullyQualifiedName) {
+        String content;
+        try {
+            content = new String(Files.readAllBytes(file.toPath()), inputCharset);
+        } catch (IOException e) {
+            LOG.debug("Could not read {} to preview it. Parsing it instead.", file, e);
+            return false;
+        }
+        content = COMMENTS_AND_LITERALS.matcher(content).replaceAll(" ");
+        Matcher packageDeclaration = PACKAGE_DECLARATION.matcher(content);
+        String packageName = packageDeclaration.find() ? packageDeclaration.group(1) + "." : "";
+        Matcher typeDeclaration = TYPE_DECLARATION.matcher(content);
+        return typeDeclaration.find() && fullyQualifiedName.equals(packageName + typeDeclaration.group(1));
+    }
+
+    /**
+     * Parses the given java source files in parallel. The files are split into consecutive partitions, each
+     * being parsed by a single thread sharing one class library for all files of the partition.
+     * @param files
+     *            java source files to be parsed
+     * @param inputCharset
+     *            {@link Charset} to be used to read the files
+     * @param containerClassloader
+     *            class loader of the container or {@code null} if there is none
+     * @return the input objects of each partition in the order of the given files
+     */
+    private List<List<Object>> readInputObjectsInParallel(List<File> files, Charset inputCharset,
+        ClassLoader containerClassloader) {
+
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(),
+            (files.size() + MIN_FILES_PER_THREAD - 1) / MIN_FILES_PER_THREAD);
+        if (threads <= 1) {
+            return Lists.<List<Object>> newArrayList(readInputObjects(files, inputCharset, containerClassloader));
+        }
+
+        List<Callable<List<Object>>> partitions = new ArrayList<>(threads);
+        for (List<File> partition : Lists.partition(new ArrayList<>(files), (files.size() + threads - 1) / threads)) {
+            partitions.add(() -> readInputObjects(partition, inputCharset, containerClassloader));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<List<Object>> inputObjects = new ArrayList<>(threads);
+            for (Future<List<Object>> partitionResult : executor.invokeAll(partitions)) {
+                inputObjects.add(partitionResult.get());
+            }
+            return inputObjects;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InputReaderException("Interrupted while parsing java sources.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new InputReaderException("Could not parse java sources.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses the given java source files one after another sharing one class library.
+     * @param files
+     *            java source files to be parsed
+     * @param inputCharset
+     *            {@link Charset} to be used to read the files
+     * @param containerClassloader
+     *            class loader of the container or {@code null} if there is none
+     * @return the input objects in the order of the given files
+     */
+    private List<Object> readInputObjects(List<File> files, Charset inputCharset, ClassLoader containerClassloader) {
+        Supplier<AbstractClassLibrary> classLibrary =
+            Suppliers.memoize(() -> createClassLoaderLibrary(containerClassloader));
+        List<Object> inputObjects = new ArrayList<>(files.size());
+        for (File file : files) {
+            Object inputObject = readInputObject(file, inputCharset, containerClassloader, classLibrary);
+            if (inputObject != null) {
+                inputObjects.add(inputObject);
+            }
+        }
+        return inputObjects;
+    }
+
+    /**
+     * Creates a class library resolving classes with the default class loaders as well as the given container
+     * class loader. Libraries are not thread-safe, so a library should just be shared by sources parsed in the
+     * same thread.
+     * @param containerClassloader
+     *            class loader of the container or {@code null} if there is none
+     * @return the class library
+     */
+    private AbstractClassLibrary createClassLoaderLibrary(ClassLoader containerClassloader) {
+        ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
+        classLibraryBuilder.appendDefaultClassLoaders();
+        if (containerClassloader != null) {
+            classLibraryBuilder.appendClassLoader(containerClassloader);
+        }
+        return (AbstractClassLibrary) classLibraryBuilder.getClassLibrary();
+    }
+
+    /**
+     * Parses the first class of the given java source file, if not already cached by the {@link JavaParseCache},
+     * and tries to load it with the given class loader.
+     * @param file
+     *            java source file to be parsed
+     * @param inputCharset
+     *            {@link Charset} to be used to read the file
+     * @param containerClassloader
+     *            class loader of the container or {@code null} if there is none
+     * @param classLibrary
+     *            supplier of the library to resolve classes with, which are not declared by the file itself
+     * @return the parsed {@link JavaClass}, an array of the parsed {@link JavaClass} and the loaded
+     *         {@link Class} if the class could be loaded, or {@code null} if the file does not contain any class
+     *         or could not be parsed
+     */
+    private Object readInputObject(File file, Charset inputCharset, ClassLoader containerClassloader,
+        Supplier<AbstractClassLibrary> classLibrary) {
+
+        try {
+            JavaClass javaClass = JavaParseCache.getFirstJavaClass(file, inputCharset, containerClassloader, reader -> {
+                // the sources of each file are kept in a separate library on top of the shared class library
+                JavaSource source = new ModifyableClassLibraryBuilder(classLibrary.get()).addSource(reader);
+                return source != null && source.getClasses().size() > 0 ? source.getClasses().get(0) : null;
+            });
+            if (javaClass != null) {
+                // try loading class
                 if (containerClassloader != null) {
-                    classLibraryBuilder.appendClassLoader(containerClassloader);
-                }
-                try {
-                    classLibraryBuilder.addSource(new InputStreamReader(new FileInputStream(f), inputCharset));
-                    JavaSource source = null;
-                    for (JavaSource s : classLibraryBuilder.getClassLibrary().getJavaSources()) {
-                        source = s;
-                        // only consider one class per file
-                        break;
+                    try {
+                        Class<?> loadedClass = containerClassloader.loadClass(javaClass.getCanonicalName());
+                        return new Object[] { javaClass, loadedClass };
+                    } catch (ClassNotFoundException e) {
+                        LOG.info("Could not load Java type '{}' with the containers class loader. "
+                            + "Just returning the parsed Java model.", javaClass.getCanonicalName());
+                        return javaClass;
                     }
-                    if (source != null) {
-                        // save cast as given by the customized builder
-                        if (source.getClasses().size() > 0) {
-                            JavaClass javaClass = source.getClasses().get(0);
-
-                            // try loading class
-                            if (containerClassloader != null) {
-                                try {
-                                    Class<?> loadedClass = containerClassloader.loadClass(javaClass.getCanonicalName());
-                                    javaClasses.add(new Object[] { javaClass, loadedClass });
-                                } catch (ClassNotFoundException e) {
-                                    LOG.info("Could not load Java type '{}' with the containers class loader. "
-                                        + "Just returning the parsed Java model.", javaClass.getCanonicalName());
-                                    javaClasses.add(javaClass);
-                                }
-                            } else {
-                                javaClasses.add(javaClass);
-                            }
-                        }
-                    }
-                } catch (IOException e) {
-                    LOG.error("The file {} could not be parsed as a java class", f.getAbsolutePath().toString(), e);
+                } else {
+                    return javaClass;
                 }
-
             }
+        } catch (IOException e) {
+            LOG.error("The file {} could not be parsed as a java class", file.getAbsolutePath().toString(), e);
         }
-        LOG.debug("{} java classes found!", javaClasses.size());
-        return javaClasses;
+        return null;
     }
 
     /**
@@ -272,96 +482,63 @@ public class JavaInputReader implements InputReader {
      * @return the merged model. Due to implementation restrictions a {@link Map} of {@link String} to
      *         {@link Object}
      */
-    @SuppressWarnings("unchecked")
     private Object mergeModelsRecursively(Object parsedModel, Object reflectionModel) {
+        // lazy model sections are merged on first access, possibly by multiple threads
+        return mergeModelsRecursively(parsedModel, reflectionModel,
+            Collections.synchronizedMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Merges two models recursively as described in {@link #mergeModelsRecursively(Object, Object)}. Model
+     * parts referenced multiple times, e.g. the fields being exposed by two keys, are just merged once.
+     * @param parsedModel
+     *            model created by parsing to be merged and preferred in case of conflicts
+     * @param reflectionModel
+     *            model created by reflection to be merged
+     * @param mergedModels
+     *            merged {@link Map Maps} and {@link List Lists} mapped by their parsed and reflected model parts,
+     *            both compared by identity. Has to be thread-safe as {@link LazyModel lazy model} sections are
+     *            merged on first access.
+     * @return the merged model
+     */
+    @SuppressWarnings("unchecked")
+    private Object mergeModelsRecursively(Object parsedModel, Object reflectionModel,
+        Map<Object, Map<Object, Object>> mergedModels) {
 
         if (parsedModel == null && reflectionModel == null) {
             return null;
         } else if (parsedModel == null) {
             return reflectionModel;
-        } else if (reflectionModel == null) {
+        } else if (reflectionModel == null || parsedModel == reflectionModel) {
             return parsedModel;
-        } else if (parsedModel.equals(reflectionModel)) {
+        }
+
+        boolean mergeable = parsedModel.getClass().equals(reflectionModel.getClass())
+            && (parsedModel instanceof Map || parsedModel instanceof List);
+        if (!mergeable && parsedModel.equals(reflectionModel)) {
             return parsedModel;
         }
 
         if (parsedModel.getClass().equals(reflectionModel.getClass())) {
-            if (parsedModel instanceof Map && reflectionModel instanceof Map) {
-                Map<String, Object> mergedModel = Maps.newHashMap();
-                Map<String, Object> model1Map = (Map<String, Object>) parsedModel;
-                Map<String, Object> model2Map = (Map<String, Object>) reflectionModel;
-
-                Set<String> union = Sets.newHashSet(model1Map.keySet());
-                union.addAll(model2Map.keySet());
-                for (String unionKey : union) {
-                    if (model1Map.containsKey(unionKey) && model2Map.containsKey(unionKey)) {
-                        // Recursively merge equal keys
-                        mergedModel.put(unionKey,
-                            mergeModelsRecursively(model1Map.get(unionKey), model2Map.get(unionKey)));
-                    } else if (model1Map.containsKey(unionKey)) {
-                        mergedModel.put(unionKey, model1Map.get(unionKey));
+            if (parsedModel instanceof Map || parsedModel instanceof List) {
+                Map<Object, Object> mergedParsedModels = mergedModels.computeIfAbsent(parsedModel,
+                    k -> Collections.synchronizedMap(new IdentityHashMap<>()));
+                Object mergedModel = mergedParsedModels.get(reflectionModel);
+                if (mergedModel == null) {
+                    if (parsedModel instanceof LazyModel) {
+                        mergedModel = LazyModel.merge((LazyModel) parsedModel, (LazyModel) reflectionModel,
+                            (parsedSection, reflectionSection) -> mergeModelsRecursively(parsedSection,
+                                reflectionSection, mergedModels));
+                    } else if (parsedModel instanceof Map) {
+                        mergedModel = mergeMaps((Map<String, Object>) parsedModel,
+                            (Map<String, Object>) reflectionModel, mergedModels);
                     } else {
-                        mergedModel.put(unionKey, model2Map.get(unionKey));
+                        mergedModel = mergeLists((List<Object>) parsedModel, (List<Object>) reflectionModel,
+                            mergedModels);
                     }
+                    mergedParsedModels.put(reflectionModel, mergedModel);
                 }
                 return mergedModel;
-            }
-            // Case: List<Map<String, Object>> available in fields and methods
-            else if (parsedModel instanceof List && reflectionModel instanceof List) {
-                if (!((List<?>) parsedModel).isEmpty() && ((List<?>) parsedModel).get(0) instanceof Map
-                    || !((List<?>) reflectionModel).isEmpty() && ((List<?>) reflectionModel).get(0) instanceof Map) {
-                    List<Map<String, Object>> model1List = Lists.newLinkedList((List<Map<String, Object>>) parsedModel);
-                    List<Map<String, Object>> model2List =
-                        Lists.newLinkedList((List<Map<String, Object>>) reflectionModel);
-                    List<Object> mergedModel = Lists.newLinkedList();
-
-                    // recursively merge list entries. Match them by name attribute. This is currently valid
-                    // and might be adapted if there are greater model changes in future
-                    Iterator<Map<String, Object>> model1ListIt = model1List.iterator();
-                    while (model1ListIt.hasNext()) {
-                        Map<String, Object> model1Entry = model1ListIt.next();
-                        Iterator<Map<String, Object>> model2ListIt = model2List.iterator();
-                        while (model2ListIt.hasNext()) {
-                            Map<String, Object> model2Entry = model2ListIt.next();
-                            // valid merging for fields and methods
-                            if (model1Entry.get(ModelConstant.NAME) != null) {
-                                if (model1Entry.get(ModelConstant.NAME).equals(model2Entry.get(ModelConstant.NAME))) {
-                                    mergedModel.add(mergeModelsRecursively(model1Entry, model2Entry));
-
-                                    // remove both entries as they have been matched and recursively merged
-                                    model1ListIt.remove();
-                                    model2ListIt.remove();
-                                    break;
-                                }
-                            } else
-                            // this is the case for merging recursive annotation arrays
-                            if (model1Entry.size() == 1 && model2Entry.size() == 1) {
-                                mergeModelsRecursively(model1Entry.get(model1Entry.keySet().iterator().next()),
-                                    model2Entry.get(model2Entry.keySet().iterator().next()));
-                            } else {
-                                throw new IllegalStateException(
-                                    "Anything unintended happened. Please state an issue at GitHub or mail one of the developers");
-                            }
-                        }
-                    }
-
-                    // append not matched entries from list1 and list2
-                    mergedModel.addAll(model1List);
-                    mergedModel.addAll(model2List);
-                    return mergedModel;
-                }
-                // we will prefer parsed model if the values of the parsed result list are of type String.
-                // This is the case for annotation values. QDox will always return the expression,
-                // which is a assigned to the annotation's value, as a string.
-                else if (!((List<?>) parsedModel).isEmpty() && ((List<?>) parsedModel).get(0) instanceof String) {
-                    return parsedModel;
-                } else {
-                    if (reflectionModel instanceof Object[]) {
-                        return Lists.newLinkedList(Arrays.asList(reflectionModel));
-                    } else {
-                        return reflectionModel;
-                    }
-                }
             } else {
                 // any other type might not be merged. As the values are not equal, this might be a conflict,
                 // so take model1 as documented
@@ -377,6 +554,126 @@ public class JavaInputReader implements InputReader {
         }
     }
 
+    /**
+     * Merges two model {@link Map Maps} by recursively merging the values of equal keys.
+     * @param parsedModel
+     *            model created by parsing to be merged and preferred in case of conflicts
+     * @param reflectionModel
+     *            model created by reflection to be merged
+     * @param mergedModels
+     *            see {@link #mergeModelsRecursively(Object, Object, Map)}
+     * @return the merged {@link Map}
+     */
+    private Map<String, Object> mergeMaps(Map<String, Object> parsedModel, Map<String, Object> reflectionModel,
+        Map<Object, Map<Object, Object>> mergedModels) {
+
+        Map<String, Object> mergedModel =
+            Maps.newHashMapWithExpectedSize(parsedModel.size() + reflectionModel.size());
+        for (Entry<String, Object> parsedEntry : parsedModel.entrySet()) {
+            String key = parsedEntry.getKey();
+            if (reflectionModel.containsKey(key)) {
+                // Recursively merge equal keys
+                mergedModel.put(key,
+                    mergeModelsRecursively(parsedEntry.getValue(), reflectionModel.get(key), mergedModels));
+            } else {
+                mergedModel.put(key, parsedEntry.getValue());
+            }
+        }
+        for (Entry<String, Object> reflectionEntry : reflectionModel.entrySet()) {
+            if (!parsedModel.containsKey(reflectionEntry.getKey())) {
+                mergedModel.put(reflectionEntry.getKey(), reflectionEntry.getValue());
+            }
+        }
+        return mergedModel;
+    }
+
+    /**
+     * Merges two model {@link List Lists}. Lists of {@link Map Maps}, i.e. fields and methods, are merged by
+     * pairing the entries of equal {@link ModelConstant#NAME} in order and merging them recursively. The
+     * entries of the reflected list are indexed by their name, such that the merge takes linear time.
+     * @param parsedModel
+     *            model created by parsing to be merged and preferred in case of conflicts
+     * @param reflectionModel
+     *            model created by reflection to be merged
+     * @param mergedModels
+     *            see {@link #mergeModelsRecursively(Object, Object, Map)}
+     * @return the merged {@link List}
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> mergeLists(List<Object> parsedModel, List<Object> reflectionModel,
+        Map<Object, Map<Object, Object>> mergedModels) {
+
+        // Case: List<Map<String, Object>> available in fields and methods
+        if (!parsedModel.isEmpty() && parsedModel.get(0) instanceof Map
+            || !reflectionModel.isEmpty() && reflectionModel.get(0) instanceof Map) {
+            List<Map<String, Object>> model1List = new ArrayList<>((List<Map<String, Object>>) (List<?>) parsedModel);
+            List<Map<String, Object>> model2List =
+                new ArrayList<>((List<Map<String, Object>>) (List<?>) reflectionModel);
+            boolean[] model2Matched = new boolean[model2List.size()];
+
+            // index the entries of list2 by their name attribute, keeping the order of equally named entries
+            Map<Object, Deque<Integer>> model2Index = Maps.newHashMapWithExpectedSize(model2List.size());
+            for (int i = 0; i < model2List.size(); i++) {
+                Object name = model2List.get(i).get(ModelConstant.NAME);
+                if (name != null) {
+                    model2Index.computeIfAbsent(name, k -> new ArrayDeque<>()).add(i);
+                }
+            }
+
+            List<Object> mergedModel = new ArrayList<>(model1List.size() + model2List.size());
+            List<Map<String, Object>> model1Unmatched = new ArrayList<>();
+            // recursively merge list entries. Match them by name attribute. This is currently valid
+            // and might be adapted if there are greater model changes in future
+            for (Map<String, Object> model1Entry : model1List) {
+                Object name = model1Entry.get(ModelConstant.NAME);
+                // valid merging for fields and methods
+                if (name != null) {
+                    Deque<Integer> model2Candidates = model2Index.get(name);
+                    if (model2Candidates != null && !model2Candidates.isEmpty()) {
+                        int model2Pos = model2Candidates.poll();
+                        mergedModel.add(mergeModelsRecursively(model1Entry, model2List.get(model2Pos), mergedModels));
+                        model2Matched[model2Pos] = true;
+                    } else {
+                        model1Unmatched.add(model1Entry);
+                    }
+                } else {
+                    // this is the case for merging recursive annotation arrays
+                    for (int i = 0; i < model2List.size(); i++) {
+                        if (model2Matched[i]) {
+                            continue;
+                        }
+                        Map<String, Object> model2Entry = model2List.get(i);
+                        if (model1Entry.size() == 1 && model2Entry.size() == 1) {
+                            mergeModelsRecursively(model1Entry.values().iterator().next(),
+                                model2Entry.values().iterator().next(), mergedModels);
+                        } else {
+                            throw new IllegalStateException(
+                                "Anything unintended happened. Please state an issue at GitHub or mail one of the developers");
+                        }
+                    }
+                    model1Unmatched.add(model1Entry);
+                }
+            }
+
+            // append not matched entries from list1 and list2
+            mergedModel.addAll(model1Unmatched);
+            for (int i = 0; i < model2List.size(); i++) {
+                if (!model2Matched[i]) {
+                    mergedModel.add(model2List.get(i));
+                }
+            }
+            return mergedModel;
+        }
+        // we will prefer parsed model if the values of the parsed result list are of type String.
+        // This is the case for annotation values. QDox will always return the expression,
+        // which is a assigned to the annotation's value, as a string.
+        else if (!parsedModel.isEmpty() && parsedModel.get(0) instanceof String) {
+            return parsedModel;
+        } else {
+            return reflectionModel;
+        }
+    }
+
     /**
      * Reads the data at the specified path.
      * @param path
@@ -403,6 +700,12 @@ public class JavaInputReader implements InputReader {
                 inputCharset, Arrays.toString(additionalArguments));
         }
         ClassLoader classLoader = null;
+        JavaInputContext inputContext = null;
+        for (Object addArg : additionalArguments) {
+            if (inputContext == null && addArg instanceof JavaInputContext) {
+                inputContext = (JavaInputContext) addArg;
+            }
+        }
 
         if (Files.isDirectory(path)) {
 
@@ -414,10 +717,13 @@ public class JavaInputReader implements InputReader {
                     classLoader = (ClassLoader) addArg;
                 }
             }
+            if (classLoader == null && inputContext != null) {
+                classLoader = inputContext.getClassLoader();
+            }
             if (packageName == null || classLoader == null) {
                 throw new IllegalArgumentException(
-                    "Expected packageName:String and classLoader:ClassLoader as additional arguments but was "
-                        + toString(additionalArguments));
+                    "Expected packageName:String and classLoader:ClassLoader or context:JavaInputContext as "
+                        + "additional arguments but was " + toString(additionalArguments));
             }
             PackageFolder packageFolder = new PackageFolder(path.toUri(), packageName, classLoader);
             LOG.debug("Read {}.", packageFolder);
@@ -431,16 +737,19 @@ public class JavaInputReader implements InputReader {
                     classLoader = (ClassLoader) addArg;
                 }
             }
-            try (BufferedReader pathReader = new BufferedReader(new FileReader(path.toFile()))) {
-                // couldn't think of another way here... Java8 compliance would made this a lot easier due to
-                // lambdas
+            try {
+                if (clazz == null && classLoader == null && inputContext != null) {
+                    // the context keeps the class loader and its lookups warm across many files
+                    Object result = inputContext.read(path, Charset.defaultCharset());
+                    LOG.debug("Read {} by the java input context.", path);
+                    return result;
+                }
+                JavaClass firstJavaClass = readFirstJavaClass(path, classLoader);
                 if (clazz == null) {
                     if (classLoader == null) {
-                        JavaClass firstJavaClass = JavaParserUtil.getFirstJavaClass(pathReader);
                         LOG.debug("Read {}.", firstJavaClass);
                         return firstJavaClass;
                     } else {
-                        JavaClass firstJavaClass = JavaParserUtil.getFirstJavaClass(classLoader, pathReader);
                         try {
                             clazz = classLoader.loadClass(firstJavaClass.getCanonicalName());
                         } catch (ClassNotFoundException e) {
@@ -455,12 +764,7 @@ public class JavaInputReader implements InputReader {
                         return result;
                     }
                 } else {
-                    Object[] result = new Object[] { null, clazz };
-                    if (classLoader == null) {
-                        result[0] = JavaParserUtil.getFirstJavaClass(pathReader);
-                    } else {
-                        result[0] = JavaParserUtil.getFirstJavaClass(classLoader, pathReader);
-                    }
+                    Object[] result = new Object[] { firstJavaClass, clazz };
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Read {}.", Arrays.toString(result));
                     }
@@ -474,6 +778,23 @@ public class JavaInputReader implements InputReader {
         }
     }
 
+    /**
+     * Returns the first class of the given java source file, which will just be parsed if not already cached by
+     * the {@link JavaParseCache}. The file is read with the platform's default charset.
+     * @param path
+     *            java source file
+     * @param classLoader
+     *            class loader to resolve types with or {@code null} to just use the default class loaders
+     * @return the first {@link JavaClass} of the file
+     * @throws IOException
+     *             if the file could not be read
+     */
+    private JavaClass readFirstJavaClass(Path path, ClassLoader classLoader) throws IOException {
+        return JavaParseCache.getFirstJavaClass(path.toFile(), Charset.defaultCharset(), classLoader,
+            reader -> classLoader == null ? JavaParserUtil.getFirstJavaClass(reader)
+                : JavaParserUtil.getFirstJavaClass(classLoader, reader));
+    }
+
     @Override
     public boolean isMostLikelyReadable(Path path) {
         String fileExtension = FilenameUtils.getExtension(path.toString()).toLowerCase();
@@ -0,0 +1,154 @@
+package com.devonfw.cobigen.javaplugin.inputreader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Sets;
+
+/**
+ * Concurrent and bounded cache of the models built for java inputs, shared by all model builders of the same
+ * input type. Inputs are referenced weakly and compared by identity, such that a changed source, which is
+ * parsed to a new {@link com.thoughtworks.qdox.model.JavaClass JavaClass} instance by the
+ * {@link JavaParseCache}, results in a new model. The cached models are immutable except for their root map,
+ * which is copied for each request. Sections of {@link LazyModel lazy models} are frozen once computed. Models
+ * of inputs not being safe to be read concurrently, i.e. of parsed classes resolving types lazily by their
+ * class library, can be cached per thread, such that their lazy sections are just computed by the thread
+ * having requested the model.
+ * @param <T>
+ *            type of the inputs
+ */
+class JavaModelCache<T> {
+
+    /** Maximum number of inputs to cache models for */
+    private static final int MAX_CACHED_INPUTS = 1024;
+
+    /** Key of models built without model usage, i.e. complete models */
+    private static final Object COMPLETE_MODEL = new Object();
+
+    /** Types of model parts being immutable already */
+    private static final Set<Class<?>> FROZEN_TYPES = Sets.newHashSet(LazyModel.class,
+        Collections.unmodifiableMap(new HashMap<>()).getClass(),
+        Collections.unmodifiableList(new ArrayList<>()).getClass(),
+        Collections.unmodifiableList(new LinkedList<>()).getClass());
+
+    /**
+     * Models mapped by input and model usage. Values are softly referenced as models might reference their
+     * input and thus would prevent the input from being collected.
+     */
+    private final Cache<T, ConcurrentMap<Object, Map<String, Object>>> models =
+        CacheBuilder.newBuilder().weakKeys().softValues().maximumSize(MAX_CACHED_INPUTS).build();
+
+    /** States whether the models are cached per thread */
+    private final boolean perThread;
+
+    /**
+     * Creates a new cache
+     * @param perThread
+     *            {@code true} if the models should just be shared within the thread having built them,
+     *            {@code false} if the models can be shared across threads
+     */
+    JavaModelCache(boolean perThread) {
+        this.perThread = perThread;
+    }
+
+    /**
+     * Returns the model of the given input for the given model usage. The model will just be built if it is not
+     * already cached.
+     * @param input
+     *            the input to return the model for
+     * @param modelUsage
+     *            the parts of the model used or {@code null} if the complete model is requested
+     * @param modelBuilder
+     *            builds the model if not cached
+     * @return a copy of the root map of the cached model, the nested model being immutable
+     */
+    Map<String, Object> getModel(T input, ModelUsageTo modelUsage, Supplier<Map<String, Object>> modelBuilder) {
+
+        ConcurrentMap<Object, Map<String, Object>> inputModels;
+        try {
+            inputModels = models.get(input, ConcurrentHashMap::new);
+        } catch (ExecutionException e) {
+            throw new CobiGenRuntimeException("Could not create model cache for input " + input, e.getCause());
+        }
+        Object modelKey = modelUsage != null ? modelUsage : COMPLETE_MODEL;
+        if (perThread) {
+            modelKey = Arrays.asList(Thread.currentThread().getId(), modelKey);
+        }
+        Map<String, Object> model = inputModels.get(modelKey);
+        if (model == null) {
+            model = freeze(modelBuilder.get());
+            Map<String, Object> concurrentModel = inputModels.putIfAbsent(modelKey, model);
+            if (concurrentModel != null) {
+                model = concurrentModel;
+            }
+        }
+        return new HashMap<>(model);
+    }
+
+    /**
+     * Makes the given model immutable recursively by wrapping all its maps and lists unmodifiable. Model parts
+     * being immutable already are kept as they are.
+     * @param <V>
+     *            type of the model
+     * @param model
+     *            the model to be frozen
+     * @return the immutable model
+     */
+    static <V> V freeze(V model) {
+        return freeze(model, new IdentityHashMap<>());
+    }
+
+    /**
+     * Makes the given model immutable recursively by wrapping all its maps and lists unmodifiable. Model parts
+     * referenced multiple times stay shared.
+     * @param <V>
+     *            type of the model part
+     * @param modelPart
+     *            the model part to be frozen
+     * @param frozenParts
+     *            the frozen model parts already created mapped by their original model part
+     * @return the immutable model part
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V freeze(V modelPart, Map<Object, Object> frozenParts) {
+
+        if (!(modelPart instanceof Map) && !(modelPart instanceof List)
+            || FROZEN_TYPES.contains(modelPart.getClass())) {
+            return modelPart;
+        }
+        Object frozenPart = frozenParts.get(modelPart);
+        if (frozenPart != null) {
+            return (V) frozenPart;
+        }
+        if (modelPart instanceof Map) {
+            for (Entry<Object, Object> entry : ((Map<Object, Object>) modelPart).entrySet()) {
+                entry.setValue(freeze(entry.getValue(), frozenParts));
+            }
+            frozenPart = Collections.unmodifiableMap((Map<Object, Object>) modelPart);
+        } else {
+            for (ListIterator<Object> it = ((List<Object>) modelPart).listIterator(); it.hasNext();) {
+                it.set(freeze(it.next(), frozenParts));
+            }
+            frozenPart = Collections.unmodifiableList((List<Object>) modelPart);
+        }
+        frozenParts.put(modelPart, frozenPart);
+        return (V) frozenPart;
+    }
+}
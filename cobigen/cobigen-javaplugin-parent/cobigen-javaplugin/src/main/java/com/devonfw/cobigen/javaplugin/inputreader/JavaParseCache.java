@@ -0,0 +1,235 @@
+package com.devonfw.cobigen.javaplugin.inputreader;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Cache of parsed java sources shared by all {@link JavaInputReader}s. Sources are cached by their canonical
+ * path, charset and class loader and are revalidated by their size, last modification time and content hash
+ * on each request, such that unchanged sources are not parsed again.<br>
+ * <br>
+ * Parsed sources are cached per thread, just as the QDox class libraries resolving their types, as QDox models
+ * resolve types lazily by their class library, which is not thread-safe. A cached {@link JavaClass} is thus
+ * just returned to the thread it has been parsed by and has to be treated as read-only by that thread. Class
+ * loaders are referenced weakly by the cache keys, such that they are not kept alive by the cache.
+ */
+public class JavaParseCache {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(JavaParseCache.class);
+
+    /** Maximum number of parsed sources to be cached */
+    private static final int MAX_CACHED_SOURCES = 4096;
+
+    /**
+     * Least recently used parsed sources. Values are softly referenced as parsed sources keep their class
+     * library and thus their class loader alive.
+     */
+    private static final Cache<SourceKey, ParsedSource> PARSED_SOURCES =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SOURCES).softValues().build();
+
+    /**
+     * Returns the first {@link JavaClass} of the given java source file. The file will just be parsed if it has
+     * not been parsed by the current thread before with the same charset and class loader or if it has been
+     * changed since.
+     * @param file
+     *            java source file
+     * @param charset
+     *            {@link Charset} to read the file with
+     * @param classLoader
+     *            class loader the parser resolves types with or {@code null} if just the default class loaders
+     *            are used. Just serves as part of the cache key.
+     * @param parser
+     *            function parsing the file's contents to its first {@link JavaClass}, possibly returning
+     *            {@code null} if the file does not declare any class
+     * @return the first {@link JavaClass} of the file or {@code null} if there is none
+     * @throws IOException
+     *             if the file could not be read
+     */
+    public static JavaClass getFirstJavaClass(File file, Charset charset, ClassLoader classLoader,
+        Function<Reader, JavaClass> parser) throws IOException {
+
+        File canonicalFile = file.getCanonicalFile();
+        long size = canonicalFile.length();
+        long lastModified = canonicalFile.lastModified();
+        byte[] content = Files.readAllBytes(canonicalFile.toPath());
+        HashCode contentHash = Hashing.murmur3_128().hashBytes(content);
+
+        SourceKey key = new SourceKey(canonicalFile.getPath(), charset, classLoader, Thread.currentThread().getId());
+        ParsedSource parsedSource = PARSED_SOURCES.getIfPresent(key);
+        if (parsedSource != null && parsedSource.isUpToDate(size, lastModified, contentHash)) {
+            LOG.debug("Parsed java source {} retrieved from cache.", canonicalFile);
+            return parsedSource.javaClass;
+        }
+
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), charset)) {
+            JavaClass javaClass = parser.apply(reader);
+            if (javaClass != null) {
+                PARSED_SOURCES.put(key, new ParsedSource(size, lastModified, contentHash, javaClass));
+            } else {
+                PARSED_SOURCES.invalidate(key);
+            }
+            return javaClass;
+        }
+    }
+
+    /** Clears the cache, e.g. to release the memory of parsed sources no longer needed */
+    public static void clear() {
+        PARSED_SOURCES.invalidateAll();
+    }
+
+    /**
+     * Removes all sources parsed with the given class loader by any thread, e.g. to release the class loader
+     * once it is not used anymore. Sources parsed with class loaders already garbage collected are removed as
+     * well.
+     * @param classLoader
+     *            class loader the sources have been parsed with
+     */
+    public static void invalidate(ClassLoader classLoader) {
+        PARSED_SOURCES.asMap().keySet()
+            .removeIf(key -> key.getClassLoader() == classLoader || key.isClassLoaderCollected());
+    }
+
+    /** Key of a parsed source */
+    private static final class SourceKey {
+
+        /** Canonical path of the source file */
+        private final String canonicalPath;
+
+        /** Charset the source file has been read with */
+        private final Charset charset;
+
+        /** Class loader the source has been parsed with, compared by identity, or {@code null} if none */
+        private final WeakReference<ClassLoader> classLoader;
+
+        /** Identity hash code of the class loader */
+        private final int classLoaderHash;
+
+        /** ID of the thread having parsed the source */
+        private final long threadId;
+
+        /**
+         * Creates a new key
+         * @param canonicalPath
+         *            canonical path of the source file
+         * @param charset
+         *            charset the source file has been read with
+         * @param classLoader
+         *            class loader the source has been parsed with or {@code null} if none
+         * @param threadId
+         *            ID of the thread having parsed the source
+         */
+        SourceKey(String canonicalPath, Charset charset, ClassLoader classLoader, long threadId) {
+            this.canonicalPath = canonicalPath;
+            this.charset = charset;
+            this.classLoader = classLoader != null ? new WeakReference<>(classLoader) : null;
+            classLoaderHash = System.identityHashCode(classLoader);
+            this.threadId = threadId;
+        }
+
+        /**
+         * Returns the class loader the source has been parsed with
+         * @return the class loader or {@code null} if none or if it has been garbage collected
+         */
+        ClassLoader getClassLoader() {
+            return classLoader != null ? classLoader.get() : null;
+        }
+
+        /**
+         * Checks whether the class loader the source has been parsed with has been garbage collected
+         * @return {@code true} if the class loader has been garbage collected, {@code false} otherwise
+         */
+        boolean isClassLoaderCollected() {
+            return classLoader != null && classLoader.get() == null;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(canonicalPath, charset, classLoaderHash, threadId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SourceKey)) {
+                return false;
+            }
+            SourceKey other = (SourceKey) obj;
+            if (!canonicalPath.equals(other.canonicalPath) || !charset.equals(other.charset)
+                || threadId != other.threadId) {
+                return false;
+            }
+            if (classLoader == null || other.classLoader == null) {
+                return classLoader == other.classLoader;
+            }
+            // keys of garbage collected class loaders never match any other key
+            ClassLoader thisClassLoader = getClassLoader();
+            return thisClassLoader != null && thisClassLoader == other.getClassLoader();
+        }
+    }
+
+    /** A parsed source together with the state of the file it has been parsed from */
+    private static final class ParsedSource {
+
+        /** Size of the source file */
+        private final long size;
+
+        /** Last modification time of the source file */
+        private final long lastModified;
+
+        /** Hash of the source file's content */
+        private final HashCode contentHash;
+
+        /** First class declared by the source */
+        private final JavaClass javaClass;
+
+        /**
+         * Creates a new parsed source
+         * @param size
+         *            size of the source file
+         * @param lastModified
+         *            last modification time of the source file
+         * @param contentHash
+         *            hash of the source file's content
+         * @param javaClass
+         *            first class declared by the source
+         */
+        ParsedSource(long size, long lastModified, HashCode contentHash, JavaClass javaClass) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+            this.javaClass = javaClass;
+        }
+
+        /**
+         * Checks whether the source file did not change since it has been parsed
+         * @param currentSize
+         *            current size of the source file
+         * @param currentLastModified
+         *            current last modification time of the source file
+         * @param currentContentHash
+         *            current hash of the source file's content
+         * @return {@code true} if the parsed source is up to date, {@code false} otherwise
+         */
+        boolean isUpToDate(long currentSize, long currentLastModified, HashCode currentContentHash) {
+            return size == currentSize && lastModified == currentLastModified
+                && contentHash.equals(currentContentHash);
+        }
+    }
+}
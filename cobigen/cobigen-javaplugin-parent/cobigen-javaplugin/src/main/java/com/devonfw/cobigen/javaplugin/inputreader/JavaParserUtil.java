@@ -1,9 +1,11 @@
 package com.devonfw.cobigen.javaplugin.inputreader;
 
 import java.io.Reader;
+import java.lang.ref.SoftReference;
 
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableClassLibraryBuilder;
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableJavaClass;
+import com.thoughtworks.qdox.library.AbstractClassLibrary;
 import com.thoughtworks.qdox.library.ClassLibraryBuilder;
 import com.thoughtworks.qdox.model.JavaClass;
 import com.thoughtworks.qdox.model.JavaSource;
@@ -11,20 +13,59 @@ import com.thoughtworks.qdox.model.JavaSource;
 /** The {@link JavaParserUtil} class provides helper functions for generating parsed inputs */
 public class JavaParserUtil {
 
+    /**
+     * Class library of the default class loaders set up once per thread, as class libraries are not
+     * thread-safe. The library caches all classes resolved and thus stays warm across all sources parsed by the
+     * thread. As the library references the context class loader it has been set up for, it is just softly
+     * referenced and lives until the thread terminates, the context class loader of the thread changes,
+     * {@link #clearDefaultClassLibrary()} is called by the thread or the memory is needed otherwise.
+     */
+    private static final ThreadLocal<SoftReference<DefaultClassLibrary>> DEFAULT_CLASS_LIBRARY =
+        new ThreadLocal<>();
+
     /**
      * Returns the first {@link JavaClass} parsed by the given {@link Reader}, all upcoming parsed java files
-     * will be added to the class library
+     * will be added to the class library. Classes not declared by the sources are resolved by the default class
+     * loaders using a class library, which is shared by all sources parsed by the current thread. The sources
+     * themselves are not retained.
      *
      * @param reader
      *            {@link Reader}s which contents should be parsed
      * @return the parsed {@link JavaClass}
      */
     public static JavaClass getFirstJavaClass(Reader... reader) {
-        ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
-        classLibraryBuilder.appendDefaultClassLoaders();
+        ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder(getDefaultClassLibrary());
         return getFirstJavaClass(classLibraryBuilder, reader);
     }
 
+    /**
+     * Returns the class library of the default class loaders for the current thread. The library will be set
+     * up again if the context class loader of the thread changed or the library has been released.
+     * @return the class library of the default class loaders
+     */
+    private static AbstractClassLibrary getDefaultClassLibrary() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        SoftReference<DefaultClassLibrary> reference = DEFAULT_CLASS_LIBRARY.get();
+        DefaultClassLibrary defaultClassLibrary = reference != null ? reference.get() : null;
+        if (defaultClassLibrary == null || defaultClassLibrary.contextClassLoader != contextClassLoader) {
+            ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
+            classLibraryBuilder.appendDefaultClassLoaders();
+            defaultClassLibrary = new DefaultClassLibrary(contextClassLoader,
+                (AbstractClassLibrary) classLibraryBuilder.getClassLibrary());
+            DEFAULT_CLASS_LIBRARY.set(new SoftReference<>(defaultClassLibrary));
+        }
+        return defaultClassLibrary.classLibrary;
+    }
+
+    /**
+     * Releases the class library of the default class loaders of the current thread and thus the context
+     * class loader it has been set up for, e.g. before returning a thread to a pool. The library will be set up
+     * again on the next parse.
+     */
+    public static void clearDefaultClassLibrary() {
+        DEFAULT_CLASS_LIBRARY.remove();
+    }
+
     /**
      * Returns the first {@link JavaClass} parsed by the given {@link Reader}, all upcoming parsed java files
      * will be added to the class library. By passing a {@link ClassLoader}, you can take impact on the class
@@ -82,4 +123,26 @@ public class JavaParserUtil {
         String simpleType = new String(canonicalType).replaceAll("(([\\w]+\\.))", "");
         return simpleType;
     }
+
+    /** Class library of the default class loaders together with the context class loader it has been set up for */
+    private static final class DefaultClassLibrary {
+
+        /** Context class loader the library has been set up for */
+        private final ClassLoader contextClassLoader;
+
+        /** The class library */
+        private final AbstractClassLibrary classLibrary;
+
+        /**
+         * Creates a new default class library
+         * @param contextClassLoader
+         *            context class loader the library has been set up for
+         * @param classLibrary
+         *            the class library
+         */
+        DefaultClassLibrary(ClassLoader contextClassLoader, AbstractClassLibrary classLibrary) {
+            this.contextClassLoader = contextClassLoader;
+            this.classLibrary = classLibrary;
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package com.devonfw.cobigen.javaplugin.inputreader;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Immutable model {@link Map} computing its sections on first access, such that just the model parts read by
+ * the templates are built. Each section is computed once and {@link JavaModelCache#freeze(Object) frozen}
+ * afterwards. The sections of a model are computed one after another, as the underlying java class might not
+ * be safe to be read concurrently. Reading all entries, e.g. by {@link #entrySet()} or {@link #equals(Object)},
+ * computes all sections.
+ */
+class LazyModel extends AbstractMap<String, Object> {
+
+    /** Sections of the model mapped by their key */
+    private final Map<String, Section> sections = new LinkedHashMap<>();
+
+    /**
+     * Adds a value, which is already computed, to the model.
+     * @param key
+     *            the key of the value
+     * @param value
+     *            the value
+     * @return this model
+     */
+    LazyModel addValue(String key, Object value) {
+        return addSection(() -> value, key);
+    }
+
+    /**
+     * Adds a section to the model, which is just computed on first access.
+     * @param section
+     *            computes the section's value, which might also be {@code null}
+     * @param keys
+     *            the keys the section's value should be accessible by. All keys share the same value.
+     * @return this model
+     */
+    LazyModel addSection(Supplier<?> section, String... keys) {
+        Section lazySection = new Section(section, false);
+        for (String key : keys) {
+            sections.put(key, lazySection);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a section to the model, which is just computed on first access and just contained in the model if
+     * its value is not {@code null}.
+     * @param key
+     *            the key of the section
+     * @param section
+     *            computes the section's value
+     * @return this model
+     */
+    LazyModel addOptionalSection(String key, Supplier<?> section) {
+        sections.put(key, new Section(section, true));
+        return this;
+    }
+
+    /**
+     * Merges two lazy models without computing any section. Sections just contained in one of the models are
+     * taken as they are, whereas sections contained in both models are merged on first access.
+     * @param model1
+     *            first model to be merged
+     * @param model2
+     *            second model to be merged
+     * @param merger
+     *            merges the values of two sections of equal key
+     * @return the merged model
+     */
+    static LazyModel merge(LazyModel model1, LazyModel model2, BinaryOperator<Object> merger) {
+
+        LazyModel mergedModel = new LazyModel();
+        // sections shared by multiple keys in both models result in a shared merged section
+        Map<Section, Map<Section, Section>> mergedSections = new IdentityHashMap<>();
+        for (Entry<String, Section> section1 : model1.sections.entrySet()) {
+            Section section2 = model2.sections.get(section1.getKey());
+            if (section2 == null) {
+                mergedModel.sections.put(section1.getKey(), section1.getValue());
+            } else {
+                Section mergedSection =
+                    mergedSections.computeIfAbsent(section1.getValue(), k -> new IdentityHashMap<>())
+                        .computeIfAbsent(section2, k -> mergedModel.new Section(
+                            () -> merger.apply(section1.getValue().get(), section2.get()),
+                            section1.getValue().optional || section2.optional));
+                mergedModel.sections.put(section1.getKey(), mergedSection);
+            }
+        }
+        for (Entry<String, Section> section2 : model2.sections.entrySet()) {
+            mergedModel.sections.putIfAbsent(section2.getKey(), section2.getValue());
+        }
+        return mergedModel;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Section section = sections.get(key);
+        return section != null ? section.get() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Section section = sections.get(key);
+        return section != null && section.isPresent();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> entries = new LinkedHashSet<>();
+        for (Entry<String, Section> section : sections.entrySet()) {
+            if (section.getValue().isPresent()) {
+                entries.add(new SimpleImmutableEntry<>(section.getKey(), section.getValue().get()));
+            }
+        }
+        return Collections.unmodifiableSet(entries);
+    }
+
+    /** A section of the model, which is computed on first access */
+    private final class Section {
+
+        /** Computes the value of the section */
+        private final Supplier<?> supplier;
+
+        /** States whether the section is just contained in the model if its value is not {@code null} */
+        private final boolean optional;
+
+        /** States whether the value has been computed already */
+        private volatile boolean computed;
+
+        /** The computed and frozen value */
+        private Object value;
+
+        /**
+         * Creates a new section
+         * @param supplier
+         *            computes the value of the section
+         * @param optional
+         *            states whether the section is just contained in the model if its value is not {@code null}
+         */
+        Section(Supplier<?> supplier, boolean optional) {
+            this.supplier = supplier;
+            this.optional = optional;
+        }
+
+        /**
+         * Returns the value of the section, computing it on first access
+         * @return the frozen value
+         */
+        Object get() {
+            if (!computed) {
+                synchronized (LazyModel.this) {
+                    if (!computed) {
+                        value = JavaModelCache.freeze(supplier.get());
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Checks whether the section is contained in the model
+         * @return {@code true} if the section is not optional or its value is not {@code null}
+         */
+        boolean isPresent() {
+            return !optional || get() != null;
+        }
+    }
+}
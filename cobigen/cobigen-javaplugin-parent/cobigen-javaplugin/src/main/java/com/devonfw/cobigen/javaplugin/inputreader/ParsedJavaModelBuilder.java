@@ -10,6 +10,7 @@ import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.api.util.StringUtil;
 import com.devonfw.cobigen.javaplugin.model.ModelConstant;
 import com.google.common.collect.Lists;
@@ -27,11 +28,25 @@ import com.thoughtworks.qdox.model.JavaType;
 /** The {@link ParsedJavaModelBuilder} builds a model using QDox as a Java parser */
 public class ParsedJavaModelBuilder {
 
-    /** Cached input pojo class in order to avoid unnecessary efforts */
-    private JavaClass cachedPojo;
+    /** Models shared by all builders of the same thread mapped by their input class */
+    private static final JavaModelCache<JavaClass> MODELS = new JavaModelCache<>(true);
 
-    /** Cached model related to the cached input pojo */
-    private Map<String, Object> cachedModel;
+    /** Model usage of the models built or {@code null} if the complete models should be built */
+    private final ModelUsageTo modelUsage;
+
+    /** Creates a new builder */
+    public ParsedJavaModelBuilder() {
+        this(null);
+    }
+
+    /**
+     * Creates a new builder skipping all model parts not being used according to the given model usage.
+     * @param modelUsage
+     *            the parts of the models used or {@code null} if the complete models should be built
+     */
+    private ParsedJavaModelBuilder(ModelUsageTo modelUsage) {
+        this.modelUsage = modelUsage;
+    }
 
     /**
      * Creates the object model for the template instantiation.
@@ -43,52 +58,126 @@ public class ParsedJavaModelBuilder {
      *         ://freemarker.sourceforge.net/docs/dgui_quickstart.html
      */
     Map<String, Object> createModel(final JavaClass javaClass) {
+        return createModel(javaClass, null);
+    }
 
-        if (cachedPojo != null && cachedPojo.equals(javaClass)) {
-            return new HashMap<>(cachedModel);
-        }
-        cachedPojo = javaClass;
+    /**
+     * Creates the object model for the template instantiation skipping all model parts not being used
+     * according to the given model usage.
+     *
+     * @param javaClass
+     *            {@link Class} object of the pojo all information should be retrieved from
+     * @param modelUsage
+     *            the parts of the model used or {@code null} if the complete model should be built
+     * @return A {@link Map} of a {@link String} key to {@link Object} mapping keys as described before to the
+     *         corresponding information. Learn more about the FreeMarker data model at http
+     *         ://freemarker.sourceforge.net/docs/dgui_quickstart.html
+     */
+    Map<String, Object> createModel(final JavaClass javaClass, ModelUsageTo modelUsage) {
+
+        return MODELS.getModel(javaClass, modelUsage,
+            () -> new ParsedJavaModelBuilder(modelUsage).buildModel(javaClass));
+    }
 
-        cachedModel = new HashMap<>();
-        Map<String, Object> pojoModel = new HashMap<>();
-        pojoModel.put(ModelConstant.NAME, javaClass.getName());
+    /**
+     * Builds the object model for the template instantiation skipping all model parts not being used
+     * according to the model usage of this builder. The sections of the pojo model are just extracted on first
+     * access.
+     *
+     * @param javaClass
+     *            {@link JavaClass} object of the pojo all information should be retrieved from
+     * @return the newly built model
+     */
+    private Map<String, Object> buildModel(final JavaClass javaClass) {
+
+        Map<String, Object> model = new HashMap<>();
+        LazyModel pojoModel = new LazyModel();
+        pojoModel.addValue(ModelConstant.NAME, javaClass.getName());
         if (javaClass.getPackage() != null) {
-            pojoModel.put(ModelConstant.PACKAGE, javaClass.getPackage().getName());
+            pojoModel.addValue(ModelConstant.PACKAGE, javaClass.getPackage().getName());
         } else {
-            pojoModel.put(ModelConstant.PACKAGE, "");
+            pojoModel.addValue(ModelConstant.PACKAGE, "");
+        }
+        pojoModel.addValue(ModelConstant.CANONICAL_NAME, javaClass.getCanonicalName());
+
+        if (isUsed(ModelConstant.JAVADOC)) {
+            pojoModel.addOptionalSection(ModelConstant.JAVADOC, () -> extractJavaDoc(javaClass));
         }
-        pojoModel.put(ModelConstant.CANONICAL_NAME, javaClass.getCanonicalName());
 
-        Map<String, Object> javaDoc = extractJavaDoc(javaClass);
-        if (javaDoc != null) {
-            pojoModel.put(ModelConstant.JAVADOC, javaDoc);
+        if (isUsed(ModelConstant.ANNOTATIONS)) {
+            pojoModel.addSection(() -> {
+                Map<String, Object> annotations = new HashMap<>();
+                extractAnnotationsRecursively(annotations, javaClass.getAnnotations());
+                return annotations;
+            }, ModelConstant.ANNOTATIONS);
         }
 
-        Map<String, Object> annotations = new HashMap<>();
-        extractAnnotationsRecursively(annotations, javaClass.getAnnotations());
-        pojoModel.put(ModelConstant.ANNOTATIONS, annotations);
+        pojoModel.addSection(() -> {
+            List<Map<String, Object>> fields = extractFields(javaClass);
+            if (isFieldPropertyUsed("isId")) {
+                determinePojoIds(javaClass, fields);
+            }
+            if (isFieldPropertyUsed(ModelConstant.ANNOTATIONS)) {
+                collectAnnotations(javaClass, fields);
+            }
+            return fields;
+        }, ModelConstant.FIELDS_DEPRECATED, ModelConstant.FIELDS);
+
+        if (isUsed(ModelConstant.METHOD_ACCESSIBLE_FIELDS)) {
+            pojoModel.addSection(() -> {
+                List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(javaClass);
+                if (isUsed(ModelConstant.METHOD_ACCESSIBLE_FIELDS, "isId")) {
+                    determinePojoIds(javaClass, accessibleAttributes);
+                }
+                if (isUsed(ModelConstant.METHOD_ACCESSIBLE_FIELDS, ModelConstant.ANNOTATIONS)) {
+                    collectAnnotations(javaClass, accessibleAttributes);
+                }
+                return accessibleAttributes;
+            }, ModelConstant.METHOD_ACCESSIBLE_FIELDS);
+        }
 
-        List<Map<String, Object>> fields = extractFields(javaClass);
-        pojoModel.put(ModelConstant.FIELDS_DEPRECATED, fields);
-        pojoModel.put(ModelConstant.FIELDS, fields);
-        determinePojoIds(javaClass, fields);
-        collectAnnotations(javaClass, fields);
+        if (isUsed(ModelConstant.EXTENDED_TYPE)) {
+            pojoModel.addSection(() -> extractSuperclass(javaClass), ModelConstant.EXTENDED_TYPE);
+        }
 
-        List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(javaClass);
-        pojoModel.put(ModelConstant.METHOD_ACCESSIBLE_FIELDS, accessibleAttributes);
-        determinePojoIds(javaClass, accessibleAttributes);
-        collectAnnotations(javaClass, accessibleAttributes);
+        if (isUsed(ModelConstant.IMPLEMENTED_TYPES)) {
+            pojoModel.addSection(() -> extractInterfaces(javaClass), ModelConstant.IMPLEMENTED_TYPES);
+        }
 
-        Map<String, Object> superclass = extractSuperclass(javaClass);
-        pojoModel.put(ModelConstant.EXTENDED_TYPE, superclass);
+        if (isUsed(ModelConstant.METHODS)) {
+            pojoModel.addSection(() -> extractMethods(javaClass), ModelConstant.METHODS);
+        }
+        model.put(ModelConstant.MODEL_ROOT, pojoModel);
 
-        List<Map<String, Object>> interfaces = extractInterfaces(javaClass);
-        pojoModel.put(ModelConstant.IMPLEMENTED_TYPES, interfaces);
+        return model;
+    }
 
-        pojoModel.put(ModelConstant.METHODS, extractMethods(javaClass));
-        cachedModel.put(ModelConstant.MODEL_ROOT, pojoModel);
+    /**
+     * Checks whether the model part addressed by the given keys relative to the {@link ModelConstant#MODEL_ROOT
+     * model root} is used and thus has to be built.
+     * @param keys
+     *            to be traversed starting at the model root
+     * @return {@code true} if the model part is used or the model usage is unknown, {@code false} otherwise
+     */
+    private boolean isUsed(String... keys) {
+        if (modelUsage == null) {
+            return true;
+        }
+        String[] path = new String[keys.length + 1];
+        path[0] = ModelConstant.MODEL_ROOT;
+        System.arraycopy(keys, 0, path, 1, keys.length);
+        return modelUsage.isUsed(ModelUsageTo.path(path));
+    }
 
-        return new HashMap<>(cachedModel);
+    /**
+     * Checks whether the given property of the fields is used by any of the field lists exposed
+     * @param property
+     *            the field property to be checked
+     * @return {@code true} if the field property is used or the model usage is unknown, {@code false}
+     *         otherwise
+     */
+    private boolean isFieldPropertyUsed(String property) {
+        return isUsed(ModelConstant.FIELDS, property) || isUsed(ModelConstant.FIELDS_DEPRECATED, property);
     }
 
     /**
@@ -122,15 +211,17 @@ public class ParsedJavaModelBuilder {
         for (JavaMethod method : javaClass.getMethods()) {
             Map<String, Object> methodAttributes = new HashMap<>();
             methodAttributes.put(ModelConstant.NAME, method.getName());
-            if (method.getComment() != null) {
+            if (method.getComment() != null && isUsed(ModelConstant.METHODS, ModelConstant.JAVADOC)) {
                 Map<String, Object> javaDoc = extractJavaDoc(method);
                 if (javaDoc != null) {
                     methodAttributes.put(ModelConstant.JAVADOC, javaDoc);
                 }
             }
-            Map<String, Object> annotations = new HashMap<>();
-            extractAnnotationsRecursively(annotations, method.getAnnotations());
-            methodAttributes.put(ModelConstant.ANNOTATIONS, annotations);
+            if (isUsed(ModelConstant.METHODS, ModelConstant.ANNOTATIONS)) {
+                Map<String, Object> annotations = new HashMap<>();
+                extractAnnotationsRecursively(annotations, method.getAnnotations());
+                methodAttributes.put(ModelConstant.ANNOTATIONS, annotations);
+            }
             methods.add(methodAttributes);
         }
         return methods;
@@ -174,7 +265,7 @@ public class ParsedJavaModelBuilder {
         fieldValues.put(ModelConstant.TYPE, JavaParserUtil.resolveToSimpleType(field.getGenericValue()));
         fieldValues.put(ModelConstant.CANONICAL_TYPE, field.getGenericCanonicalName());
 
-        if (annotatedElement != null) {
+        if (annotatedElement != null && isFieldPropertyUsed(ModelConstant.JAVADOC)) {
             Map<String, Object> javaDoc = extractJavaDoc(annotatedElement);
             if (javaDoc != null) {
                 fieldValues.put(ModelConstant.JAVADOC, javaDoc);
@@ -206,9 +297,11 @@ public class ParsedJavaModelBuilder {
                 superclassModel.put(ModelConstant.PACKAGE, "");
             }
 
-            Map<String, Object> javaDoc = extractJavaDoc(superclass);
-            if (javaDoc != null) {
-                superclassModel.put(ModelConstant.JAVADOC, javaDoc);
+            if (isUsed(ModelConstant.EXTENDED_TYPE, ModelConstant.JAVADOC)) {
+                Map<String, Object> javaDoc = extractJavaDoc(superclass);
+                if (javaDoc != null) {
+                    superclassModel.put(ModelConstant.JAVADOC, javaDoc);
+                }
             }
             return superclassModel;
         } else {
@@ -237,9 +330,11 @@ public class ParsedJavaModelBuilder {
                 interfaceModel.put(ModelConstant.PACKAGE, "");
             }
 
-            Map<String, Object> javaDoc = extractJavaDoc(c);
-            if (javaDoc != null) {
-                interfaceModel.put(ModelConstant.JAVADOC, javaDoc);
+            if (isUsed(ModelConstant.IMPLEMENTED_TYPES, ModelConstant.JAVADOC)) {
+                Map<String, Object> javaDoc = extractJavaDoc(c);
+                if (javaDoc != null) {
+                    interfaceModel.put(ModelConstant.JAVADOC, javaDoc);
+                }
             }
             interfaceList.add(interfaceModel);
         }
@@ -26,6 +26,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.api.util.StringUtil;
 import com.devonfw.cobigen.javaplugin.model.ModelConstant;
 import com.google.common.collect.Lists;
@@ -39,11 +40,25 @@ public class ReflectedJavaModelBuilder {
     /** Assigning logger to JavaModelBuilder */
     private static final Logger LOG = LoggerFactory.getLogger(ReflectedJavaModelBuilder.class);
 
-    /** Cached input pojo class in order to avoid unnecessary efforts */
-    private Class<?> cachedPojo;
+    /** Models shared by all builders mapped by their input pojo class */
+    private static final JavaModelCache<Class<?>> MODELS = new JavaModelCache<>(false);
 
-    /** Cached model related to the cached input pojo */
-    private Map<String, Object> cachedModel;
+    /** Model usage of the models built or {@code null} if the complete models should be built */
+    private final ModelUsageTo modelUsage;
+
+    /** Creates a new builder */
+    public ReflectedJavaModelBuilder() {
+        this(null);
+    }
+
+    /**
+     * Creates a new builder skipping all model parts not being used according to the given model usage.
+     * @param modelUsage
+     *            the parts of the models used or {@code null} if the complete models should be built
+     */
+    private ReflectedJavaModelBuilder(ModelUsageTo modelUsage) {
+        this.modelUsage = modelUsage;
+    }
 
     /**
      * Creates the object model for the template instantiation.
@@ -55,48 +70,122 @@ public class ReflectedJavaModelBuilder {
      *         ://freemarker.sourceforge.net/docs/dgui_quickstart.html
      */
     Map<String, Object> createModel(final Class<?> pojo) {
+        return createModel(pojo, null);
+    }
 
-        if (cachedPojo != null && cachedPojo.equals(pojo)) {
-            return new HashMap<>(cachedModel);
-        }
-        cachedPojo = pojo;
+    /**
+     * Creates the object model for the template instantiation skipping all model parts not being used
+     * according to the given model usage.
+     *
+     * @param pojo
+     *            {@link Class} object of the pojo all information should be retrieved from
+     * @param modelUsage
+     *            the parts of the model used or {@code null} if the complete model should be built
+     * @return A {@link Map} of a {@link String} key to {@link Object} mapping keys as described before to the
+     *         corresponding information. Learn more about the FreeMarker data model at http
+     *         ://freemarker.sourceforge.net/docs/dgui_quickstart.html
+     */
+    Map<String, Object> createModel(final Class<?> pojo, ModelUsageTo modelUsage) {
+
+        return MODELS.getModel(pojo, modelUsage, () -> new ReflectedJavaModelBuilder(modelUsage).buildModel(pojo));
+    }
+
+    /**
+     * Builds the object model for the template instantiation skipping all model parts not being used
+     * according to the model usage of this builder. The sections of the pojo model are just extracted on first
+     * access.
+     *
+     * @param pojo
+     *            {@link Class} object of the pojo all information should be retrieved from
+     * @return the newly built model
+     */
+    private Map<String, Object> buildModel(final Class<?> pojo) {
 
-        cachedModel = new HashMap<>();
-        Map<String, Object> pojoModel = new HashMap<>();
-        pojoModel.put(ModelConstant.NAME, pojo.getSimpleName());
+        Map<String, Object> model = new HashMap<>();
+        LazyModel pojoModel = new LazyModel();
+        pojoModel.addValue(ModelConstant.NAME, pojo.getSimpleName());
         if (pojo.getPackage() != null) {
-            pojoModel.put(ModelConstant.PACKAGE, pojo.getPackage().getName());
+            pojoModel.addValue(ModelConstant.PACKAGE, pojo.getPackage().getName());
         } else {
-            pojoModel.put(ModelConstant.PACKAGE, "");
+            pojoModel.addValue(ModelConstant.PACKAGE, "");
+        }
+        pojoModel.addValue(ModelConstant.CANONICAL_NAME, pojo.getCanonicalName());
+
+        if (isUsed(ModelConstant.ANNOTATIONS)) {
+            pojoModel.addSection(() -> {
+                Map<String, Object> annotations = new HashMap<>();
+                extractAnnotationsRecursively(annotations, pojo.getAnnotations());
+                return annotations;
+            }, ModelConstant.ANNOTATIONS);
         }
-        pojoModel.put(ModelConstant.CANONICAL_NAME, pojo.getCanonicalName());
 
-        Map<String, Object> annotations = new HashMap<>();
-        extractAnnotationsRecursively(annotations, pojo.getAnnotations());
-        pojoModel.put(ModelConstant.ANNOTATIONS, annotations);
+        pojoModel.addSection(() -> {
+            List<Map<String, Object>> fields = extractFields(pojo);
+            if (isFieldPropertyUsed("isId")) {
+                determinePojoIds(pojo, fields);
+            }
+            if (isFieldPropertyUsed(ModelConstant.ANNOTATIONS)) {
+                collectAnnotations(pojo, fields);
+            }
+            return fields;
+        }, ModelConstant.FIELDS_DEPRECATED, ModelConstant.FIELDS);
+
+        if (isUsed(ModelConstant.METHOD_ACCESSIBLE_FIELDS)) {
+            pojoModel.addSection(() -> {
+                List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(pojo);
+                if (isUsed(ModelConstant.METHOD_ACCESSIBLE_FIELDS, "isId")) {
+                    determinePojoIds(pojo, accessibleAttributes);
+                }
+                if (isUsed(ModelConstant.METHOD_ACCESSIBLE_FIELDS, ModelConstant.ANNOTATIONS)) {
+                    collectAnnotations(pojo, accessibleAttributes);
+                }
+                return accessibleAttributes;
+            }, ModelConstant.METHOD_ACCESSIBLE_FIELDS);
+        }
 
-        List<Map<String, Object>> attributes = extractFields(pojo);
-        pojoModel.put(ModelConstant.FIELDS_DEPRECATED, attributes);
-        pojoModel.put(ModelConstant.FIELDS, attributes);
-        determinePojoIds(pojo, attributes);
-        collectAnnotations(pojo, attributes);
+        if (isUsed(ModelConstant.EXTENDED_TYPE)) {
+            pojoModel.addSection(() -> extractSuperclass(pojo), ModelConstant.EXTENDED_TYPE);
+        }
 
-        List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(pojo);
-        pojoModel.put(ModelConstant.METHOD_ACCESSIBLE_FIELDS, accessibleAttributes);
-        determinePojoIds(pojo, accessibleAttributes);
-        collectAnnotations(pojo, accessibleAttributes);
+        if (isUsed(ModelConstant.IMPLEMENTED_TYPES)) {
+            pojoModel.addSection(() -> extractInterfaces(pojo), ModelConstant.IMPLEMENTED_TYPES);
+        }
 
-        Map<String, Object> superclass = extractSuperclass(pojo);
-        pojoModel.put(ModelConstant.EXTENDED_TYPE, superclass);
+        if (isUsed(ModelConstant.METHODS)) {
+            pojoModel.addSection(() -> extractMethods(pojo), ModelConstant.METHODS);
+        }
+        model.put(ModelConstant.MODEL_ROOT, pojoModel);
+        model.put(ModelConstant.CLASS_OBJECT, pojo);
 
-        List<Map<String, Object>> interfaces = extractInterfaces(pojo);
-        pojoModel.put(ModelConstant.IMPLEMENTED_TYPES, interfaces);
+        return model;
+    }
 
-        pojoModel.put(ModelConstant.METHODS, extractMethods(pojo));
-        cachedModel.put(ModelConstant.MODEL_ROOT, pojoModel);
-        cachedModel.put(ModelConstant.CLASS_OBJECT, pojo);
+    /**
+     * Checks whether the model part addressed by the given keys relative to the {@link ModelConstant#MODEL_ROOT
+     * model root} is used and thus has to be built.
+     * @param keys
+     *            to be traversed starting at the model root
+     * @return {@code true} if the model part is used or the model usage is unknown, {@code false} otherwise
+     */
+    private boolean isUsed(String... keys) {
+        if (modelUsage == null) {
+            return true;
+        }
+        String[] path = new String[keys.length + 1];
+        path[0] = ModelConstant.MODEL_ROOT;
+        System.arraycopy(keys, 0, path, 1, keys.length);
+        return modelUsage.isUsed(ModelUsageTo.path(path));
+    }
 
-        return new HashMap<>(cachedModel);
+    /**
+     * Checks whether the given property of the fields is used by any of the field lists exposed
+     * @param property
+     *            the field property to be checked
+     * @return {@code true} if the field property is used or the model usage is unknown, {@code false}
+     *         otherwise
+     */
+    private boolean isFieldPropertyUsed(String property) {
+        return isUsed(ModelConstant.FIELDS, property) || isUsed(ModelConstant.FIELDS_DEPRECATED, property);
     }
 
     /**
@@ -259,9 +348,11 @@ public class ReflectedJavaModelBuilder {
         for (Method method : pojo.getMethods()) {
             Map<String, Object> methodAttributes = new HashMap<>();
             methodAttributes.put(ModelConstant.NAME, method.getName());
-            Map<String, Object> annotations = new HashMap<>();
-            extractAnnotationsRecursively(annotations, method.getAnnotations());
-            methodAttributes.put(ModelConstant.ANNOTATIONS, annotations);
+            if (isUsed(ModelConstant.METHODS, ModelConstant.ANNOTATIONS)) {
+                Map<String, Object> annotations = new HashMap<>();
+                extractAnnotationsRecursively(annotations, method.getAnnotations());
+                methodAttributes.put(ModelConstant.ANNOTATIONS, annotations);
+            }
             methods.add(methodAttributes);
         }
         return methods;
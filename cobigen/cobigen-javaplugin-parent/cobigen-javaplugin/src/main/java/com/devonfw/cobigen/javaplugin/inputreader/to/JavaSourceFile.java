@@ -0,0 +1,49 @@
+package com.devonfw.cobigen.javaplugin.inputreader.to;
+
+import java.io.File;
+
+/**
+ * Preview of a java source file contained in a {@link PackageFolder}, which has not been parsed yet. The full
+ * qualified name of its class is inferred from the package name and the file's path.
+ */
+public class JavaSourceFile {
+
+    /** The java source file */
+    private File file;
+
+    /** Full qualified name of the class as inferred from the path */
+    private String fullyQualifiedName;
+
+    /**
+     * Creates a new preview of a java source file
+     * @param file
+     *            the java source file
+     * @param fullyQualifiedName
+     *            full qualified name of the class as inferred from the path
+     */
+    public JavaSourceFile(File file, String fullyQualifiedName) {
+        this.file = file;
+        this.fullyQualifiedName = fullyQualifiedName;
+    }
+
+    /**
+     * Returns the java source file
+     * @return the java source file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the full qualified name of the class as inferred from the package name and the file's path
+     * @return the full qualified name of the class
+     */
+    public String getFullyQualifiedName() {
+        return fullyQualifiedName;
+    }
+
+    @Override
+    public String toString() {
+        return "JavaSourceFile[fullyQualifiedName=" + fullyQualifiedName + ", file=" + file + "]";
+    }
+}
@@ -3,6 +3,7 @@ package com.devonfw.cobigen.javaplugin.matcher;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,6 +14,9 @@ import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.extension.MatcherInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.api.to.VariableAssignmentTo;
+import com.devonfw.cobigen.api.util.RegexUtil;
+import com.devonfw.cobigen.api.util.StringUtil;
+import com.devonfw.cobigen.javaplugin.inputreader.to.JavaSourceFile;
 import com.devonfw.cobigen.javaplugin.inputreader.to.PackageFolder;
 import com.devonfw.cobigen.javaplugin.matcher.resolver.TriggerExpressionResolver;
 import com.google.common.collect.Maps;
@@ -44,19 +48,38 @@ public class JavaMatcher implements MatcherInterpreter {
         REGEX
     }
 
+    /** Matcher types mapped case-insensitively by their name to avoid parsing them on each match */
+    private static final Map<String, MatcherType> MATCHER_TYPES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /** Variable types mapped case-insensitively by their name to avoid parsing them on each resolution */
+    private static final Map<String, VariableType> VARIABLE_TYPES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (MatcherType matcherType : MatcherType.values()) {
+            MATCHER_TYPES.put(matcherType.name(), matcherType);
+        }
+        for (VariableType variableType : VariableType.values()) {
+            VARIABLE_TYPES.put(variableType.name(), variableType);
+        }
+    }
+
     @Override
     public boolean matches(MatcherTo matcher) {
 
+        MatcherType matcherType = MATCHER_TYPES.get(matcher.getType());
+        if (matcherType == null) {
+            LOG.info("Matcher type '{}' not registered --> no match!", matcher.getType());
+            return false;
+        }
         try {
-            MatcherType matcherType = Enum.valueOf(MatcherType.class, matcher.getType().toUpperCase());
             switch (matcherType) {
             case FQN:
-                String fqn = getFqn(matcher);
+                String fqn = getFqn(matcher.getTarget());
                 LOG.debug("Matching input FQN {} against regex '{}'", fqn, matcher.getValue());
-                return fqn != null && fqn.matches(matcher.getValue());
+                return fqn != null && matcher.getValuePattern().matcher(fqn).matches();
             case PACKAGE:
-                return matcher.getTarget() instanceof PackageFolder
-                    && ((PackageFolder) matcher.getTarget()).getPackageName().matches(matcher.getValue());
+                return matcher.getTarget() instanceof PackageFolder && matcher.getValuePattern()
+                    .matcher(((PackageFolder) matcher.getTarget()).getPackageName()).matches();
             case EXPRESSION:
                 Object target = matcher.getTarget();
                 if (target instanceof Object[]) {
@@ -79,26 +102,68 @@ public class JavaMatcher implements MatcherInterpreter {
                 }
             }
         } catch (IllegalArgumentException e) {
-            LOG.info("Matcher type '{}' not registered --> no match!", matcher.getType());
+            LOG.info("Matcher '{}' of type '{}' could not be evaluated --> no match!", matcher.getValue(),
+                matcher.getType(), e);
         }
         return false;
     }
 
+    @Override
+    public String getInputKey(String matcherType, Object matcherInput) {
+
+        switch (getMatcherType(matcherType)) {
+        case FQN:
+            return getFqn(matcherInput);
+        case PACKAGE:
+            return matcherInput instanceof PackageFolder ? ((PackageFolder) matcherInput).getPackageName() : null;
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public String getInputKeyPrefix(String matcherType, String matcherValue) {
+
+        switch (getMatcherType(matcherType)) {
+        case FQN:
+        case PACKAGE:
+            return StringUtil.getLiteralPrefix(matcherValue);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Determines the {@link MatcherType} of the given matcher type name
+     * @param matcherType
+     *            name of the matcher type
+     * @return the {@link MatcherType} or {@link MatcherType#EXPRESSION} if the matcher type is not registered,
+     *         as expressions do not provide any input keys
+     */
+    private MatcherType getMatcherType(String matcherType) {
+        return MATCHER_TYPES.getOrDefault(matcherType, MatcherType.EXPRESSION);
+    }
+
     @Override
     public Map<String, String> resolveVariables(MatcherTo matcher, List<VariableAssignmentTo> variableAssignments)
         throws InvalidConfigurationException {
 
+        MatcherType matcherType = MATCHER_TYPES.get(matcher.getType());
+        if (matcherType == null) {
+            LOG.warn("Matcher type '{}' not registered --> no match!", matcher.getType());
+            return Maps.newHashMap();
+        }
         try {
-            MatcherType matcherType = Enum.valueOf(MatcherType.class, matcher.getType().toUpperCase());
             switch (matcherType) {
             case FQN:
-                String fqn = getFqn(matcher);
+                String fqn = getFqn(matcher.getTarget());
                 return getResolvedVariables(matcherType, matcher.getValue(), fqn, variableAssignments);
             default:
                 break;
             }
         } catch (IllegalArgumentException e) {
-            LOG.warn("Matcher type '{}' not registered --> no match!", matcher.getType());
+            LOG.warn("Variables of matcher '{}' of type '{}' could not be resolved.", matcher.getValue(),
+                matcher.getType(), e);
         }
         return Maps.newHashMap();
     }
@@ -106,13 +171,12 @@ public class JavaMatcher implements MatcherInterpreter {
     /**
      * Returns the full qualified name of the matchers input
      *
-     * @param matcher
-     *            {@link MatcherTo} to retrieve the input from
+     * @param target
+     *            the matchers input
      * @return the full qualified name of the matchers input
      */
-    private String getFqn(MatcherTo matcher) {
+    private String getFqn(Object target) {
 
-        Object target = matcher.getTarget();
         String fqn = null;
         if (target instanceof Object[]) {
             // in this case we get the java class and the java source, so it makes no differences
@@ -122,6 +186,9 @@ public class JavaMatcher implements MatcherInterpreter {
             fqn = ((Class<?>) target).getCanonicalName();
         } else if (target instanceof JavaClass) {
             fqn = ((JavaClass) target).getCanonicalName();
+        } else if (target instanceof JavaSourceFile) {
+            // preview of a source, which is not parsed yet
+            fqn = ((JavaSourceFile) target).getFullyQualifiedName();
         }
         return fqn;
     }
@@ -147,7 +214,10 @@ public class JavaMatcher implements MatcherInterpreter {
 
         Map<String, String> resolvedVariables = new HashMap<>();
         for (VariableAssignmentTo va : variableAssignments) {
-            VariableType variableType = Enum.valueOf(VariableType.class, va.getType().toUpperCase());
+            VariableType variableType = VARIABLE_TYPES.get(va.getType());
+            if (variableType == null) {
+                throw new IllegalArgumentException("Variable type '" + va.getType() + "' not registered.");
+            }
             switch (variableType) {
             case CONSTANT:
                 resolvedVariables.put(va.getVarName(), va.getValue());
@@ -180,7 +250,7 @@ public class JavaMatcher implements MatcherInterpreter {
     private String resolveRegexValue(MatcherType matcherType, String matcherValue, String stringToMatch,
         VariableAssignmentTo va) throws InvalidConfigurationException {
 
-        Pattern p = Pattern.compile(matcherValue);
+        Pattern p = RegexUtil.compile(matcherValue);
         Matcher m = p.matcher(stringToMatch);
 
         if (m != null) {
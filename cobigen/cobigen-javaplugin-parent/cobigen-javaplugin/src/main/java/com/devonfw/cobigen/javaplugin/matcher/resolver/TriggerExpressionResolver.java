@@ -1,17 +1,18 @@
 package com.devonfw.cobigen.javaplugin.matcher.resolver;
 
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.devonfw.cobigen.api.exception.UnknownExpressionException;
 import com.thoughtworks.qdox.model.JavaClass;
 
 /**
- * The {@link TriggerExpressionResolver} to resolve the matcher's values.
+ * The {@link TriggerExpressionResolver} to resolve the matcher's values. Expressions are compiled once and
+ * type hierarchies are resolved once per type.
  */
 public class TriggerExpressionResolver {
 
@@ -21,9 +22,10 @@ public class TriggerExpressionResolver {
     private Object pojo;
 
     /**
-     * Assigning logger to TriggerExpressionResolver
+     * Expressions compiled to predicates on the triggered POJO mapped by their source. Just a few distinct
+     * expressions are declared by the trigger configurations.
      */
-    private static final Logger LOG = LoggerFactory.getLogger(TriggerExpressionResolver.class);
+    private static final Map<String, Predicate<Object>> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
 
     /**
      * Pattern for 'instanceof' expression; syntax: "instanceof p.a.c.k.a.g.e.ClassName"
@@ -65,29 +67,41 @@ public class TriggerExpressionResolver {
      *         <code>false</code>, otherwise or if any exception occurred during the evaluation
      */
     public boolean evaluateExpression(String expression) {
+        return COMPILED_EXPRESSIONS.computeIfAbsent(expression, TriggerExpressionResolver::compile).test(pojo);
+    }
+
+    /**
+     * Compiles the given expression to a predicate on the triggered POJO
+     *
+     * @param expression
+     *            to be compiled
+     * @return the predicate evaluating the expression
+     * @throws UnknownExpressionException
+     *             if the expression is not supported
+     */
+    private static Predicate<Object> compile(String expression) {
         Matcher m = instanceOfPattern.matcher(expression);
         if (m.matches()) {
-            if (pojo instanceof Class<?>) {
-                try {
-                    return ((Class<?>) pojo).getClassLoader().loadClass(m.group(1)).isAssignableFrom((Class<?>) pojo);
-                } catch (ClassNotFoundException e) {
-                    LOG.info("Could not load class '{}' to resolve expression '{}'.", m.group(1), expression);
+            String typeName = m.group(1);
+            return pojo -> {
+                if (pojo instanceof Class<?>) {
+                    return TypeHierarchyCache.getSupertypes((Class<?>) pojo).contains(typeName);
+                } else if (pojo instanceof JavaClass) {
+                    return TypeHierarchyCache.getSupertypes((JavaClass) pojo).contains(typeName);
                 }
-            } else if (pojo instanceof JavaClass) {
-                return ((JavaClass) pojo).isA(m.group(1));
-            }
-        } else {
-            m = isAbstractPattern.matcher(expression);
-            if (m.matches()) {
+                return false;
+            };
+        } else if (isAbstractPattern.matcher(expression).matches()) {
+            return pojo -> {
                 if (pojo instanceof Class<?>) {
                     return Modifier.isAbstract(((Class<?>) pojo).getModifiers());
                 } else if (pojo instanceof JavaClass) {
                     return ((JavaClass) pojo).isAbstract();
                 }
-            } else {
-                throw new UnknownExpressionException("Unknown trigger expression: '" + expression + "'");
-            }
+                return false;
+            };
+        } else {
+            throw new UnknownExpressionException("Unknown trigger expression: '" + expression + "'");
         }
-        return false;
     }
 }
@@ -0,0 +1,110 @@
+package com.devonfw.cobigen.javaplugin.matcher.resolver;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Cache of the names of all super types of reflected {@link Class}es and parsed {@link JavaClass}es, such that
+ * the type hierarchy of an input just has to be walked once for all of its trigger expressions. The hierarchies
+ * are cached per class instance, i.e. per class loader respectively per parsed source, thus changed sources
+ * being parsed again will not be matched against outdated hierarchies. The hierarchy of a parsed class is walked
+ * while holding the lock of its class library, as QDox resolves super types lazily by the class library, which
+ * is not thread-safe, and parsed inputs might be matched by other threads than the one having parsed them.
+ */
+final class TypeHierarchyCache {
+
+    /** Maximum number of parsed classes to cache the hierarchy for */
+    private static final int MAX_CACHED_PARSED_CLASSES = 16384;
+
+    /** Binary names of the super types of reflected classes including the classes themselves */
+    private static final ClassValue<Set<String>> REFLECTED_SUPERTYPES = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> supertypes = new HashSet<>();
+            supertypes.add(type.getName());
+            if (type.getSuperclass() != null) {
+                // reuse the cached hierarchy of the super types
+                supertypes.addAll(get(type.getSuperclass()));
+            } else if (!type.isPrimitive()) {
+                // interfaces are assignable to Object as well
+                supertypes.add(Object.class.getName());
+            }
+            for (Class<?> interfaze : type.getInterfaces()) {
+                supertypes.addAll(get(interfaze));
+            }
+            return Collections.unmodifiableSet(supertypes);
+        }
+    };
+
+    /** Fully qualified names of the super types of parsed classes including the classes themselves */
+    private static final Cache<JavaClass, Set<String>> PARSED_SUPERTYPES =
+        CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_PARSED_CLASSES).build();
+
+    /**
+     * Not intended to be instantiated
+     */
+    private TypeHierarchyCache() {
+    }
+
+    /**
+     * Returns the names of all super types of the given reflected class
+     * @param type
+     *            the reflected class
+     * @return the binary names of the class, its super classes and all implemented interfaces
+     */
+    static Set<String> getSupertypes(Class<?> type) {
+        return REFLECTED_SUPERTYPES.get(type);
+    }
+
+    /**
+     * Returns the names of all super types of the given parsed class as considered by
+     * {@link JavaClass#isA(String)}
+     * @param type
+     *            the parsed class
+     * @return the fully qualified names of the class, its super classes and all implemented interfaces
+     */
+    static Set<String> getSupertypes(JavaClass type) {
+        Set<String> supertypes = PARSED_SUPERTYPES.getIfPresent(type);
+        if (supertypes == null) {
+            Object lock = type.getJavaClassLibrary() != null ? type.getJavaClassLibrary() : type;
+            synchronized (lock) {
+                supertypes = Collections.unmodifiableSet(collectSupertypes(type));
+            }
+            PARSED_SUPERTYPES.put(type, supertypes);
+        }
+        return supertypes;
+    }
+
+    /**
+     * Walks the type hierarchy of the given parsed class
+     * @param type
+     *            the parsed class
+     * @return the fully qualified names of the class, its super classes and all implemented interfaces
+     */
+    private static Set<String> collectSupertypes(JavaClass type) {
+        Set<String> supertypes = new HashSet<>();
+        Deque<JavaClass> pending = new ArrayDeque<>();
+        pending.push(type);
+        while (!pending.isEmpty()) {
+            JavaClass current = pending.pop();
+            // guards against cyclic hierarchies of invalid sources as well
+            if (!supertypes.add(current.getFullyQualifiedName())) {
+                continue;
+            }
+            for (JavaClass interfaze : current.getInterfaces()) {
+                pending.push(interfaze);
+            }
+            if (current.getSuperJavaClass() != null) {
+                pending.push(current.getSuperJavaClass());
+            }
+        }
+        return supertypes;
+    }
+}
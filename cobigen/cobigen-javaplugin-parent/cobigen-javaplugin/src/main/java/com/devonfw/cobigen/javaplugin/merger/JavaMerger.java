@@ -1,20 +1,22 @@
 package com.devonfw.cobigen.javaplugin.merger;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.devonfw.cobigen.api.exception.MergeException;
-import com.devonfw.cobigen.api.extension.Merger;
+import com.devonfw.cobigen.api.extension.BatchMerger;
 import com.devonfw.cobigen.api.util.StringUtil;
-import com.devonfw.cobigen.api.util.SystemUtil;
 import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableJavaClass;
 import com.thoughtworks.qdox.model.JavaClass;
@@ -30,7 +32,7 @@ import com.thoughtworks.qdox.parser.ParseException;
  *
  * @author mbrunnli (19.03.2013)
  */
-public class JavaMerger implements Merger {
+public class JavaMerger implements BatchMerger {
 
     /**
      * Merger Type to be registered
@@ -42,6 +44,11 @@ public class JavaMerger implements Merger {
      */
     private boolean patchOverrides;
 
+    /**
+     * States whether just the changed regions of the base file should be written
+     */
+    private boolean splice;
+
     /**
      * Creates a new {@link JavaMerger}
      *
@@ -54,8 +61,27 @@ public class JavaMerger implements Merger {
      */
     public JavaMerger(String type, boolean patchOverrides) {
 
+        this(type, patchOverrides, false);
+    }
+
+    /**
+     * Creates a new {@link JavaMerger}
+     *
+     * @param type
+     *            merger type
+     * @param patchOverrides
+     *            if <code>true</code>, conflicts will be resolved by using the patch contents<br>
+     *            if <code>false</code>, conflicts will be resolved by using the base contents
+     * @param splice
+     *            if <code>true</code>, just the added and replaced imports and members will be written into the
+     *            unchanged text of the base file if possible<br>
+     *            if <code>false</code>, the whole merged class will be written
+     */
+    public JavaMerger(String type, boolean patchOverrides, boolean splice) {
+
         this.type = type;
         this.patchOverrides = patchOverrides;
+        this.splice = splice;
     }
 
     @Override
@@ -67,16 +93,23 @@ public class JavaMerger implements Merger {
     @Override
     public String merge(File base, String patch, String targetCharset) throws MergeException {
 
+        return merge(base, Collections.singletonList(patch), targetCharset);
+    }
+
+    @Override
+    public String merge(File base, List<String> patches, String targetCharset) throws MergeException {
+
         ModifyableJavaClass baseClass;
+        String baseSource;
         String lineDelimiter;
         Path path = Paths.get(base.getAbsolutePath());
 
-        try (FileInputStream stream = new FileInputStream(path.toString());
-            BufferedInputStream bis = new BufferedInputStream(stream);
-            InputStreamReader reader = new InputStreamReader(bis, targetCharset)) {
-
-            baseClass = (ModifyableJavaClass) JavaParserUtil.getFirstJavaClass(reader);
-            lineDelimiter = SystemUtil.determineLineDelimiter(path, targetCharset);
+        try {
+            baseSource = new String(Files.readAllBytes(path), targetCharset);
+            try (StringReader reader = new StringReader(baseSource)) {
+                baseClass = (ModifyableJavaClass) JavaParserUtil.getFirstJavaClass(reader);
+            }
+            lineDelimiter = determineLineDelimiter(baseSource);
 
         } catch (IOException e) {
             throw new MergeException(base, "Cannot read base file.", e);
@@ -85,6 +118,39 @@ public class JavaMerger implements Merger {
                 + " / column: " + e.getColumn() + ": " + e.getMessage(), e);
         }
 
+        if (baseClass == null) {
+            throw new MergeException(base, "The base file does not declare a valid JavaClass.");
+        }
+
+        // the base file is parsed and written just once, the patches are merged one after another
+        JavaSourceSplicer splicer = splice ? new JavaSourceSplicer(baseClass) : null;
+        for (String patch : patches) {
+            merge(baseClass, parsePatch(base, patch));
+        }
+        if (splicer != null) {
+            // falls back to writing the whole class if the changes cannot be located in the base file
+            String mergedSource =
+                splicer.splice(baseSource, lineDelimiter != null ? lineDelimiter : System.lineSeparator());
+            if (mergedSource != null) {
+                return mergedSource;
+            }
+        }
+        return StringUtil.consolidateLineEndings(baseClass.getSource().getCodeBlock(), lineDelimiter);
+    }
+
+    /**
+     * Parses the given patch
+     *
+     * @param base
+     *            the base file the patch should be merged into
+     * @param patch
+     *            the patch contents
+     * @return the first class declared by the patch
+     * @throws MergeException
+     *             if the patch is not valid or does not declare a class
+     */
+    private ModifyableJavaClass parsePatch(File base, String patch) throws MergeException {
+
         ModifyableJavaClass patchClass;
         try (StringReader reader = new StringReader(patch)) {
 
@@ -94,14 +160,32 @@ public class JavaMerger implements Merger {
                 + " / column: " + e.getColumn() + ": " + e.getMessage(), e);
         }
 
-        if (baseClass == null) {
-            throw new MergeException(base, "The base file does not declare a valid JavaClass.");
-        } else if (patchClass == null) {
+        if (patchClass == null) {
             throw new MergeException(base, "The patch does not declare a valid JavaClass.");
         }
+        return patchClass;
+    }
 
-        ModifyableJavaClass mergedClass = merge(baseClass, patchClass);
-        return StringUtil.consolidateLineEndings(mergedClass.getSource().getCodeBlock(), lineDelimiter);
+    /**
+     * Determines the line delimiter of the given source just as
+     * {@link com.devonfw.cobigen.api.util.SystemUtil#determineLineDelimiter(Path, String)} does for files, i.e.
+     * by its first line break
+     *
+     * @param source
+     *            the source
+     * @return the line delimiter of the source or <code>null</code> if there is none
+     */
+    private static String determineLineDelimiter(String source) {
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\r') {
+                return i + 1 < source.length() && source.charAt(i + 1) == '\n' ? "\r\n" : "\r";
+            } else if (c == '\n') {
+                return "\n";
+            }
+        }
+        return null;
     }
 
     /**
@@ -141,11 +225,17 @@ public class JavaMerger implements Merger {
                 baseClass.setSuperClass(patchClass.getSuperClass());
             }
         } else {
-            List<JavaClass> baseClassInterfaces = baseClass.getInterfaces();
+            List<JavaClass> baseClassInterfaces = new ArrayList<>(baseClass.getInterfaces());
+            // types are equal if their fully qualified names are equal
+            Set<String> baseClassInterfaceNames = new HashSet<>();
+            for (JavaClass bClass : baseClassInterfaces) {
+                baseClassInterfaceNames.add(bClass.getFullyQualifiedName());
+            }
             for (JavaClass pClass : patchClass.getInterfaces()) {
                 // TODO funktioniert noch nicht, da super klassen nicht im QDox Modell sind
-                if (!baseClassInterfaces.contains(pClass) && !baseClass.isA(pClass)) {
+                if (!baseClassInterfaceNames.contains(pClass.getFullyQualifiedName()) && !baseClass.isA(pClass)) {
                     baseClassInterfaces.add(pClass);
+                    baseClassInterfaceNames.add(pClass.getFullyQualifiedName());
                 }
             }
             baseClass.setImplementz(baseClassInterfaces);
@@ -167,22 +257,23 @@ public class JavaMerger implements Merger {
      */
     private void mergeImports(ModifyableJavaClass baseClass, ModifyableJavaClass patchClass) {
 
+        List<String> baseImports = baseClass.getSource().getImports();
+        // positions of the first base import of each short type name
+        Map<String, Integer> baseImportIndex = new HashMap<>();
+        int position = 0;
+        for (String baseImport : baseImports) {
+            baseImportIndex.putIfAbsent(getShortTypeName(baseImport), position++);
+        }
         for (String patchImport : patchClass.getSource().getImports()) {
-            List<String> baseImports = baseClass.getSource().getImports();
-            String conflictingBaseImport = null;
-            for (String baseImport : baseImports) {
-                if (getShortTypeName(patchImport).equals(getShortTypeName(baseImport))) {
-                    conflictingBaseImport = baseImport;
-                    break;
-                }
-            }
+            String shortTypeName = getShortTypeName(patchImport);
+            Integer conflictingBaseImport = baseImportIndex.get(shortTypeName);
             if (conflictingBaseImport != null) {
                 if (patchOverrides) {
-                    int i = baseImports.indexOf(conflictingBaseImport);
-                    baseImports.set(i, patchImport);
+                    baseImports.set(conflictingBaseImport, patchImport);
                 } // else do not override
             } else {
-                baseClass.getSource().getImports().add(patchImport);
+                baseImportIndex.put(shortTypeName, baseImports.size());
+                baseImports.add(patchImport);
             }
         }
     }
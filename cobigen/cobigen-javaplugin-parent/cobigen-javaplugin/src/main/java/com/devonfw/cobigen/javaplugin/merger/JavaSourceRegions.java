@@ -0,0 +1,318 @@
+package com.devonfw.cobigen.javaplugin.merger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Text regions of the imports and of the members of the first top-level class declared by a java source. The
+ * source is just tokenized as far as needed to find the boundaries of these declarations, i.e. comments,
+ * string and character literals as well as nesting of braces and parentheses are respected. Braces within
+ * parentheses, e.g. of annotation values or lambda arguments, are not considered at all.
+ */
+class JavaSourceRegions {
+
+    /** The scanned source */
+    private final String source;
+
+    /** Offsets of the first character of each line */
+    private final int[] lineStarts;
+
+    /** Regions of the import declarations in order of declaration */
+    private final List<Region> imports = new ArrayList<>();
+
+    /** Regions of the class members in order of declaration */
+    private final List<Region> members = new ArrayList<>();
+
+    /** Offset behind the package declaration or -1 if there is none */
+    private int packageEnd = -1;
+
+    /** Offset behind the opening brace of the class body or -1 if not found */
+    private int bodyStart = -1;
+
+    /** Offset of the closing brace of the class body or -1 if not found */
+    private int bodyEnd = -1;
+
+    /**
+     * Creates and scans the regions of the given source
+     * @param source
+     *            java source to be scanned
+     */
+    private JavaSourceRegions(String source) {
+        this.source = source;
+        lineStarts = determineLineStarts(source);
+    }
+
+    /**
+     * Scans the given java source for the regions of its imports and of the members of its first class.
+     * @param source
+     *            java source to be scanned
+     * @return the regions found or {@code null} if the class body could not be determined
+     */
+    static JavaSourceRegions scan(String source) {
+        JavaSourceRegions regions = new JavaSourceRegions(source);
+        regions.scan();
+        return regions.bodyStart >= 0 && regions.bodyEnd >= 0 ? regions : null;
+    }
+
+    /**
+     * @return the regions of the import declarations in order of declaration
+     */
+    List<Region> getImports() {
+        return imports;
+    }
+
+    /**
+     * @return the regions of the class members in order of declaration. Leading java doc comments and
+     *         annotations are part of the member's region.
+     */
+    List<Region> getMembers() {
+        return members;
+    }
+
+    /**
+     * @return the offset behind the package declaration or -1 if there is none
+     */
+    int getPackageEnd() {
+        return packageEnd;
+    }
+
+    /**
+     * @return the offset behind the opening brace of the class body
+     */
+    int getBodyStart() {
+        return bodyStart;
+    }
+
+    /**
+     * Returns the index of the member region containing the given line
+     * @param line
+     *            the line number starting with 1
+     * @return the index of the member region or -1 if no or multiple member regions contain the line
+     */
+    int getMemberIndex(int line) {
+        int low = 0;
+        int high = members.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (members.get(mid).startLine <= line) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // high is the last member starting before or at the line
+        if (high < 0 || members.get(high).endLine < line
+            || high > 0 && members.get(high - 1).endLine >= line) {
+            return -1;
+        }
+        return high;
+    }
+
+    /**
+     * Returns the leading white spaces of the line, which contains the given offset
+     * @param offset
+     *            the offset
+     * @return the white spaces in front of the offset or {@code null} if there are other characters
+     */
+    String getIndentation(int offset) {
+        int lineStart = lineStarts[getLine(offset) - 1];
+        String indentation = source.substring(lineStart, offset);
+        return indentation.trim().isEmpty() ? indentation : null;
+    }
+
+    /**
+     * Tokenizes the source till the end of the body of the first class.
+     */
+    private void scan() {
+        int depth = 0;
+        int parentheses = 0;
+        int statementStart = -1;
+        int i = 0;
+        while (i < source.length()) {
+            int next = skipCommentOrLiteral(i);
+            if (next != i) {
+                // java doc comments belong to the following member
+                if (statementStart < 0 && depth == 1 && source.startsWith("/**", i)
+                    && !source.startsWith("/**/", i)) {
+                    statementStart = i;
+                }
+                i = next;
+                continue;
+            }
+            char c = source.charAt(i);
+            if (c == '(') {
+                parentheses++;
+            } else if (c == ')') {
+                parentheses--;
+            } else if (c == '{' && parentheses == 0) {
+                if (depth == 0) {
+                    bodyStart = i + 1;
+                    statementStart = -1;
+                } else if (depth == 1 && statementStart < 0) {
+                    statementStart = i;
+                }
+                depth++;
+            } else if (c == '}' && parentheses == 0) {
+                depth--;
+                if (depth == 0) {
+                    bodyEnd = i;
+                    return;
+                } else if (depth == 1 && statementStart >= 0) {
+                    int end = i + 1;
+                    int afterBlock = skipWhitespacesAndComments(end);
+                    if (afterBlock < source.length() && source.charAt(afterBlock) == ';') {
+                        end = afterBlock + 1;
+                    }
+                    members.add(new Region(statementStart, end));
+                    statementStart = -1;
+                    i = end;
+                    continue;
+                }
+            } else if (c == ';' && parentheses == 0 && depth <= 1) {
+                if (statementStart >= 0) {
+                    Region region = new Region(statementStart, i + 1);
+                    if (depth == 1) {
+                        members.add(region);
+                    } else if (startsWithKeyword(statementStart, "import")) {
+                        imports.add(region);
+                    } else if (startsWithKeyword(statementStart, "package")) {
+                        packageEnd = i + 1;
+                    }
+                }
+                statementStart = -1;
+            } else if (statementStart < 0 && depth <= 1 && !Character.isWhitespace(c)) {
+                statementStart = i;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Checks whether the source contains the given keyword at the given offset
+     * @param offset
+     *            the offset
+     * @param keyword
+     *            the keyword
+     * @return {@code true} if the keyword is followed by a white space
+     */
+    private boolean startsWithKeyword(int offset, String keyword) {
+        int end = offset + keyword.length();
+        return source.startsWith(keyword, offset) && end < source.length()
+            && Character.isWhitespace(source.charAt(end));
+    }
+
+    /**
+     * Skips all white spaces and comments starting at the given offset
+     * @param offset
+     *            the offset
+     * @return the offset of the first other character
+     */
+    private int skipWhitespacesAndComments(int offset) {
+        int i = offset;
+        while (i < source.length()) {
+            if (Character.isWhitespace(source.charAt(i))) {
+                i++;
+            } else if (source.startsWith("//", i) || source.startsWith("/*", i)) {
+                i = skipCommentOrLiteral(i);
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Skips the comment or literal starting at the given offset
+     * @param offset
+     *            the offset
+     * @return the offset behind the comment or literal or the given offset if there is none
+     */
+    private int skipCommentOrLiteral(int offset) {
+        if (source.startsWith("//", offset)) {
+            int end = source.indexOf('\n', offset);
+            return end < 0 ? source.length() : end;
+        } else if (source.startsWith("/*", offset)) {
+            int end = source.indexOf("*/", offset + 2);
+            return end < 0 ? source.length() : end + 2;
+        }
+        char quote = source.charAt(offset);
+        if (quote != '"' && quote != '\'') {
+            return offset;
+        }
+        int i = offset + 1;
+        while (i < source.length() && source.charAt(i) != quote) {
+            i += source.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(i + 1, source.length());
+    }
+
+    /**
+     * Returns the line of the given offset
+     * @param offset
+     *            the offset
+     * @return the line number starting with 1
+     */
+    private int getLine(int offset) {
+        int index = Arrays.binarySearch(lineStarts, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Determines the offsets of the first character of each line of the given text
+     * @param text
+     *            the text
+     * @return the line start offsets
+     */
+    private static int[] determineLineStarts(String text) {
+        int[] starts = new int[16];
+        int lines = 1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r' && (i + 1 == text.length() || text.charAt(i + 1) != '\n')) {
+                if (lines == starts.length) {
+                    starts = Arrays.copyOf(starts, lines * 2);
+                }
+                starts[lines++] = i + 1;
+            }
+        }
+        return Arrays.copyOf(starts, lines);
+    }
+
+    /** Region of a declaration within the source */
+    final class Region {
+
+        /** Offset of the first character */
+        final int start;
+
+        /** Offset behind the last character */
+        final int end;
+
+        /** Line of the first character starting with 1 */
+        final int startLine;
+
+        /** Line of the last character starting with 1 */
+        final int endLine;
+
+        /**
+         * Creates a new region
+         * @param start
+         *            offset of the first character
+         * @param end
+         *            offset behind the last character
+         */
+        Region(int start, int end) {
+            this.start = start;
+            this.end = end;
+            startLine = getLine(start);
+            endLine = getLine(end - 1);
+        }
+
+        /**
+         * @return the text of the region
+         */
+        String getText() {
+            return source.substring(start, end);
+        }
+    }
+}
@@ -0,0 +1,492 @@
+package com.devonfw.cobigen.javaplugin.merger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import com.devonfw.cobigen.api.util.StringUtil;
+import com.devonfw.cobigen.javaplugin.merger.JavaSourceRegions.Region;
+import com.devonfw.cobigen.javaplugin.merger.libextension.CustomModelWriter;
+import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableJavaClass;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaConstructor;
+import com.thoughtworks.qdox.model.JavaField;
+import com.thoughtworks.qdox.model.JavaInitializer;
+import com.thoughtworks.qdox.model.JavaMethod;
+import com.thoughtworks.qdox.model.JavaModel;
+import com.thoughtworks.qdox.model.JavaType;
+
+/**
+ * Splices the result of a merge into the original text of the base file. The state of the base class is
+ * recorded before the merge. Afterwards, just the text regions of the imports and members added or replaced
+ * by the merge are written, whereas all other text of the base file is kept as it is. Changes, which cannot
+ * be located in the original text, e.g. changed super types or changed nested classes, are not spliced.
+ */
+class JavaSourceSplicer {
+
+    /** Member kinds in the order they are written by the {@link CustomModelWriter} */
+    private static final int FIELDS = 0, CONSTRUCTORS = 1, INITIALIZERS = 2, METHODS = 3, CLASSES = 4;
+
+    /** The base class to be merged */
+    private final ModifyableJavaClass baseClass;
+
+    /** The imports of the base file before the merge */
+    private final List<String> imports;
+
+    /** The state of the base class before the merge */
+    private final ClassSnapshot snapshot;
+
+    /**
+     * Records the state of the given base class, which is about to be merged
+     * @param baseClass
+     *            the base class before the merge
+     */
+    JavaSourceSplicer(ModifyableJavaClass baseClass) {
+        this.baseClass = baseClass;
+        imports = new ArrayList<>(baseClass.getSource().getImports());
+        snapshot = new ClassSnapshot(baseClass);
+    }
+
+    /**
+     * Splices the changes of the merged base class into the original text of the base file
+     * @param baseSource
+     *            the original text of the base file
+     * @param lineDelimiter
+     *            the line delimiter of the base file
+     * @return the merged text or {@code null} if the changes cannot be spliced
+     */
+    String splice(String baseSource, String lineDelimiter) {
+
+        if (baseClass.isEnum() || baseClass.getSource().getClasses().size() != 1
+            || !snapshot.hasSameSupertypes(baseClass) || !snapshot.hasSameNestedClasses(baseClass)) {
+            return null;
+        }
+        JavaSourceRegions regions = JavaSourceRegions.scan(baseSource);
+        if (regions == null) {
+            return null;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        if (!spliceImports(regions, lineDelimiter, edits) || !spliceMembers(regions, lineDelimiter, edits)) {
+            return null;
+        }
+
+        edits.sort(Comparator.comparingInt(edit -> edit.start));
+        StringBuilder mergedSource = new StringBuilder(baseSource.length() + edits.size() * 128);
+        int offset = 0;
+        for (Edit edit : edits) {
+            mergedSource.append(baseSource, offset, edit.start).append(edit.text);
+            offset = edit.end;
+        }
+        return mergedSource.append(baseSource, offset, baseSource.length()).toString();
+    }
+
+    /**
+     * Determines the edits of the import declarations
+     * @param regions
+     *            the regions of the base file
+     * @param lineDelimiter
+     *            the line delimiter of the base file
+     * @param edits
+     *            the edits to add to
+     * @return {@code false} if the imports cannot be spliced
+     */
+    private boolean spliceImports(JavaSourceRegions regions, String lineDelimiter, List<Edit> edits) {
+
+        List<String> mergedImports = baseClass.getSource().getImports();
+        List<Region> importRegions = regions.getImports();
+        if (importRegions.size() != imports.size() || mergedImports.size() < imports.size()) {
+            return false;
+        }
+        for (int i = 0; i < imports.size(); i++) {
+            if (!imports.get(i).equals(mergedImports.get(i))) {
+                Region region = importRegions.get(i);
+                edits.add(new Edit(region.start, region.end, "import " + mergedImports.get(i) + ";"));
+            }
+        }
+        if (mergedImports.size() == imports.size()) {
+            return true;
+        }
+
+        StringBuilder addedImports = new StringBuilder();
+        for (String addedImport : mergedImports.subList(imports.size(), mergedImports.size())) {
+            addedImports.append(lineDelimiter).append("import ").append(addedImport).append(';');
+        }
+        if (!importRegions.isEmpty()) {
+            int offset = importRegions.get(importRegions.size() - 1).end;
+            edits.add(new Edit(offset, offset, addedImports.toString()));
+        } else if (regions.getPackageEnd() >= 0) {
+            int offset = regions.getPackageEnd();
+            edits.add(new Edit(offset, offset, lineDelimiter + addedImports));
+        } else {
+            edits.add(new Edit(0, 0, addedImports.substring(lineDelimiter.length()) + lineDelimiter + lineDelimiter));
+        }
+        return true;
+    }
+
+    /**
+     * Determines the edits of the class members
+     * @param regions
+     *            the regions of the base file
+     * @param lineDelimiter
+     *            the line delimiter of the base file
+     * @param edits
+     *            the edits to add to
+     * @return {@code false} if the members cannot be spliced
+     */
+    private boolean spliceMembers(JavaSourceRegions regions, String lineDelimiter, List<Edit> edits) {
+
+        List<List<Object>> mergedMembers = getMembers(baseClass);
+        List<Region> memberRegions = regions.getMembers();
+        // locate the members of the base class
+        int[] regionUsages = new int[memberRegions.size()];
+        int[][] memberRegionIndexes = new int[snapshot.members.size()][];
+        int[] lastRegionIndexes = new int[snapshot.members.size()];
+        Arrays.fill(lastRegionIndexes, -1);
+        for (int kind = 0; kind < snapshot.members.size(); kind++) {
+            List<Object> members = snapshot.members.get(kind);
+            memberRegionIndexes[kind] = new int[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                Object member = members.get(i);
+                int regionIndex =
+                    member instanceof JavaModel ? regions.getMemberIndex(((JavaModel) member).getLineNumber()) : -1;
+                if (regionIndex < 0 || !memberRegions.get(regionIndex).getText().contains(getName(member))) {
+                    return false;
+                }
+                regionUsages[regionIndex]++;
+                memberRegionIndexes[kind][i] = regionIndex;
+                lastRegionIndexes[kind] = Math.max(lastRegionIndexes[kind], regionIndex);
+            }
+        }
+
+        String indentation = memberRegions.isEmpty() ? null : regions.getIndentation(memberRegions.get(0).start);
+        if (indentation == null || indentation.isEmpty()) {
+            indentation = "\t";
+        }
+        for (int kind = 0; kind < mergedMembers.size(); kind++) {
+            List<Object> members = snapshot.members.get(kind);
+            List<Object> merged = mergedMembers.get(kind);
+            if (merged.size() < members.size()) {
+                return false;
+            }
+            for (int i = 0; i < members.size(); i++) {
+                if (merged.get(i) != members.get(i)) {
+                    Region region = memberRegions.get(memberRegionIndexes[kind][i]);
+                    if (regionUsages[memberRegionIndexes[kind][i]] > 1) {
+                        // e.g. multiple fields declared by one statement
+                        return false;
+                    }
+                    String text = write(kind, merged.get(i), indentation, lineDelimiter);
+                    if (text == null) {
+                        return false;
+                    }
+                    edits.add(new Edit(region.start, region.end, text));
+                }
+            }
+            if (merged.size() == members.size()) {
+                continue;
+            }
+
+            // add new members behind the last member of the same or a preceding kind as the writer would do
+            int anchor = -1;
+            for (int precedingKind = 0; precedingKind <= kind; precedingKind++) {
+                anchor = Math.max(anchor, lastRegionIndexes[precedingKind]);
+            }
+            StringBuilder addedMembers = new StringBuilder();
+            for (Object member : merged.subList(members.size(), merged.size())) {
+                addedMembers.append(lineDelimiter);
+                if (anchor >= 0 || addedMembers.length() > lineDelimiter.length()) {
+                    addedMembers.append(lineDelimiter);
+                }
+                String text = write(kind, member, indentation, lineDelimiter);
+                if (text == null) {
+                    return false;
+                }
+                addedMembers.append(indentation).append(text);
+            }
+            if (anchor >= 0) {
+                int offset = memberRegions.get(anchor).end;
+                edits.add(new Edit(offset, offset, addedMembers.toString()));
+            } else {
+                int offset = regions.getBodyStart();
+                if (!memberRegions.isEmpty()) {
+                    addedMembers.append(lineDelimiter);
+                }
+                edits.add(new Edit(offset, offset, addedMembers.toString()));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the given member. The code taken over verbatim from the member's source, e.g. a method body, is
+     * re-indented relative to the indentation of the members in the base file.
+     * @param kind
+     *            the kind of the member
+     * @param member
+     *            the member to be written
+     * @param indentation
+     *            the indentation of the members in the base file
+     * @param lineDelimiter
+     *            the line delimiter of the base file
+     * @return the text of the member without leading indentation and trailing line delimiter or {@code null} if
+     *         the indentation of the member cannot be normalized
+     */
+    private String write(int kind, Object member, String indentation, String lineDelimiter) {
+
+        String verbatimCode;
+        switch (kind) {
+        case FIELDS:
+            verbatimCode = ((JavaField) member).getInitializationExpression();
+            break;
+        case CONSTRUCTORS:
+            verbatimCode = ((JavaConstructor) member).getSourceCode();
+            break;
+        case INITIALIZERS:
+            verbatimCode = ((JavaInitializer) member).getBlockContent();
+            break;
+        case METHODS:
+            verbatimCode = ((JavaMethod) member).getSourceCode();
+            break;
+        default:
+            // nested classes mix written and verbatim code on several levels
+            return null;
+        }
+        String reindentedCode = null;
+        if (verbatimCode != null && verbatimCode.indexOf('\n') >= 0) {
+            // just bodies end with the indentation of the member followed by the closing brace
+            reindentedCode = kind == CONSTRUCTORS || kind == METHODS ? reindent(verbatimCode, indentation) : null;
+            if (reindentedCode == null) {
+                return null;
+            }
+        }
+
+        CustomModelWriter writer = new CustomModelWriter().indent(indentation, 1);
+        switch (kind) {
+        case FIELDS:
+            writer.writeField((JavaField) member);
+            break;
+        case CONSTRUCTORS:
+            writer.writeConstructor((JavaConstructor) member);
+            break;
+        case INITIALIZERS:
+            writer.writeInitializer((JavaInitializer) member);
+            break;
+        case METHODS:
+            writer.writeMethod((JavaMethod) member);
+            break;
+        default:
+            writer.writeClass((JavaClass) member);
+        }
+        String text = writer.toString();
+        if (reindentedCode != null) {
+            int codeStart = text.lastIndexOf(verbatimCode);
+            if (codeStart < 0) {
+                return null;
+            }
+            text = text.substring(0, codeStart) + reindentedCode + text.substring(codeStart + verbatimCode.length());
+        }
+        while (text.endsWith("\n") || text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        return StringUtil.consolidateLineEndings(text, lineDelimiter);
+    }
+
+    /**
+     * Re-indents the lines of a body taken over verbatim from the member's source. All lines but the first are
+     * expected to start with the indentation of the member in its source, as the last line does, which
+     * precedes the closing brace.
+     * @param body
+     *            the body of the member between its braces
+     * @param indentation
+     *            the indentation of the members in the base file
+     * @return the re-indented body or {@code null} if not all lines start with the member's indentation
+     */
+    private static String reindent(String body, String indentation) {
+
+        String[] lines = body.split("\n", -1);
+        String memberIndentation = lines[lines.length - 1];
+        if (!memberIndentation.trim().isEmpty()) {
+            return null;
+        }
+        StringBuilder reindentedBody = new StringBuilder(body.length() + lines.length * indentation.length());
+        reindentedBody.append(lines[0]);
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i];
+            reindentedBody.append('\n');
+            if (line.trim().isEmpty() && i < lines.length - 1) {
+                continue;
+            }
+            if (!line.startsWith(memberIndentation)) {
+                return null;
+            }
+            reindentedBody.append(indentation).append(line, memberIndentation.length(), line.length());
+        }
+        return reindentedBody.toString();
+    }
+
+    /**
+     * Returns the name of the given member to be found in its declaration
+     * @param member
+     *            the member
+     * @return the name of the member or an empty string for initializers
+     */
+    private static String getName(Object member) {
+        if (member instanceof JavaField) {
+            return ((JavaField) member).getName();
+        } else if (member instanceof JavaConstructor) {
+            return ((JavaConstructor) member).getName();
+        } else if (member instanceof JavaMethod) {
+            return ((JavaMethod) member).getName();
+        } else if (member instanceof JavaClass) {
+            return ((JavaClass) member).getName();
+        }
+        return "";
+    }
+
+    /**
+     * Returns the members of the given class grouped by kind
+     * @param javaClass
+     *            the class
+     * @return the member lists indexed by kind
+     */
+    private static List<List<Object>> getMembers(ModifyableJavaClass javaClass) {
+        List<List<Object>> members = new ArrayList<>(CLASSES + 1);
+        members.add(new ArrayList<>(javaClass.getFields()));
+        members.add(new ArrayList<>(javaClass.getConstructors()));
+        members.add(new ArrayList<>(javaClass.getInitializers()));
+        members.add(new ArrayList<>(javaClass.getMethods()));
+        members.add(new ArrayList<>(javaClass.getNestedClasses()));
+        return members;
+    }
+
+    /**
+     * Returns the generic values of the given types
+     * @param types
+     *            the types
+     * @return the generic values
+     */
+    private static List<String> getGenericValues(List<? extends JavaType> types) {
+        List<String> values = new ArrayList<>(types.size());
+        for (JavaType type : types) {
+            values.add(type.getGenericValue());
+        }
+        return values;
+    }
+
+    /** State of a class before the merge */
+    private static final class ClassSnapshot {
+
+        /** The members of the class indexed by kind */
+        private final List<List<Object>> members;
+
+        /** The generic value of the super class or {@code null} */
+        private final String superClass;
+
+        /** The generic values of the implemented interfaces */
+        private final List<String> interfaces;
+
+        /** The states of the nested classes */
+        private final List<ClassSnapshot> nestedClasses = new ArrayList<>();
+
+        /**
+         * Records the state of the given class
+         * @param javaClass
+         *            the class
+         */
+        ClassSnapshot(ModifyableJavaClass javaClass) {
+            members = getMembers(javaClass);
+            superClass = javaClass.getSuperClass() != null ? javaClass.getSuperClass().getGenericValue() : null;
+            interfaces = getGenericValues(javaClass.getImplements());
+            for (JavaClass nestedClass : javaClass.getNestedClasses()) {
+                nestedClasses.add(new ClassSnapshot((ModifyableJavaClass) nestedClass));
+            }
+        }
+
+        /**
+         * Checks whether the super class and interfaces of the given class did not change
+         * @param javaClass
+         *            the class in its current state
+         * @return {@code true} if the super types are the recorded ones
+         */
+        boolean hasSameSupertypes(ModifyableJavaClass javaClass) {
+            String currentSuperClass =
+                javaClass.getSuperClass() != null ? javaClass.getSuperClass().getGenericValue() : null;
+            return Objects.equals(superClass, currentSuperClass)
+                && interfaces.equals(getGenericValues(javaClass.getImplements()));
+        }
+
+        /**
+         * Checks whether the nested classes recorded did not change
+         * @param javaClass
+         *            the class in its current state
+         * @return {@code true} if all recorded nested classes are unchanged
+         */
+        boolean hasSameNestedClasses(ModifyableJavaClass javaClass) {
+            List<Object> recordedClasses = members.get(CLASSES);
+            if (javaClass.getNestedClasses().size() < recordedClasses.size()) {
+                return false;
+            }
+            for (int i = 0; i < recordedClasses.size(); i++) {
+                if (javaClass.getNestedClasses().get(i) != recordedClasses.get(i)
+                    || !nestedClasses.get(i).isUnchanged((ModifyableJavaClass) recordedClasses.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Checks whether the given class did not change
+         * @param javaClass
+         *            the class in its current state
+         * @return {@code true} if the class is in its recorded state
+         */
+        private boolean isUnchanged(ModifyableJavaClass javaClass) {
+            List<List<Object>> currentMembers = getMembers(javaClass);
+            for (int kind = 0; kind < members.size(); kind++) {
+                List<Object> recorded = members.get(kind);
+                List<Object> current = currentMembers.get(kind);
+                if (recorded.size() != current.size()) {
+                    return false;
+                }
+                for (int i = 0; i < recorded.size(); i++) {
+                    if (recorded.get(i) != current.get(i)) {
+                        return false;
+                    }
+                }
+            }
+            return hasSameSupertypes(javaClass) && hasSameNestedClasses(javaClass);
+        }
+    }
+
+    /** Replacement of a text region of the base file */
+    private static final class Edit {
+
+        /** Offset of the first replaced character */
+        private final int start;
+
+        /** Offset behind the last replaced character */
+        private final int end;
+
+        /** The replacement */
+        private final String text;
+
+        /**
+         * Creates a new edit
+         * @param start
+         *            offset of the first replaced character
+         * @param end
+         *            offset behind the last replaced character, equal to start for insertions
+         * @param text
+         *            the replacement
+         */
+        Edit(int start, int end, String text) {
+            this.start = start;
+            this.end = end;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.devonfw.cobigen.javaplugin.merger.libextension;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.thoughtworks.qdox.library.AbstractClassLibrary;
+import com.thoughtworks.qdox.library.ClassLoaderLibrary;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * {@link ClassLoaderLibrary} remembering the names of classes, which could not be found by its class loaders.
+ * Resolving a type name tries several candidates, most of them not existing, and each failed lookup costs a
+ * class path scan and a {@link ClassNotFoundException}. Found classes are already cached by the library
+ * itself. The names are kept as long as the library, but at most {@value #MAX_UNKNOWN_CLASSES} of them, and are
+ * released on adding a class loader. Just as the library, the cache is not thread-safe.
+ */
+public class CachingClassLoaderLibrary extends ClassLoaderLibrary {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = 1L;
+
+    /** Maximum number of class names remembered, before all of them are released */
+    static final int MAX_UNKNOWN_CLASSES = 1024;
+
+    /** Names of the classes not found by any class loader */
+    private final Set<String> unknownClasses = new HashSet<>();
+
+    /**
+     * Creates a new {@link CachingClassLoaderLibrary}
+     * @param parent
+     *            the parent library
+     */
+    public CachingClassLoaderLibrary(AbstractClassLibrary parent) {
+        super(parent);
+    }
+
+    @Override
+    public void addClassLoader(ClassLoader classLoader) {
+        super.addClassLoader(classLoader);
+        unknownClasses.clear();
+    }
+
+    @Override
+    public void addDefaultLoader() {
+        super.addDefaultLoader();
+        unknownClasses.clear();
+    }
+
+    @Override
+    protected JavaClass resolveJavaClass(String name) {
+        if (unknownClasses.contains(name)) {
+            return null;
+        }
+        JavaClass javaClass = super.resolveJavaClass(name);
+        if (javaClass == null) {
+            addUnknownClass(name);
+        }
+        return javaClass;
+    }
+
+    @Override
+    protected boolean containsClassReference(String name) {
+        if (unknownClasses.contains(name)) {
+            return false;
+        }
+        boolean contained = super.containsClassReference(name);
+        if (!contained) {
+            addUnknownClass(name);
+        }
+        return contained;
+    }
+
+    /**
+     * Remembers the given class name as not found. All names are released, if the maximum number of names is
+     * reached, such that the cache does not grow with the lifetime of the library.
+     * @param name
+     *            the name of the class not found
+     */
+    private void addUnknownClass(String name) {
+        if (unknownClasses.size() >= MAX_UNKNOWN_CLASSES) {
+            unknownClasses.clear();
+        }
+        unknownClasses.add(name);
+    }
+}
@@ -61,6 +61,24 @@ public class CustomModelWriter implements ModelWriter {
         return buffer;
     }
 
+    /**
+     * Configures the indentation of the written elements, e.g. to write single members into an existing
+     * source. The first line written will not be indented.
+     *
+     * @param indentation
+     *            the string of one indentation level
+     * @param depth
+     *            the indentation level of the written elements
+     * @return this writer
+     */
+    public CustomModelWriter indent(String indentation, int depth) {
+        buffer.setIndentation(indentation);
+        for (int i = 0; i < depth; i++) {
+            buffer.indent();
+        }
+        return this;
+    }
+
     @Override
     public ModelWriter writeSource(JavaSource source) {
         // package statement
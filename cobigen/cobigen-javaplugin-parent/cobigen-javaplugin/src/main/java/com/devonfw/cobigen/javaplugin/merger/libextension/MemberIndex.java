@@ -0,0 +1,166 @@
+package com.devonfw.cobigen.javaplugin.merger.libextension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Members of a class in order of declaration, indexed by a key like the name or the signature of the members.
+ * The index is maintained on adding or replacing members, such that merging classes with many members does
+ * not require linear lookups. The keys are determined on first lookup, as the parser adds members before
+ * their signature is known.
+ * @param <K>
+ *            type of the key
+ * @param <M>
+ *            type of the members
+ */
+class MemberIndex<K, M> {
+
+    /** Determines the key of a member */
+    private final Function<M, K> keyFunction;
+
+    /** The members in order of declaration */
+    private final List<M> members = new ArrayList<>();
+
+    /** Unmodifiable view of the members */
+    private final List<M> membersView = Collections.unmodifiableList(members);
+
+    /** Members mapped by their key, members of equal key in order of declaration. Built on first lookup. */
+    private Map<K, List<M>> membersByKey;
+
+    /** Positions of the members in the declaration order */
+    private final Map<M, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Creates a new empty index
+     * @param keyFunction
+     *            determines the key of a member
+     */
+    MemberIndex(Function<M, K> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * @return the unmodifiable list of members in order of declaration
+     */
+    List<M> getMembers() {
+        return membersView;
+    }
+
+    /**
+     * Returns the members of the given key
+     * @param key
+     *            the key
+     * @return the unmodifiable list of members in order of declaration, which might be empty
+     */
+    List<M> getMembers(K key) {
+        List<M> keyMembers = getMembersByKey().get(key);
+        return keyMembers != null ? Collections.unmodifiableList(keyMembers) : Collections.<M> emptyList();
+    }
+
+    /**
+     * Returns the first member of the given key
+     * @param key
+     *            the key
+     * @return the first member declared with the key or {@code null} if there is none
+     */
+    M getFirst(K key) {
+        List<M> keyMembers = getMembersByKey().get(key);
+        return keyMembers != null ? keyMembers.get(0) : null;
+    }
+
+    /**
+     * Adds a member behind all others
+     * @param member
+     *            the member to be added
+     */
+    void add(M member) {
+        positions.put(member, members.size());
+        members.add(member);
+        if (membersByKey != null) {
+            addKey(member);
+        }
+    }
+
+    /**
+     * Replaces a member at its position by another one
+     * @param member
+     *            the member to be replaced
+     * @param replacement
+     *            the member to replace with
+     * @return {@code false} if the member to be replaced is not part of the index
+     */
+    boolean replace(M member, M replacement) {
+        Integer position = positions.remove(member);
+        if (position == null) {
+            return false;
+        }
+        members.set(position, replacement);
+        positions.put(replacement, position);
+        if (membersByKey == null) {
+            return true;
+        }
+
+        K key = keyFunction.apply(member);
+        K replacementKey = keyFunction.apply(replacement);
+        List<M> keyMembers = membersByKey.get(key);
+        int keyPosition = indexOf(keyMembers, member);
+        if (Objects.equals(key, replacementKey)) {
+            keyMembers.set(keyPosition, replacement);
+        } else {
+            keyMembers.remove(keyPosition);
+            if (keyMembers.isEmpty()) {
+                membersByKey.remove(key);
+            }
+            addKey(replacement);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the members mapped by their key, building the mapping if not done yet
+     * @return the members mapped by their key
+     */
+    private Map<K, List<M>> getMembersByKey() {
+        if (membersByKey == null) {
+            membersByKey = new HashMap<>();
+            for (M member : members) {
+                addKey(member);
+            }
+        }
+        return membersByKey;
+    }
+
+    /**
+     * Adds the given member to the members of its key
+     * @param member
+     *            the member to be added
+     */
+    private void addKey(M member) {
+        membersByKey.computeIfAbsent(keyFunction.apply(member), k -> new ArrayList<>(1)).add(member);
+    }
+
+    /**
+     * Returns the position of the given member in the given list comparing by identity
+     * @param <M>
+     *            type of the members
+     * @param list
+     *            the list to search in
+     * @param member
+     *            the member to search for
+     * @return the position of the member
+     */
+    private static <M> int indexOf(List<M> list, M member) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == member) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("The member index is inconsistent, " + member + " is not indexed.");
+    }
+}
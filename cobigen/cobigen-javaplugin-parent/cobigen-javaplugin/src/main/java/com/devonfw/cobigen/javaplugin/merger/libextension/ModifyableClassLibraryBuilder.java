@@ -8,13 +8,15 @@ import java.net.URL;
 
 import com.thoughtworks.qdox.library.AbstractClassLibrary;
 import com.thoughtworks.qdox.library.ClassLibraryBuilder;
+import com.thoughtworks.qdox.library.ClassLoaderLibrary;
 import com.thoughtworks.qdox.library.OrderedClassLibraryBuilder;
 import com.thoughtworks.qdox.library.SourceLibrary;
 import com.thoughtworks.qdox.model.JavaSource;
 
 /**
  * {@link ClassLibraryBuilder} forwarding {@link #addSource(File)} to
- * {@link ModifyableSourceLibrary#addSource(File)}
+ * {@link ModifyableSourceLibrary#addSource(File)} and resolving classes by {@link CachingClassLoaderLibrary
+ * CachingClassLoaderLibraries}
  * @author mbrunnli (04.04.2013)
  */
 public class ModifyableClassLibraryBuilder extends OrderedClassLibraryBuilder {
@@ -24,6 +26,21 @@ public class ModifyableClassLibraryBuilder extends OrderedClassLibraryBuilder {
      */
     private static final long serialVersionUID = 6191405303611576834L;
 
+    /** Creates a new {@link ModifyableClassLibraryBuilder} with an empty root library */
+    public ModifyableClassLibraryBuilder() {
+        super();
+    }
+
+    /**
+     * Creates a new {@link ModifyableClassLibraryBuilder} on top of the given library. This enables sharing an
+     * already set up library, e.g. a library of class loaders, between multiple builders.
+     * @param parentLibrary
+     *            the library to resolve classes with, which are not part of the sources added
+     */
+    public ModifyableClassLibraryBuilder(AbstractClassLibrary parentLibrary) {
+        super(parentLibrary);
+    }
+
     @Override
     public JavaSource addSource(File file) throws IOException {
         return ((ModifyableSourceLibrary) getSourceLibrary()).addSource(file);
@@ -44,6 +61,11 @@ public class ModifyableClassLibraryBuilder extends OrderedClassLibraryBuilder {
         return ((ModifyableSourceLibrary) getSourceLibrary()).addSource(url);
     }
 
+    @Override
+    protected ClassLoaderLibrary newClassLoaderLibrary(AbstractClassLibrary parentLibrary) {
+        return new CachingClassLoaderLibrary(parentLibrary);
+    }
+
     @Override
     protected SourceLibrary newSourceLibrary(AbstractClassLibrary parentLibrary) {
         return new ModifyableSourceLibrary(parentLibrary);
@@ -6,7 +6,9 @@
  */
 package com.devonfw.cobigen.javaplugin.merger.libextension;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -41,13 +43,15 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
      */
     private static final long serialVersionUID = -3844544030545877483L;
 
-    private List<JavaConstructor> constructors = new LinkedList<>();
+    private MemberIndex<Integer, JavaConstructor> constructors =
+        new MemberIndex<>(constructor -> constructor.getParameters().size());
 
-    private List<JavaMethod> methods = new LinkedList<>();
+    private MemberIndex<String, JavaMethod> methods =
+        new MemberIndex<>(method -> getSignatureKey(method.getName(), method.getParameters().size()));
 
-    private List<JavaField> fields = new LinkedList<>();
+    private MemberIndex<String, JavaField> fields = new MemberIndex<>(JavaField::getName);
 
-    private List<JavaClass> classes = new LinkedList<>();
+    private MemberIndex<String, JavaClass> classes = new MemberIndex<>(JavaClass::getName);
 
     private boolean anInterface;
 
@@ -57,9 +61,9 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     private JavaType superClass;
 
-    private List<JavaClass> implementz = new LinkedList<>();
+    private List<JavaClass> implementz = new ArrayList<>();
 
-    private List<JavaInitializer> initializers = new LinkedList<>();
+    private List<JavaInitializer> initializers = new ArrayList<>();
 
     private List<ModifyableJavaTypeVariable<JavaClass>> typeParameters = new LinkedList<>();
 
@@ -153,12 +157,12 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public List<JavaType> getImplements() {
-        return new LinkedList<JavaType>(implementz);
+        return Collections.<JavaType> unmodifiableList(implementz);
     }
 
     @Override
     public List<JavaClass> getInterfaces() {
-        return new LinkedList<>(implementz);
+        return Collections.unmodifiableList(implementz);
     }
 
     @Override
@@ -194,7 +198,7 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
     }
 
     public void setImplementz(List<JavaClass> implementz) {
-        this.implementz = implementz;
+        this.implementz = new ArrayList<>(implementz);
     }
 
     @Override
@@ -285,7 +289,7 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public List<JavaConstructor> getConstructors() {
-        return constructors;
+        return constructors.getMembers();
     }
 
     @Override
@@ -295,7 +299,8 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public JavaConstructor getConstructor(List<JavaType> parameterTypes, boolean varArgs) {
-        for (JavaConstructor constructor : getConstructors()) {
+        int parameterCount = parameterTypes != null ? parameterTypes.size() : 0;
+        for (JavaConstructor constructor : constructors.getMembers(parameterCount)) {
             if (constructor.signatureMatches(parameterTypes, varArgs)) {
                 return constructor;
             }
@@ -305,7 +310,7 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public List<JavaMethod> getMethods() {
-        return methods;
+        return methods.getMembers();
     }
 
     @Override
@@ -371,7 +376,8 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public JavaMethod getMethod(String name, List<JavaType> parameterTypes, boolean varArgs) {
-        for (JavaMethod method : getMethods()) {
+        int parameterCount = parameterTypes != null ? parameterTypes.size() : 0;
+        for (JavaMethod method : methods.getMembers(getSignatureKey(name, parameterCount))) {
             if (method.signatureMatches(name, parameterTypes, varArgs)) {
                 return method;
             }
@@ -379,6 +385,19 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
         return null;
     }
 
+    /**
+     * Returns the key of the methods index, under which all methods of the given name and number of parameters
+     * are indexed
+     * @param name
+     *            name of the method
+     * @param parameterCount
+     *            number of parameters
+     * @return the key of the methods index
+     */
+    private static String getSignatureKey(String name, int parameterCount) {
+        return name + '/' + parameterCount;
+    }
+
     @Override
     public JavaMethod getMethodBySignature(String name, List<JavaType> parameterTypes, boolean superclasses) {
         return getMethodBySignature(name, parameterTypes, superclasses, false);
@@ -434,17 +453,12 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public List<JavaField> getFields() {
-        return fields;
+        return fields.getMembers();
     }
 
     @Override
     public JavaField getFieldByName(String name) {
-        for (JavaField field : getFields()) {
-            if (field.getName().equals(name)) {
-                return field;
-            }
-        }
-        return null;
+        return fields.getFirst(name);
     }
 
     @Override
@@ -487,23 +501,18 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
 
     @Override
     public List<JavaClass> getNestedClasses() {
-        return classes;
+        return classes.getMembers();
     }
 
     @Override
     public JavaClass getNestedClassByName(String name) {
         int separatorIndex = name.indexOf('.');
         String directInnerClassName = (separatorIndex > 0 ? name.substring(0, separatorIndex) : name);
-        for (JavaClass jClass : getNestedClasses()) {
-            if (jClass.getName().equals(directInnerClassName)) {
-                if (separatorIndex > 0) {
-                    return jClass.getNestedClassByName(name.substring(separatorIndex + 1));
-                } else {
-                    return jClass;
-                }
-            }
+        JavaClass jClass = classes.getFirst(directInnerClassName);
+        if (jClass != null && separatorIndex > 0) {
+            return jClass.getNestedClassByName(name.substring(separatorIndex + 1));
         }
-        return null;
+        return jClass;
     }
 
     @Override
@@ -696,9 +705,8 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
      */
     public void replace(JavaField baseField, JavaField patchField) {
         JavaField definedField = getFieldByName(baseField.getName());
-        int i = fields.indexOf(definedField);
-        if (i != -1) {
-            fields.set(i, patchField);
+        if (definedField != null) {
+            fields.replace(definedField, patchField);
         }
     }
 
@@ -713,9 +721,8 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
      */
     public void replace(JavaMethod baseMethod, JavaMethod patchMethod) {
         JavaMethod definedMethod = getMethodBySignature(baseMethod.getName(), baseMethod.getParameterTypes());
-        int i = methods.indexOf(definedMethod);
-        if (i != -1) {
-            methods.set(i, patchMethod);
+        if (definedMethod != null) {
+            methods.replace(definedMethod, patchMethod);
         }
     }
 
@@ -730,9 +737,8 @@ public class ModifyableJavaClass extends AbstractInheritableJavaEntity implement
      */
     public void replace(JavaConstructor baseConstructor, JavaConstructor patchConstructor) {
         JavaConstructor definedConstructor = getConstructor(baseConstructor.getParameterTypes());
-        int i = constructors.indexOf(definedConstructor);
-        if (i != -1) {
-            constructors.set(i, patchConstructor);
+        if (definedConstructor != null) {
+            constructors.replace(definedConstructor, patchConstructor);
         }
     }
 
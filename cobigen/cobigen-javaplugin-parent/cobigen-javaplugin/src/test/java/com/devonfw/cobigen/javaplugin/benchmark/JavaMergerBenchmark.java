@@ -0,0 +1,97 @@
+package com.devonfw.cobigen.javaplugin.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.javaplugin.merger.JavaMerger;
+
+/**
+ * Micro benchmark of the {@link JavaMerger} merging typical generated entity, ETO and use case patches into
+ * their base files, which have been modified by a developer. Run it by executing the {@link #main(String[])}
+ * method from the project folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaMergerBenchmark {
+
+    /** Root path of the test resources for this benchmark */
+    private static final String testFileRootPath = "src/test/resources/benchmark/JavaMergerBenchmark/";
+
+    /** Kind of the merged class */
+    @Param({ "Entity", "Eto", "Uc" })
+    public String sample;
+
+    /** The conflict resolving mode of the merger */
+    @Param({ "false", "true" })
+    public boolean patchOverrides;
+
+    /** States whether just the changes are written into the base file */
+    @Param({ "false", "true" })
+    public boolean splice;
+
+    /** The base file */
+    private File baseFile;
+
+    /** Contents of the patch */
+    private String patch;
+
+    /** The merger to be benchmarked */
+    private JavaMerger javaMerger;
+
+    /**
+     * Reads the patch and creates the merger.
+     * @throws IOException
+     *             if the patch could not be read
+     */
+    @Setup
+    public void setup() throws IOException {
+        baseFile = new File(testFileRootPath + sample + "Base.java");
+        patch = FileUtils.readFileToString(new File(testFileRootPath + sample + "Patch.java"), StandardCharsets.UTF_8);
+        javaMerger = new JavaMerger("javamerge", patchOverrides, splice);
+    }
+
+    /**
+     * Merges the patch into the base file.
+     * @return the merged contents
+     * @throws MergeException
+     *             if the merge fails
+     */
+    @Benchmark
+    public String merge() throws MergeException {
+        return javaMerger.merge(baseFile, patch, "UTF-8");
+    }
+
+    /**
+     * Runs the benchmark.
+     * @param args
+     *            not used
+     * @throws RunnerException
+     *             if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JavaMergerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
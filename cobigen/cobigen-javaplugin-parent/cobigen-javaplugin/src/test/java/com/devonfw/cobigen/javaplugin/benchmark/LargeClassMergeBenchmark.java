@@ -0,0 +1,127 @@
+package com.devonfw.cobigen.javaplugin.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.javaplugin.merger.JavaMerger;
+
+/**
+ * Micro benchmark of the {@link JavaMerger} merging a large patch into a large class. Base and patch declare
+ * the configured number of members, i.e. fields, accessors and imports, half of them conflicting. Run it by
+ * executing the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LargeClassMergeBenchmark {
+
+    /** Number of members of base and patch */
+    @Param({ "1000" })
+    public int memberCount;
+
+    /** The conflict resolving mode of the merger */
+    @Param({ "false", "true" })
+    public boolean patchOverrides;
+
+    /** The generated base file */
+    private File baseFile;
+
+    /** Contents of the generated patch */
+    private String patch;
+
+    /** The merger to be benchmarked */
+    private JavaMerger javaMerger;
+
+    /**
+     * Generates base file and patch and creates the merger.
+     * @throws IOException
+     *             if the base file could not be written
+     */
+    @Setup
+    public void setup() throws IOException {
+        baseFile = Files.createTempFile("LargeClass", ".java").toFile();
+        FileUtils.write(baseFile, generateSource(0), StandardCharsets.UTF_8);
+        patch = generateSource(memberCount / 6);
+        javaMerger = new JavaMerger("javamerge", patchOverrides);
+    }
+
+    /**
+     * Deletes the base file.
+     * @throws IOException
+     *             if the base file could not be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(baseFile.toPath());
+    }
+
+    /**
+     * Merges the patch into the base file.
+     * @return the merged contents
+     * @throws MergeException
+     *             if the merge fails
+     */
+    @Benchmark
+    public String merge() throws MergeException {
+        return javaMerger.merge(baseFile, patch, "UTF-8");
+    }
+
+    /**
+     * Generates a class with fields, accessors and imports summing up to the configured number of members
+     * @param offset
+     *            number of the first field
+     * @return the source of the class
+     */
+    private String generateSource(int offset) {
+        int fieldCount = memberCount / 3;
+        StringBuilder source = new StringBuilder();
+        source.append("package com.example.benchmark;\n\n");
+        for (int i = offset; i < offset + fieldCount; i++) {
+            source.append("import com.example.benchmark.types.Type").append(i).append(";\n");
+        }
+        source.append("\npublic class LargeClass implements java.io.Serializable {\n\n");
+        for (int i = offset; i < offset + fieldCount; i++) {
+            source.append("    private Type").append(i).append(" field").append(i).append(";\n\n");
+            source.append("    public Type").append(i).append(" getField").append(i).append("() {\n");
+            source.append("        return field").append(i).append(";\n    }\n\n");
+            source.append("    public void setField").append(i).append("(Type").append(i).append(" value) {\n");
+            source.append("        field").append(i).append(" = value;\n    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Runs the benchmark.
+     * @param args
+     *            not used
+     * @throws RunnerException
+     *             if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LargeClassMergeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
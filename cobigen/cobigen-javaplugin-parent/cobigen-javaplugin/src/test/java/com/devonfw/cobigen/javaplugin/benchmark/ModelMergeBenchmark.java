@@ -0,0 +1,145 @@
+package com.devonfw.cobigen.javaplugin.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Micro benchmark of the {@link JavaInputReader} creating the merged model of a parsed and a reflected class
+ * with many fields and accessors. The class is generated and compiled on setup, which requires the benchmark
+ * to be run on a JDK. Run it by executing the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelMergeBenchmark {
+
+    /** Simple name of the generated class */
+    private static final String CLASS_NAME = "LargeEntity";
+
+    /** Package of the generated class */
+    private static final String PACKAGE_NAME = "com.example.benchmark";
+
+    /** Number of fields of the generated class, each having a getter and a setter */
+    @Param({ "50", "500" })
+    public int fieldCount;
+
+    /** Folder the generated class is compiled in */
+    private File workingFolder;
+
+    /** Input of the java plug-in, i.e. the parsed and the reflected class */
+    private Object[] input;
+
+    /** The input reader to be benchmarked */
+    private JavaInputReader javaInputReader;
+
+    /**
+     * Generates and compiles the class, parses its source and loads the compiled class.
+     * @throws Exception
+     *             if the class could not be generated, compiled or loaded
+     */
+    @Setup
+    public void setup() throws Exception {
+        workingFolder = Files.createTempDirectory("cobigen-benchmark").toFile();
+        String source = generateSource();
+        File sourceFile = new File(workingFolder, PACKAGE_NAME.replace('.', '/') + "/" + CLASS_NAME + ".java");
+        FileUtils.write(sourceFile, source, StandardCharsets.UTF_8);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null || compiler.run(null, null, null, sourceFile.getAbsolutePath()) != 0) {
+            throw new IllegalStateException("Could not compile " + sourceFile + ". The benchmark requires a JDK.");
+        }
+        @SuppressWarnings("resource")
+        ClassLoader classLoader = new URLClassLoader(new URL[] { workingFolder.toURI().toURL() });
+        JavaClass parsedClass = JavaParserUtil.getFirstJavaClass(classLoader, new StringReader(source));
+        Class<?> reflectedClass = classLoader.loadClass(PACKAGE_NAME + "." + CLASS_NAME);
+
+        input = new Object[] { parsedClass, reflectedClass };
+        javaInputReader = new JavaInputReader();
+    }
+
+    /**
+     * Deletes the generated class.
+     * @throws IOException
+     *             if the class could not be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workingFolder);
+    }
+
+    /**
+     * Creates the merged model of the parsed and reflected class.
+     * @return the created model
+     */
+    @Benchmark
+    public Map<String, Object> createMergedModel() {
+        return javaInputReader.createModel(input);
+    }
+
+    /**
+     * Generates the source of an entity with the configured number of fields and accessors.
+     * @return the source of the class
+     */
+    private String generateSource() {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+        source.append("/** Entity generated by the benchmark */\n");
+        source.append("public class ").append(CLASS_NAME).append(" {\n");
+        for (int i = 0; i < fieldCount; i++) {
+            String type = i % 2 == 0 ? "String" : "Long";
+            source.append("  /** Field number ").append(i).append(" */\n");
+            source.append("  @Deprecated\n");
+            source.append("  private ").append(type).append(" field").append(i).append(";\n");
+            source.append("  public ").append(type).append(" getField").append(i).append("() { return field")
+                .append(i).append("; }\n");
+            source.append("  public void setField").append(i).append("(").append(type).append(" value) { field")
+                .append(i).append(" = value; }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Runs the benchmark.
+     * @param args
+     *            not used
+     * @throws RunnerException
+     *             if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ModelMergeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.devonfw.cobigen.javaplugin.unittest.inputreader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.javaplugin.inputreader.JavaInputContext;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParseCache;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClass;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/** Test suite for {@link JavaInputContext} */
+public class JavaInputContextTest {
+
+    /** Java source of the {@link TestClass} */
+    private static final Path TEST_CLASS_SOURCE =
+        Paths.get("src/test/java/com/devonfw/cobigen/javaplugin/unittest/inputreader/testdata/TestClass.java");
+
+    /**
+     * Tests that reading a java source file with a context results in the parsed class and the class loaded
+     * from the context's class path
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testReadWithContext() throws Exception {
+
+        // arrange
+        try (JavaInputContext context =
+            new JavaInputContext(Collections.singletonList(Paths.get("target/test-classes")), null)) {
+
+            // act
+            Object input = new JavaInputReader().read(TEST_CLASS_SOURCE, StandardCharsets.UTF_8, context);
+
+            // assert
+            assertThat(input).isInstanceOf(Object[].class);
+            Object[] inputs = (Object[]) input;
+            assertThat(((JavaClass) inputs[0]).getFullyQualifiedName()).isEqualTo(TestClass.class.getName());
+            assertThat(((Class<?>) inputs[1]).getName()).isEqualTo(TestClass.class.getName());
+            // loaded from the class path of the context, not from the class path of the test
+            assertThat(((Class<?>) inputs[1]).getClassLoader()).isSameAs(context.getClassLoader());
+        }
+    }
+
+    /**
+     * Tests that classes not found are reported as {@code null} and the context cannot be used after closing it
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testLoadUnknownClassAndClose() throws Exception {
+
+        // arrange
+        JavaInputContext context = new JavaInputContext(getClass().getClassLoader());
+
+        // act
+        Class<?> unknownClass = context.loadClass("com.example.Unknown");
+        Class<?> unknownClassAgain = context.loadClass("com.example.Unknown");
+        Class<?> knownClass = context.loadClass(TestClass.class.getName());
+        context.close();
+
+        // assert
+        assertThat(unknownClass).isNull();
+        assertThat(unknownClassAgain).isNull();
+        assertThat(knownClass).isSameAs(TestClass.class);
+        assertThatThrownBy(() -> context.loadClass(TestClass.class.getName()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Tests that closing a context removes the sources parsed by the context from the {@link JavaParseCache}
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testCloseInvalidatesParsedSources() throws Exception {
+
+        // arrange
+        JavaInputContext context = new JavaInputContext(getClass().getClassLoader());
+        ClassLoader classLoader = context.getClassLoader();
+        context.read(TEST_CLASS_SOURCE, StandardCharsets.UTF_8);
+        AtomicInteger parsed = new AtomicInteger();
+
+        // act
+        JavaParseCache.getFirstJavaClass(TEST_CLASS_SOURCE.toFile(), StandardCharsets.UTF_8, classLoader,
+            reader -> {
+                parsed.incrementAndGet();
+                return null;
+            });
+        context.close();
+        JavaParseCache.getFirstJavaClass(TEST_CLASS_SOURCE.toFile(), StandardCharsets.UTF_8, classLoader,
+            reader -> {
+                parsed.incrementAndGet();
+                return null;
+            });
+
+        // assert
+        assertThat(parsed).hasValue(1);
+    }
+}
@@ -1,19 +1,32 @@
 package com.devonfw.cobigen.javaplugin.unittest.inputreader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.FileReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.Charsets;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import com.devonfw.cobigen.api.to.MatcherTo;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
 import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.devonfw.cobigen.javaplugin.inputreader.to.JavaSourceFile;
 import com.devonfw.cobigen.javaplugin.inputreader.to.PackageFolder;
+import com.devonfw.cobigen.javaplugin.matcher.JavaMatcher;
 import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClass;
 import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithAnnotations;
 import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithAnnotationsContainingObjectArrays;
@@ -21,6 +34,7 @@ import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWit
 import com.devonfw.cobigen.javaplugin.model.JavaModelUtil;
 import com.devonfw.cobigen.javaplugin.model.ModelConstant;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.thoughtworks.qdox.model.JavaClass;
 
 /**
@@ -34,6 +48,10 @@ public class JavaInputReaderTest {
      */
     private static String testFileRootPath = "src/test/resources/testdata/unittest/inputreader/";
 
+    /** Temporary folder for sources created by the tests */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Tests whether both features can be used when providing parsed and reflected inputs for one java class
      *
@@ -252,6 +270,88 @@ public class JavaInputReaderTest {
 
     }
 
+    /**
+     * Test method for {@link JavaInputReader#createModel(Object, ModelUsageTo)}. Checks whether model parts
+     * not being used are skipped, whereas the used ones are built as usual.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testCreateModelSkipsUnusedModelParts() throws Exception {
+        // arrange
+        JavaInputReader reader = new JavaInputReader();
+        File file = new File(testFileRootPath + "TestClass.java");
+        Object[] inputArray =
+            new Object[] { JavaParserUtil.getFirstJavaClass(new FileReader(file)), TestClass.class };
+        ModelUsageTo modelUsage = new ModelUsageTo(Sets.newHashSet("pojo.fields", "pojo.fields.name"),
+            Sets.newHashSet("pojo.fields.annotations"));
+
+        // act
+        Map<String, Object> model = reader.createModel(inputArray, modelUsage);
+
+        // assert
+        Map<String, Object> pojoModel = JavaModelUtil.getRoot(model);
+        assertThat(pojoModel).containsKeys(ModelConstant.NAME, ModelConstant.FIELDS)
+            .doesNotContainKeys(ModelConstant.METHODS, ModelConstant.METHOD_ACCESSIBLE_FIELDS,
+                ModelConstant.EXTENDED_TYPE, ModelConstant.IMPLEMENTED_TYPES, ModelConstant.ANNOTATIONS);
+        Map<String, Object> classField = JavaModelUtil.getField(model, "customList");
+        assertThat(classField.get(ModelConstant.TYPE)).isEqualTo("List<String>");
+        assertThat(classField).doesNotContainKeys(ModelConstant.JAVADOC, "isId");
+        assertThat(JavaModelUtil.getAnnotations(classField)).containsKey(
+            "com_devonfw_cobigen_javaplugin_unittest_inputreader_testdata_MyFieldAnnotation");
+    }
+
+    /**
+     * Tests that the models of an input are cached and shared across model requests, such that the nested
+     * model cannot be modified, but the root map of each model can.
+     */
+    @Test
+    public void testCreateModelSharesImmutableModel() {
+        // arrange
+        JavaInputReader reader = new JavaInputReader();
+
+        // act
+        Map<String, Object> model = reader.createModel(TestClass.class);
+        Map<String, Object> otherModel = reader.createModel(TestClass.class);
+
+        // assert
+        assertThat(otherModel).isNotSameAs(model).isEqualTo(model);
+        assertThat(JavaModelUtil.getRoot(otherModel)).isSameAs(JavaModelUtil.getRoot(model));
+        model.put("variables", new HashMap<>());
+        assertThat(otherModel).doesNotContainKey("variables");
+        assertThatThrownBy(() -> JavaModelUtil.getRoot(model).put(ModelConstant.NAME, "Other"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> JavaModelUtil.getFields(model).clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Tests that the sections of a merged model, which are computed on first access, are shared by all keys
+     * exposing them and provide the same keys as usual.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testCreateModelMergesSectionsOnAccess() throws Exception {
+        // arrange
+        JavaInputReader reader = new JavaInputReader();
+        File file = new File(testFileRootPath + "TestClass.java");
+        Object[] inputArray =
+            new Object[] { JavaParserUtil.getFirstJavaClass(new FileReader(file)), TestClass.class };
+
+        // act
+        Map<String, Object> model = reader.createModel(inputArray);
+
+        // assert
+        Map<String, Object> pojoModel = JavaModelUtil.getRoot(model);
+        assertThat(pojoModel.get(ModelConstant.FIELDS)).isSameAs(pojoModel.get(ModelConstant.FIELDS_DEPRECATED));
+        assertThat(pojoModel).containsOnlyKeys(ModelConstant.NAME, ModelConstant.PACKAGE,
+            ModelConstant.CANONICAL_NAME, ModelConstant.ANNOTATIONS, ModelConstant.FIELDS,
+            ModelConstant.FIELDS_DEPRECATED, ModelConstant.METHOD_ACCESSIBLE_FIELDS, ModelConstant.EXTENDED_TYPE,
+            ModelConstant.IMPLEMENTED_TYPES, ModelConstant.METHODS);
+        assertThat(JavaModelUtil.getField(model, "customList").get(ModelConstant.TYPE)).isEqualTo("List<String>");
+    }
+
     /**
      * Test if the method input list returned by
      * {@link JavaInputReader#getInputObjectsRecursively(Object, Charset)} has a proper order to match the
@@ -277,4 +377,116 @@ public class JavaInputReaderTest {
         assertThat(simpleNames).containsExactlyInAnyOrder("RootClass", "SuperClass1", "SuperClass2");
     }
 
+    /**
+     * Tests that parsing many java sources in parallel results in the same classes in the same order as
+     * parsing them one after another.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetInputObjects_parallelParsingKeepsOrder() throws Exception {
+        // arrange
+        File packageFolder = tmpFolder.newFolder("com", "example");
+        for (int i = 0; i < 200; i++) {
+            Files.write(new File(packageFolder, "Class" + i + ".java").toPath(),
+                ("package com.example;\npublic class Class" + i + " extends java.util.ArrayList<String> {}")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        PackageFolder pkg = new PackageFolder(packageFolder.toURI(), "com.example");
+        JavaInputReader javaInputReader = new JavaInputReader();
+
+        // act
+        List<Object> inputObjects = javaInputReader.getInputObjects(pkg, StandardCharsets.UTF_8);
+
+        // assert
+        List<String> streamedNames;
+        try (Stream<Object> stream = javaInputReader.streamInputObjects(pkg, StandardCharsets.UTF_8, false)) {
+            streamedNames = stream.map(o -> ((JavaClass) o).getName()).collect(Collectors.toList());
+        }
+        assertThat(streamedNames).hasSize(200);
+        assertThat(inputObjects).extracting(o -> ((JavaClass) o).getName()).containsExactlyElementsOf(streamedNames);
+        assertThat(inputObjects).allMatch(o -> ((JavaClass) o).getSuperJavaClass().isA("java.util.AbstractList"));
+    }
+
+    /**
+     * Tests that streaming the classes of a package skips the sources, whose full qualified name inferred from
+     * their path is not matched, without parsing them.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testStreamInputObjects_previewFilter() throws Exception {
+        // arrange
+        File packageFolder = tmpFolder.newFolder("com", "example");
+        File subPackageFolder = new File(packageFolder, "dataaccess");
+        subPackageFolder.mkdir();
+        Files.write(new File(subPackageFolder, "OrderEntity.java").toPath(),
+            "package com.example.dataaccess;\npublic class OrderEntity {}".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(packageFolder, "OrderService.java").toPath(),
+            "package com.example;\npublic class OrderService {}".getBytes(StandardCharsets.UTF_8));
+        // invalid syntax, which would fail parsing
+        Files.write(new File(packageFolder, "Broken.java").toPath(),
+            "package com.example;\npublic class Broken {".getBytes(StandardCharsets.UTF_8));
+        PackageFolder pkg = new PackageFolder(packageFolder.toURI(), "com.example");
+        JavaMatcher matcher = new JavaMatcher();
+        List<String> previewedNames = new ArrayList<>();
+
+        // act
+        List<String> streamedNames;
+        try (Stream<Object> stream =
+            new JavaInputReader().streamInputObjects(pkg, StandardCharsets.UTF_8, true, preview -> {
+                previewedNames.add(((JavaSourceFile) preview).getFullyQualifiedName());
+                return matcher.matches(new MatcherTo("fqn", ".*Entity", preview));
+            })) {
+            streamedNames = stream.map(o -> ((JavaClass) o).getFullyQualifiedName()).collect(Collectors.toList());
+        }
+
+        // assert
+        assertThat(previewedNames).containsExactlyInAnyOrder("com.example.OrderService", "com.example.Broken",
+            "com.example.dataaccess.OrderEntity");
+        assertThat(streamedNames).containsExactly("com.example.dataaccess.OrderEntity");
+    }
+
+    /**
+     * Tests that streaming the classes of a package does not skip sources by the name inferred from their path,
+     * if their declared package or type name does not correspond to their path.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testStreamInputObjects_previewFilterIgnoresSourcesNotNamedByPath() throws Exception {
+        // arrange
+        File packageFolder = tmpFolder.newFolder("com", "example");
+        File subPackageFolder = new File(packageFolder, "dataaccess");
+        subPackageFolder.mkdir();
+        Files.write(new File(subPackageFolder, "OrderEntity.java").toPath(),
+            "package com.example.dataaccess;\npublic class OrderEntity {}".getBytes(StandardCharsets.UTF_8));
+        // keywords in comments and literals must not be considered as declarations
+        Files.write(new File(packageFolder, "OrderService.java").toPath(),
+            ("package com.example;\n/** Not the class CustomerEntity */\npublic class OrderService {\n"
+                + "    String s = \"interface OrderEntity\";\n}").getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(packageFolder, "Misplaced.java").toPath(),
+            "package com.example.dataaccess;\npublic class Misplaced {}".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(packageFolder, "Renamed.java").toPath(),
+            "package com.example;\nclass CustomerEntity {}".getBytes(StandardCharsets.UTF_8));
+        PackageFolder pkg = new PackageFolder(packageFolder.toURI(), "com.example");
+        JavaMatcher matcher = new JavaMatcher();
+        List<String> previewedNames = new ArrayList<>();
+
+        // act
+        List<String> streamedNames;
+        try (Stream<Object> stream =
+            new JavaInputReader().streamInputObjects(pkg, StandardCharsets.UTF_8, true, preview -> {
+                previewedNames.add(((JavaSourceFile) preview).getFullyQualifiedName());
+                return matcher.matches(new MatcherTo("fqn", "com\\.example\\.dataaccess\\..*", preview));
+            })) {
+            streamedNames = stream.map(o -> ((JavaClass) o).getFullyQualifiedName()).collect(Collectors.toList());
+        }
+
+        // assert
+        assertThat(previewedNames).containsExactlyInAnyOrder("com.example.OrderService",
+            "com.example.dataaccess.OrderEntity");
+        assertThat(streamedNames).containsExactlyInAnyOrder("com.example.dataaccess.OrderEntity",
+            "com.example.dataaccess.Misplaced", "com.example.CustomerEntity");
+    }
 }
@@ -0,0 +1,121 @@
+package com.devonfw.cobigen.javaplugin.unittest.inputreader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParseCache;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/** Test suite for {@link JavaParseCache} */
+public class JavaParseCacheTest {
+
+    /** Temporary folder for sources created by the tests */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    /**
+     * Tests that an unchanged source is just parsed once and a changed source is parsed again
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetFirstJavaClass() throws Exception {
+        // arrange
+        File source = tmpFolder.newFile("Foo.java");
+        Files.write(source.toPath(), "public class Foo {}".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger parsed = new AtomicInteger();
+
+        // act
+        JavaClass first = JavaParseCache.getFirstJavaClass(source, StandardCharsets.UTF_8, null, reader -> {
+            parsed.incrementAndGet();
+            return JavaParserUtil.getFirstJavaClass(reader);
+        });
+        JavaClass second = JavaParseCache.getFirstJavaClass(source, StandardCharsets.UTF_8, null, reader -> {
+            parsed.incrementAndGet();
+            return JavaParserUtil.getFirstJavaClass(reader);
+        });
+        Files.write(source.toPath(), "public class Bar {}".getBytes(StandardCharsets.UTF_8));
+        JavaClass changed = JavaParseCache.getFirstJavaClass(source, StandardCharsets.UTF_8, null, reader -> {
+            parsed.incrementAndGet();
+            return JavaParserUtil.getFirstJavaClass(reader);
+        });
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(changed.getName()).isEqualTo("Bar");
+        assertThat(parsed.get()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that a parsed source is not shared across threads, as QDox models resolve types lazily by their
+     * class library, which is not thread-safe
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetFirstJavaClassPerThread() throws Exception {
+        // arrange
+        File source = tmpFolder.newFile("Foo.java");
+        Files.write(source.toPath(), "public class Foo {}".getBytes(StandardCharsets.UTF_8));
+        ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+        // act
+        JavaClass first = JavaParseCache.getFirstJavaClass(source, StandardCharsets.UTF_8, null,
+            reader -> JavaParserUtil.getFirstJavaClass(reader));
+        JavaClass second = JavaParseCache.getFirstJavaClass(source, StandardCharsets.UTF_8, null,
+            reader -> JavaParserUtil.getFirstJavaClass(reader));
+        JavaClass otherThreadFirst;
+        try {
+            otherThreadFirst = otherThread.submit(() -> JavaParseCache.getFirstJavaClass(source,
+                StandardCharsets.UTF_8, null, reader -> JavaParserUtil.getFirstJavaClass(reader))).get();
+        } finally {
+            otherThread.shutdownNow();
+        }
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(otherThreadFirst).isNotSameAs(first);
+        assertThat(otherThreadFirst.getName()).isEqualTo("Foo");
+    }
+
+    /**
+     * Tests that the cache does not keep the class loader of a parsed source alive
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testClassLoaderNotKeptAlive() throws Exception {
+        // arrange
+        File source = tmpFolder.newFile("Foo.java");
+        Files.write(source.toPath(), "public class Foo {}".getBytes(StandardCharsets.UTF_8));
+        URLClassLoader classLoader = new URLClassLoader(new URL[0]);
+        WeakReference<ClassLoader> classLoaderRef = new WeakReference<>(classLoader);
+
+        // act
+        JavaParseCache.getFirstJavaClass(source, StandardCharsets.UTF_8, classLoader,
+            reader -> JavaParserUtil.getFirstJavaClass(reader));
+        classLoader.close();
+        classLoader = null;
+        for (int i = 0; i < 10 && classLoaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        // assert
+        assertThat(classLoaderRef.get()).isNull();
+    }
+}
@@ -2,10 +2,15 @@ package com.devonfw.cobigen.javaplugin.unittest.matcher.resolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+
 import org.junit.Test;
 
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
 import com.devonfw.cobigen.javaplugin.integrationtest.common.AbstractIntegrationTest;
 import com.devonfw.cobigen.javaplugin.matcher.resolver.TriggerExpressionResolver;
+import com.thoughtworks.qdox.model.JavaClass;
 
 /**
  * The class <code>TriggerExpressionResolverTest</code> contains tests for the class
@@ -43,4 +48,36 @@ public class TriggerExpressionResolverTest {
 
         assertThat(target.evaluateExpression("isAbstract")).isFalse();
     }
+
+    /**
+     * Test for {@link TriggerExpressionResolver#evaluateExpression(String)} considering inherited interfaces
+     */
+    @Test
+    public void testEvaluateExpression_instanceof_inheritedInterface() {
+        TriggerExpressionResolver target = new TriggerExpressionResolver(ArrayList.class);
+
+        assertThat(target.evaluateExpression("instanceof java.util.Collection")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.lang.Iterable")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.util.ArrayList")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.util.Map")).isFalse();
+    }
+
+    /**
+     * Test for {@link TriggerExpressionResolver#evaluateExpression(String)} on a parsed class
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testEvaluateExpression_instanceof_parsedClass() throws Exception {
+        JavaClass parsedClass = JavaParserUtil.getFirstJavaClass(new StringReader(
+            "package com.example;\npublic class Parsed extends java.util.ArrayList<String> implements Runnable {\n"
+                + "public void run() {}\n}"));
+        TriggerExpressionResolver target = new TriggerExpressionResolver(parsedClass);
+
+        assertThat(target.evaluateExpression("instanceof com.example.Parsed")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.lang.Runnable")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.util.AbstractList")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.util.Collection")).isTrue();
+        assertThat(target.evaluateExpression("instanceof java.util.Map")).isFalse();
+    }
 }
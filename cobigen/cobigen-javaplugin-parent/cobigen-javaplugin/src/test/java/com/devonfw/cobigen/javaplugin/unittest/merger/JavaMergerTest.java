@@ -9,12 +9,17 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.api.util.SystemUtil;
 import com.devonfw.cobigen.javaplugin.merger.JavaMerger;
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableClassLibraryBuilder;
 import com.thoughtworks.qdox.library.ClassLibraryBuilder;
@@ -37,6 +42,10 @@ public class JavaMergerTest {
      */
     private static String testFileRootPath = "src/test/resources/testdata/unittest/merger/";
 
+    /** Temporary folder for generated base files */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Test of {@link JavaMerger} merging imports
      * @throws Exception
@@ -461,6 +470,139 @@ public class JavaMergerTest {
 
     }
 
+    /**
+     * Tests whether the splicing merge just inserts the added imports and members into the unchanged text of the
+     * base file
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testSpliceAddedImportsAndMembers() throws Exception {
+
+        // arrange
+        File base = new File(testFileRootPath + "BaseFile_splice.java");
+        File patch = new File(testFileRootPath + "PatchFile_splice.java");
+        String baseContents = FileUtils.readFileToString(base, "UTF-8");
+
+        // act
+        String mergedContents =
+            new JavaMerger("", false, true).merge(base, FileUtils.readFileToString(patch, "UTF-8"), "UTF-8");
+
+        // assert
+        String lineDelimiter = SystemUtil.determineLineDelimiter(base.toPath(), "UTF-8");
+        assertThat(mergedContents).isEqualTo(baseContents
+            .replace("import java.util.function.Supplier;",
+                "import java.util.function.Supplier;" + lineDelimiter + "import java.util.ArrayList;")
+            .replace("private Supplier<String> supplier = () -> { return \"}\"; };",
+                "private Supplier<String> supplier = () -> { return \"}\"; };" + lineDelimiter + lineDelimiter
+                    + "  private String patchField;")
+            .replace("      return null;   // unusual indentation" + lineDelimiter + "  }",
+                "      return null;   // unusual indentation" + lineDelimiter + "  }" + lineDelimiter
+                    + lineDelimiter + "  public String getPatchField() {" + lineDelimiter
+                    + "      return patchField;" + lineDelimiter + "  }"));
+    }
+
+    /**
+     * Tests whether the splicing merge just replaces the text regions of conflicting members when the patch
+     * overrides
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testSpliceReplacedMembers() throws Exception {
+
+        // arrange
+        File base = new File(testFileRootPath + "BaseFile_splice.java");
+        File patch = new File(testFileRootPath + "PatchFile_splice.java");
+
+        // act
+        String mergedContents =
+            new JavaMerger("", true, true).merge(base, FileUtils.readFileToString(patch, "UTF-8"), "UTF-8");
+
+        // assert
+        assertThat(mergedContents).contains("@SuppressWarnings({ \"unused\", \"rawtypes\" })",
+            "  // keep this comment", "  private   int   baseField = 0; // and this one",
+            "private Supplier<String> supplier = () -> { return \"}\"; };", "  private String patchField;",
+            "  public List baseMethod() {", "return new ArrayList();", "  public String getPatchField() {");
+        assertThat(mergedContents).doesNotContain("@Deprecated").doesNotContain("unusual indentation");
+        JavaClass mergedClass = getFirstJavaClass(new StringReader(mergedContents));
+        assertThat(mergedClass.getFields()).hasSize(3);
+        assertThat(mergedClass.getMethods()).hasSize(2);
+    }
+
+    /**
+     * Tests merging a patch into a base file with many members, being larger than the read buffers
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMergeLargeClass() throws Exception {
+
+        // arrange
+        File base = tmpFolder.newFile("LargeClass.java");
+        StringBuilder baseContents = new StringBuilder("package com.devonfw;\n\npublic class LargeClass {\n");
+        for (int i = 0; i < 500; i++) {
+            baseContents.append("    private int field").append(i).append(";\n");
+            baseContents.append("    public int getField").append(i).append("() { return field").append(i)
+                .append("; }\n");
+        }
+        FileUtils.write(base, baseContents.append("}\n").toString(), "UTF-8");
+        String patch = "package com.devonfw;\n\npublic class LargeClass {\n    private long field499;\n"
+            + "    private long field500;\n    public long getField499() { return field499; }\n}\n";
+
+        // act
+        String mergedContents = new JavaMerger("", true).merge(base, patch, "UTF-8");
+
+        // assert
+        JavaClass mergedClass = getFirstJavaClass(new StringReader(mergedContents));
+        assertThat(mergedClass.getFields()).hasSize(501);
+        assertThat(mergedClass.getMethods()).hasSize(500);
+        assertThat(mergedClass.getFieldByName("field499").getType().getFullyQualifiedName()).isEqualTo("long");
+        assertThat(mergedClass.getMethodBySignature("getField499", null).getReturnType().getFullyQualifiedName())
+            .isEqualTo("long");
+        assertThat(mergedClass.getFields().get(499).getName()).isEqualTo("field499");
+    }
+
+    /**
+     * Tests whether merging multiple patches at once results in the same contents as merging them one after
+     * another
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMergeMultiplePatches() throws Exception {
+
+        // arrange
+        File base = tmpFolder.newFile("Batch.java");
+        String baseContents = "package com.devonfw;\n\nimport java.util.List;\n\npublic class Batch {\n"
+            + "    private int baseField;\n\n    public int getBaseField() {\n        return baseField;\n    }\n}\n";
+        List<String> patches = Arrays.asList(
+            "package com.devonfw;\n\nimport java.util.Set;\n\npublic class Batch implements java.io.Serializable {\n"
+                + "    private long baseField;\n    private Set<String> firstField;\n}\n",
+            "package com.devonfw;\n\nimport java.util.Map;\n\npublic class Batch {\n"
+                + "    private Map<String, String> secondField;\n\n    public long getBaseField() {\n"
+                + "        return baseField;\n    }\n}\n");
+        JavaMerger merger = new JavaMerger("", true);
+
+        String sequentiallyMergedContents = baseContents;
+        for (String patch : patches) {
+            FileUtils.write(base, sequentiallyMergedContents, "UTF-8");
+            sequentiallyMergedContents = merger.merge(base, patch, "UTF-8");
+        }
+        FileUtils.write(base, baseContents, "UTF-8");
+
+        // act
+        String mergedContents = merger.merge(base, patches, "UTF-8");
+
+        // assert
+        assertThat(mergedContents).isEqualTo(sequentiallyMergedContents);
+        JavaClass mergedClass = getFirstJavaClass(new StringReader(mergedContents));
+        assertThat(mergedClass.getFields()).hasSize(3);
+        assertThat(mergedClass.getFieldByName("baseField").getType().getFullyQualifiedName()).isEqualTo("long");
+        assertThat(mergedClass.getSource().getImports()).containsExactly("java.util.List", "java.util.Set",
+            "java.util.Map");
+    }
+
     /**
      * Calls the {@link JavaMerger} to merge the base and patch file wit the given overriding behavior
      * @param baseFile
@@ -0,0 +1,53 @@
+package com.devonfw.cobigen.javaplugin.unittest.merger.libextension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.javaplugin.merger.libextension.CachingClassLoaderLibrary;
+
+/**
+ * Test suite for {@link CachingClassLoaderLibrary}
+ */
+public class CachingClassLoaderLibraryTest {
+
+    /** Name of the class, which cannot be found */
+    private static final String MISSING_CLASS = "a.Missing";
+
+    /**
+     * Tests that a class not found is just looked up once, as long as the names of unknown classes do not
+     * exceed the limit of the cache
+     */
+    @Test
+    public void testUnknownClassesAreCachedUpToLimit() {
+        // arrange
+        AtomicInteger lookups = new AtomicInteger();
+        CachingClassLoaderLibrary library = new CachingClassLoaderLibrary(null);
+        library.addClassLoader(new ClassLoader(null) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                if (MISSING_CLASS.equals(name)) {
+                    lookups.incrementAndGet();
+                }
+                throw new ClassNotFoundException(name);
+            }
+        });
+
+        // act
+        boolean found = library.hasClassReference(MISSING_CLASS);
+        boolean foundAgain = library.hasClassReference(MISSING_CLASS);
+        int cachedLookups = lookups.get();
+        for (int i = 0; i < 1024; i++) {
+            library.hasClassReference("a.Missing" + i);
+        }
+        library.hasClassReference(MISSING_CLASS);
+
+        // assert
+        assertThat(found).isFalse();
+        assertThat(foundAgain).isFalse();
+        assertThat(cachedLookups).isEqualTo(1);
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+}
@@ -2,9 +2,12 @@ package com.devonfw.cobigen.javaplugin.unittest.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.StringReader;
+
 import org.junit.Test;
 
 import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.thoughtworks.qdox.model.JavaClass;
 
 /**
  * This class contains testcases for {@link JavaParserUtil}
@@ -41,4 +44,46 @@ public class JavaParserUtilTest {
 
     }
 
+    /**
+     * Tests that classes resolved by the default class loaders are shared by all sources parsed by the same
+     * thread, whereas the sources themselves are not retained.
+     */
+    @Test
+    public void testGetFirstJavaClassReusesDefaultClassLibrary() {
+        // arrange
+        String source = "package a; public class A extends java.util.ArrayList<String> { }";
+        String otherSource = "package a; public class A extends java.util.ArrayList<String> { int b; }";
+
+        // act
+        JavaClass javaClass = JavaParserUtil.getFirstJavaClass(new StringReader(source));
+        JavaClass otherJavaClass = JavaParserUtil.getFirstJavaClass(new StringReader(otherSource));
+
+        // assert
+        assertThat(otherJavaClass.getJavaClassLibrary().getJavaClass("java.util.ArrayList"))
+            .isSameAs(javaClass.getJavaClassLibrary().getJavaClass("java.util.ArrayList"));
+        assertThat(otherJavaClass.getJavaClassLibrary()).isNotSameAs(javaClass.getJavaClassLibrary());
+        assertThat(javaClass.getFields()).isEmpty();
+        assertThat(otherJavaClass.getFields()).hasSize(1);
+    }
+
+    /**
+     * Tests that the class library of the default class loaders is set up again once it has been cleared for
+     * the current thread.
+     */
+    @Test
+    public void testClearDefaultClassLibrary() {
+        // arrange
+        String source = "package a; public class A extends java.util.ArrayList<String> { }";
+        JavaClass javaClass = JavaParserUtil.getFirstJavaClass(new StringReader(source));
+
+        // act
+        JavaParserUtil.clearDefaultClassLibrary();
+        JavaClass otherJavaClass = JavaParserUtil.getFirstJavaClass(new StringReader(source));
+
+        // assert
+        assertThat(otherJavaClass.getJavaClassLibrary().getJavaClass("java.util.ArrayList"))
+            .isNotSameAs(javaClass.getJavaClassLibrary().getJavaClass("java.util.ArrayList"));
+        assertThat(otherJavaClass.getSuperClass().getFullyQualifiedName()).isEqualTo("java.util.ArrayList");
+    }
+
 }
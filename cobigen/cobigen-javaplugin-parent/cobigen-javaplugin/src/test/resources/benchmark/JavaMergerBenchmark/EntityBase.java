@@ -0,0 +1,113 @@
+package com.example.app.ordermanagement.dataaccess.api;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import com.example.app.general.dataaccess.api.ApplicationPersistenceEntity;
+import com.example.app.ordermanagement.common.api.Order;
+
+/**
+ * Entity of an order
+ */
+@Entity
+@Table(name = "Orders")
+public class OrderEntity extends ApplicationPersistenceEntity implements Order {
+
+  private static final long serialVersionUID = 1L;
+
+  private String number;
+
+  private BigDecimal price;
+
+  private List<OrderPositionEntity> positions;
+
+  /**
+   * Custom comment of the developer
+   */
+  private String comment;
+
+  /**
+   * @return the number of the order
+   */
+  @Column(name = "number", nullable = false)
+  public String getNumber() {
+
+    return this.number;
+  }
+
+  /**
+   * @param number new value of the number
+   */
+  public void setNumber(String number) {
+
+    this.number = number;
+  }
+
+  /**
+   * @return the price of the order
+   */
+  public BigDecimal getPrice() {
+
+    return this.price;
+  }
+
+  /**
+   * @param price new value of the price
+   */
+  public void setPrice(BigDecimal price) {
+
+    this.price = price;
+  }
+
+  /**
+   * @return the positions of the order
+   */
+  @OneToMany(mappedBy = "order")
+  public List<OrderPositionEntity> getPositions() {
+
+    return this.positions;
+  }
+
+  /**
+   * @param positions new value of the positions
+   */
+  public void setPositions(List<OrderPositionEntity> positions) {
+
+    this.positions = positions;
+  }
+
+  /**
+   * @return the comment
+   */
+  public String getComment() {
+
+    return this.comment;
+  }
+
+  /**
+   * @param comment new value of the comment
+   */
+  public void setComment(String comment) {
+
+    this.comment = comment;
+  }
+
+  /**
+   * Custom business logic of the developer
+   *
+   * @return the total price of all positions
+   */
+  public BigDecimal calculateTotal() {
+
+    BigDecimal total = BigDecimal.ZERO;
+    for (OrderPositionEntity position : this.positions) {
+      total = total.add(position.getPrice());
+    }
+    return total;
+  }
+}
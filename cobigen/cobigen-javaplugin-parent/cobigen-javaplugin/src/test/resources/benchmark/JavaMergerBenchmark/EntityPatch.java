@@ -0,0 +1,100 @@
+package com.example.app.ordermanagement.dataaccess.api;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import com.example.app.general.dataaccess.api.ApplicationPersistenceEntity;
+import com.example.app.ordermanagement.common.api.Order;
+
+/**
+ * Entity of an order
+ */
+@Entity
+@Table(name = "Orders")
+public class OrderEntity extends ApplicationPersistenceEntity implements Order {
+
+  private static final long serialVersionUID = 1L;
+
+  private String number;
+
+  private BigDecimal price;
+
+  private Timestamp creationDate;
+
+  private List<OrderPositionEntity> positions;
+
+  /**
+   * @return the number of the order
+   */
+  @Column(name = "number", nullable = false)
+  public String getNumber() {
+
+    return this.number;
+  }
+
+  /**
+   * @param number new value of the number
+   */
+  public void setNumber(String number) {
+
+    this.number = number;
+  }
+
+  /**
+   * @return the price of the order
+   */
+  public BigDecimal getPrice() {
+
+    return this.price;
+  }
+
+  /**
+   * @param price new value of the price
+   */
+  public void setPrice(BigDecimal price) {
+
+    this.price = price;
+  }
+
+  /**
+   * @return the creation date of the order
+   */
+  @Temporal(TemporalType.TIMESTAMP)
+  public Timestamp getCreationDate() {
+
+    return this.creationDate;
+  }
+
+  /**
+   * @param creationDate new value of the creation date
+   */
+  public void setCreationDate(Timestamp creationDate) {
+
+    this.creationDate = creationDate;
+  }
+
+  /**
+   * @return the positions of the order
+   */
+  @OneToMany(mappedBy = "order")
+  public List<OrderPositionEntity> getPositions() {
+
+    return this.positions;
+  }
+
+  /**
+   * @param positions new value of the positions
+   */
+  public void setPositions(List<OrderPositionEntity> positions) {
+
+    this.positions = positions;
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.app.ordermanagement.logic.api.to;
+
+import java.math.BigDecimal;
+
+import com.example.app.general.common.api.to.AbstractEto;
+import com.example.app.ordermanagement.common.api.Order;
+
+/**
+ * Entity transport object of Order
+ */
+public class OrderEto extends AbstractEto implements Order {
+
+  private static final long serialVersionUID = 1L;
+
+  private String number;
+
+  private BigDecimal price;
+
+  @Override
+  public String getNumber() {
+
+    return this.number;
+  }
+
+  @Override
+  public void setNumber(String number) {
+
+    this.number = number;
+  }
+
+  @Override
+  public BigDecimal getPrice() {
+
+    return this.price;
+  }
+
+  @Override
+  public void setPrice(BigDecimal price) {
+
+    this.price = price;
+  }
+
+  @Override
+  public int hashCode() {
+
+    final int prime = 31;
+    int result = super.hashCode();
+    result = prime * result + ((this.number == null) ? 0 : this.number.hashCode());
+    result = prime * result + ((this.price == null) ? 0 : this.price.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass() || !super.equals(obj)) {
+      return false;
+    }
+    OrderEto other = (OrderEto) obj;
+    return java.util.Objects.equals(this.number, other.number) && java.util.Objects.equals(this.price, other.price);
+  }
+}
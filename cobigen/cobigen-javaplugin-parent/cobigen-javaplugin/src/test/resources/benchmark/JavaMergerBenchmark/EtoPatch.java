@@ -0,0 +1,82 @@
+package com.example.app.ordermanagement.logic.api.to;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import com.example.app.general.common.api.to.AbstractEto;
+import com.example.app.ordermanagement.common.api.Order;
+
+/**
+ * Entity transport object of Order
+ */
+public class OrderEto extends AbstractEto implements Order {
+
+  private static final long serialVersionUID = 1L;
+
+  private String number;
+
+  private BigDecimal price;
+
+  private Timestamp creationDate;
+
+  @Override
+  public String getNumber() {
+
+    return this.number;
+  }
+
+  @Override
+  public void setNumber(String number) {
+
+    this.number = number;
+  }
+
+  @Override
+  public BigDecimal getPrice() {
+
+    return this.price;
+  }
+
+  @Override
+  public void setPrice(BigDecimal price) {
+
+    this.price = price;
+  }
+
+  @Override
+  public Timestamp getCreationDate() {
+
+    return this.creationDate;
+  }
+
+  @Override
+  public void setCreationDate(Timestamp creationDate) {
+
+    this.creationDate = creationDate;
+  }
+
+  @Override
+  public int hashCode() {
+
+    final int prime = 31;
+    int result = super.hashCode();
+    result = prime * result + ((this.number == null) ? 0 : this.number.hashCode());
+    result = prime * result + ((this.price == null) ? 0 : this.price.hashCode());
+    result = prime * result + ((this.creationDate == null) ? 0 : this.creationDate.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass() || !super.equals(obj)) {
+      return false;
+    }
+    OrderEto other = (OrderEto) obj;
+    return java.util.Objects.equals(this.number, other.number) && java.util.Objects.equals(this.price, other.price)
+        && java.util.Objects.equals(this.creationDate, other.creationDate);
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.app.ordermanagement.logic.impl.usecase;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.inject.Named;
+import javax.transaction.Transactional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.annotation.Validated;
+
+import com.example.app.ordermanagement.dataaccess.api.OrderEntity;
+import com.example.app.ordermanagement.logic.api.to.OrderEto;
+import com.example.app.ordermanagement.logic.api.usecase.UcManageOrder;
+import com.example.app.ordermanagement.logic.base.usecase.AbstractOrderUc;
+
+/**
+ * Use case implementation for modifying and deleting Orders
+ */
+@Named
+@Validated
+@Transactional
+public class UcManageOrderImpl extends AbstractOrderUc implements UcManageOrder {
+
+  /** Logger instance. */
+  private static final Logger LOG = LoggerFactory.getLogger(UcManageOrderImpl.class);
+
+  @Override
+  public boolean deleteOrder(long orderId) {
+
+    OrderEntity order = getOrderRepository().find(orderId);
+    getOrderRepository().delete(order);
+    LOG.debug("The order with id '{}' has been deleted.", orderId);
+    return true;
+  }
+
+  @Override
+  public OrderEto saveOrder(OrderEto order) {
+
+    Objects.requireNonNull(order, "order");
+
+    OrderEntity orderEntity = getBeanMapper().map(order, OrderEntity.class);
+
+    // initialize, validate orderEntity here if necessary
+    OrderEntity resultEntity = getOrderRepository().save(orderEntity);
+    LOG.debug("Order with id '{}' has been created.", resultEntity.getId());
+    return getBeanMapper().map(resultEntity, OrderEto.class);
+  }
+
+  /**
+   * Custom operation of the developer
+   *
+   * @param orderId the id of the order to be cancelled
+   * @return {@code true} if the order has been cancelled
+   */
+  public boolean cancelOrder(long orderId) {
+
+    Optional<OrderEntity> order = getOrderRepository().findById(orderId);
+    if (order.isPresent()) {
+      order.get().setComment("cancelled");
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,26 @@
+package com.devonfw;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Manually formatted class
+ */
+@SuppressWarnings({ "unused", "rawtypes" })
+public class FooBar {
+
+  // keep this comment
+  private   int   baseField = 0; // and this one
+
+  private Supplier<String> supplier = () -> { return "}"; };
+
+  /**
+   * Base method
+   * @return nothing
+   */
+  @Deprecated
+  public List baseMethod() {
+      return null;   // unusual indentation
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.devonfw;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FooBar {
+
+    private String patchField;
+
+    public List baseMethod() {
+        return new ArrayList();
+    }
+
+    public String getPatchField() {
+        return patchField;
+    }
+}
@@ -1,16 +1,19 @@
 package com.devonfw.cobigen.openapiplugin.inputreader;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,6 +44,7 @@ import com.reprezen.kaizen.oasparser.OpenApiParser.SwaggerParserException;
 import com.reprezen.kaizen.oasparser.model3.Info;
 import com.reprezen.kaizen.oasparser.model3.MediaType;
 import com.reprezen.kaizen.oasparser.model3.OpenApi3;
+import com.reprezen.kaizen.oasparser.model3.Operation;
 import com.reprezen.kaizen.oasparser.model3.Parameter;
 import com.reprezen.kaizen.oasparser.model3.Path;
 import com.reprezen.kaizen.oasparser.model3.RequestBody;
@@ -50,7 +54,7 @@ import com.reprezen.kaizen.oasparser.model3.Server;
 
 /**
  * Extension for the {@link InputReader} Interface of the CobiGen, to be able to read OpenApi3 definition
- * files into FreeMarker models
+ * files into FreeMarker models. The reader is stateless and thus can be used by concurrent generations.
  */
 public class OpenAPIInputReader implements InputReader {
 
@@ -60,11 +64,8 @@ public class OpenAPIInputReader implements InputReader {
     /** Valid extensions for the input reader */
     public static final String VALID_EXTENSION_YML = "yml";
 
-    /**
-     * Components retrieved from an EntityDef. Used for not executing multiple times the retrieval of
-     * components
-     */
-    private List<ComponentDef> components;
+    /** Pattern of a path's URI following its root component and version */
+    private static final Pattern PATH_URI = Pattern.compile("^\\/[^\\/]+\\/+[^\\/]+\\/(.+)");
 
     @Override
     public boolean isValidInput(Object input) {
@@ -124,18 +125,11 @@ public class OpenAPIInputReader implements InputReader {
     @Override
     public List<Object> getInputObjects(Object input, Charset inputCharset) {
         List<Object> inputs = new LinkedList<>();
-        List<Path> paths = new LinkedList<>();
 
         if (input instanceof OpenAPIFile) {
-            OpenApi3 astOpenApi = ((OpenAPIFile) input).getAST();
-            inputs.addAll(extractComponents(astOpenApi));
-
-            for (String key : astOpenApi.getPaths().keySet()) {
-                Path path = astOpenApi.getPaths().get(key);
-                paths.add(path);
-            }
-
-            inputs.addAll(extractComponentsFromPaths(paths, astOpenApi));
+            ExtractionContext context = new ExtractionContext(((OpenAPIFile) input).getAST());
+            inputs.addAll(extractComponents(context));
+            inputs.addAll(extractComponentsFromPaths(context));
         }
         return inputs;
     }
@@ -153,34 +147,23 @@ public class OpenAPIInputReader implements InputReader {
     /**
      * Get a list of components defined at the paths part with the x-component tag. Returns a list of
      * {@link ComponentDef}'s
-     * @param paths
-     *            the paths of the OpenApi3 file
-     * @param astOpenApi
-     *            OpenApi3 object which is the AST of the file
+     * @param context
+     *            context of the current extraction, already containing the components of all entities
      * @return a list of {@link ComponentDef}'s for each path that contains x-component tag
      */
-    private List<ComponentDef> extractComponentsFromPaths(List<Path> paths, OpenApi3 astOpenApi) {
-        for (Path path : paths) {
-            if (path.getExtensions().get(Constants.COMPONENT_EXT) != null) {
-                String componentName = path.getExtensions().get(Constants.COMPONENT_EXT).toString();
-                if (componentName != null && !componentName.isEmpty()) {
-
-                    // items on a list are passed by reference, we can change it
-                    ComponentDef componentDef = getComponent(componentName);
-                    // If the component has no name, it means no component was found
-                    if (componentDef.getName() == null) {
-                        componentDef.setName(componentName);
-                        componentDef.setPaths(extractPaths(astOpenApi.getPaths(), componentName));
-                        setExtensionsToComponent(astOpenApi, componentDef);
-
-                        components.add(componentDef);
-                    } else {
-                        setExtensionsToComponent(astOpenApi, componentDef);
-                    }
-                }
+    private List<ComponentDef> extractComponentsFromPaths(ExtractionContext context) {
+        for (String componentName : context.pathIndex.getComponentNames()) {
+            // items on a list are passed by reference, we can change it
+            ComponentDef componentDef = context.componentsByName.get(componentName);
+            if (componentDef == null) {
+                componentDef = new ComponentDef();
+                componentDef.setName(componentName);
+                componentDef.setPaths(context.pathIndex.getPathDefs(componentName));
+                context.addComponent(componentDef);
             }
+            setExtensionsToComponent(context.openApi, componentDef);
         }
-        return components;
+        return context.components;
     }
 
     /**
@@ -197,84 +180,84 @@ public class OpenAPIInputReader implements InputReader {
         }
     }
 
-    /**
-     * Tries to get a component from the components list using as parameter the component name
-     * @param componentName
-     *            component name to search
-     * @return the component if it was found on the list or otherwise a new ComponentDef
-     */
-    private ComponentDef getComponent(String componentName) {
-        for (ComponentDef componentDef : components) {
-            if (componentDef.getName().equals(componentName)) {
-                return componentDef;
-            }
-        }
-        return new ComponentDef();
-    }
-
     /**
      * Get a list of entities defined at an OpenaApi3 file returning a list of {@link EntityDef}'s
      *
-     * @param openApi
-     *            the model for an OpenApi3 file
+     * @param context
+     *            context of the current extraction
      * @return list of entities
      */
-    private List<EntityDef> extractComponents(OpenApi3 openApi) {
+    private List<EntityDef> extractComponents(ExtractionContext context) {
         HeaderDef header = new HeaderDef();
-        header.setServers(extractServers(openApi));
-        header.setInfo(extractInfo(openApi));
+        header.setServers(extractServers(context.openApi));
+        header.setInfo(extractInfo(context.openApi));
         List<EntityDef> objects = new LinkedList<>();
-        components = new LinkedList<>();
-
-        for (String key : openApi.getSchemas().keySet()) {
-            EntityDef entityDef = new EntityDef();
-            entityDef.setName(key);
-            entityDef.setDescription(openApi.getSchema(key).getDescription());
-            ComponentDef componentDef = new ComponentDef();
-            entityDef.setProperties(extractProperties(openApi, key));
-
-            // If no x-component tag was found on the input file, throw invalid configuration
-            if (openApi.getSchema(key).getExtensions().get(Constants.COMPONENT_EXT) == null) {
-                throw new InvalidConfigurationException(
-                    "Your Swagger file is not correctly formatted, it lacks of x-component tags.\n\n"
-                        + "Go to the documentation "
-                        + "(https://github.com/devonfw/cobigen/wiki/cobigen-openapiplugin#full-example) "
-                        + "to check how to correctly format it."
-                        + " If it is still not working, check your file indentation!");
-            }
-            String componentName = openApi.getSchema(key).getExtensions().get(Constants.COMPONENT_EXT).toString();
-            entityDef.setComponentName(componentName);
-
-            // If the path's tag was not found on the input file, throw invalid configuration
-            if (openApi.getPaths().size() == 0) {
-                throw new InvalidConfigurationException(
-                    "Your Swagger file is not correctly formatted, it lacks of the correct path syntax.\n\n"
-                        + "Go to the documentation (https://github.com/devonfw/cobigen"
-                        + "/wiki/cobigen-openapiplugin#paths) to check how to correctly format it."
-                        + " If it is still not working, check your file indentation!");
-            }
-
-            // Sets a Map containing all the extensions of the info part of the OpenAPI file
-            if (Overlay.isPresent((JsonOverlay<?>) openApi.getInfo())) {
-                entityDef.setUserPropertiesMap(openApi.getInfo().getExtensions());
-            }
-            // Traverse the extensions of the entity for setting those attributes to the Map
-            Iterator<String> it = openApi.getSchema(key).getExtensions().keySet().iterator();
-            while (it.hasNext()) {
-                String keyMap = it.next();
-                entityDef.setUserProperty(keyMap, openApi.getSchema(key).getExtensions().get(keyMap).toString());
-            }
-            componentDef.setPaths(extractPaths(openApi.getPaths(), componentName));
-            componentDef.setName(componentName);
-            components.add(componentDef);
-            entityDef.setComponent(componentDef);
-
-            entityDef.setHeader(header);
+        for (Entry<String, ? extends Schema> schema : context.openApi.getSchemas().entrySet()) {
+            EntityDef entityDef = extractEntity(context, schema.getKey(), schema.getValue(), header);
+            context.addComponent(entityDef.getComponent());
             objects.add(entityDef);
         }
         return objects;
     }
 
+    /**
+     * Get the {@link EntityDef} of a schema together with its own {@link ComponentDef}
+     *
+     * @param context
+     *            context of the current extraction
+     * @param key
+     *            name of the schema
+     * @param schema
+     *            the schema
+     * @param header
+     *            header of the OpenApi3 file shared by all entities
+     * @return the entity
+     */
+    private EntityDef extractEntity(ExtractionContext context, String key, Schema schema, HeaderDef header) {
+        OpenApi3 openApi = context.openApi;
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName(key);
+        entityDef.setDescription(schema.getDescription());
+        ComponentDef componentDef = new ComponentDef();
+        entityDef.setProperties(extractProperties(openApi, schema));
+
+        // If no x-component tag was found on the input file, throw invalid configuration
+        if (schema.getExtensions().get(Constants.COMPONENT_EXT) == null) {
+            throw new InvalidConfigurationException(
+                "Your Swagger file is not correctly formatted, it lacks of x-component tags.\n\n"
+                    + "Go to the documentation "
+                    + "(https://github.com/devonfw/cobigen/wiki/cobigen-openapiplugin#full-example) "
+                    + "to check how to correctly format it."
+                    + " If it is still not working, check your file indentation!");
+        }
+        String componentName = schema.getExtensions().get(Constants.COMPONENT_EXT).toString();
+        entityDef.setComponentName(componentName);
+
+        // If the path's tag was not found on the input file, throw invalid configuration
+        if (openApi.getPaths().size() == 0) {
+            throw new InvalidConfigurationException(
+                "Your Swagger file is not correctly formatted, it lacks of the correct path syntax.\n\n"
+                    + "Go to the documentation (https://github.com/devonfw/cobigen"
+                    + "/wiki/cobigen-openapiplugin#paths) to check how to correctly format it."
+                    + " If it is still not working, check your file indentation!");
+        }
+
+        // Sets a Map containing all the extensions of the info part of the OpenAPI file
+        if (Overlay.isPresent((JsonOverlay<?>) openApi.getInfo())) {
+            entityDef.setUserPropertiesMap(openApi.getInfo().getExtensions());
+        }
+        // Traverse the extensions of the entity for setting those attributes to the Map
+        for (Entry<String, Object> extension : schema.getExtensions().entrySet()) {
+            entityDef.setUserProperty(extension.getKey(), extension.getValue().toString());
+        }
+        componentDef.setPaths(context.pathIndex.getPathDefs(componentName));
+        componentDef.setName(componentName);
+        entityDef.setComponent(componentDef);
+
+        entityDef.setHeader(header);
+        return entityDef;
+    }
+
     /**
      * @param openApi
      *            document root
@@ -352,12 +335,11 @@ public class OpenAPIInputReader implements InputReader {
      *
      * @param openApi
      *            the OpenApi3 model
-     * @param componentName
-     *            entity name
+     * @param componentSchema
+     *            schema of the entity
      * @return List of {@link PropertyDef}'s
      */
-    private List<PropertyDef> extractProperties(OpenApi3 openApi, String componentName) {
-        Schema componentSchema = openApi.getSchema(componentName);
+    private List<PropertyDef> extractProperties(OpenApi3 openApi, Schema componentSchema) {
         Map<String, ? extends Schema> properties = componentSchema.getProperties();
         List<PropertyDef> objects = new LinkedList<>();
         for (Entry<String, ? extends Schema> prop : properties.entrySet()) {
@@ -427,71 +409,51 @@ public class OpenAPIInputReader implements InputReader {
     }
 
     /**
-     * Get a list of {@link PathDef} from a list of OpenApi paths definitions
+     * Get the {@link PathDef} of an OpenApi path definition
      *
-     * @param paths
-     *            the list of OpenApi paths definitions
-     * @param componentName
-     *            the component where the paths belong to
-     * @return list of {@link PathDef}'s
+     * @param pathKey
+     *            the key of the path definition, i.e. the path's URI
+     * @param path
+     *            the OpenApi path definition
+     * @return the {@link PathDef}
      */
-    private List<PathDef> extractPaths(Map<String, ? extends Path> paths, String componentName) {
-        Matcher matcher;
-        Pattern pattern;
-        String match, rootComponent, version;
-        boolean matchFound = false;
-
-        List<PathDef> pathDefs = new LinkedList<>();
-
-        for (String pathKey : paths.keySet()) {
-            if (pathKey.toLowerCase().contains(componentName.toLowerCase())) {
-                rootComponent = null;
-                version = null;
-                String[] mp = pathKey.split("/");
-                String pathUri = "/";
-
-                match = "^\\/[^\\/]+\\/+[^\\/]+\\/(.+)";
-                pattern = Pattern.compile(match);
-                matcher = pattern.matcher(pathKey);
-                matchFound = matcher.find();
-                if (matchFound) {
-                    pathUri += matcher.group(1);
-                    if (!pathUri.substring(pathUri.length() - 1).equals("/")) {
-                        pathUri += "/";
-                    }
-                }
-                if (mp.length > 1) {
-                    rootComponent = mp[1];
-                    if (mp.length > 2) {
-                        version = mp[2];
-                    }
-                }
-
-                PathDef path = new PathDef(rootComponent, pathUri, version);
-
-                for (String opKey : paths.get(pathKey).getOperations().keySet()) {
-                    OperationDef operation = new OperationDef(opKey);
-                    operation.setDescription(paths.get(pathKey).getOperation(opKey).getDescription());
-                    operation.setSummary(paths.get(pathKey).getOperation(opKey).getSummary());
-                    operation.setOperationId((paths.get(pathKey).getOperation(opKey).getOperationId()));
-                    operation.setResponses(extractResponses(paths.get(pathKey).getOperation(opKey).getResponses(),
-                        paths.get(pathKey).getOperation(opKey).getTags()));
-                    operation.setTags(paths.get(pathKey).getOperation(opKey).getTags());
-                    if (path.getOperations() == null) {
-                        path.setOperations(new ArrayList<OperationDef>());
-                    }
-                    operation.getParameters()
-                        .addAll(extractParameters(paths.get(pathKey).getOperation(opKey).getParameters(),
-                            paths.get(pathKey).getOperation(opKey).getTags(),
-                            paths.get(pathKey).getOperation(opKey).getRequestBody()));
-                    path.getOperations().add(operation);
-                }
-
-                pathDefs.add(path);
+    private PathDef extractPath(String pathKey, Path path) {
+        String rootComponent = null;
+        String version = null;
+        String[] mp = pathKey.split("/");
+        String pathUri = "/";
+
+        Matcher matcher = PATH_URI.matcher(pathKey);
+        if (matcher.find()) {
+            pathUri += matcher.group(1);
+            if (!pathUri.substring(pathUri.length() - 1).equals("/")) {
+                pathUri += "/";
+            }
+        }
+        if (mp.length > 1) {
+            rootComponent = mp[1];
+            if (mp.length > 2) {
+                version = mp[2];
             }
         }
 
-        return pathDefs;
+        PathDef pathDef = new PathDef(rootComponent, pathUri, version);
+
+        for (Entry<String, ? extends Operation> opEntry : path.getOperations().entrySet()) {
+            Operation op = opEntry.getValue();
+            OperationDef operation = new OperationDef(opEntry.getKey());
+            operation.setDescription(op.getDescription());
+            operation.setSummary(op.getSummary());
+            operation.setOperationId(op.getOperationId());
+            operation.setResponses(extractResponses(op.getResponses(), op.getTags()));
+            operation.setTags(op.getTags());
+            if (pathDef.getOperations() == null) {
+                pathDef.setOperations(new ArrayList<OperationDef>());
+            }
+            operation.getParameters().addAll(extractParameters(op.getParameters(), op.getTags(), op.getRequestBody()));
+            pathDef.getOperations().add(operation);
+        }
+        return pathDef;
     }
 
     /**
@@ -691,7 +653,8 @@ public class OpenAPIInputReader implements InputReader {
             throw new InputReaderException("Path " + path.toAbsolutePath().toUri().toString() + " is not a file!");
         }
         try {
-            OpenApi3 openApi = (OpenApi3) new OpenApiParser().parse(path.toUri());
+            OpenApi3 openApi =
+                OpenAPIParseCache.getOpenApi(path, file -> (OpenApi3) new OpenApiParser().parse(file.toUri()));
             if (openApi == null) {
                 throw new InputReaderException(path + " is not a valid OpenAPI file");
             }
@@ -699,6 +662,8 @@ public class OpenAPIInputReader implements InputReader {
         } catch (SwaggerParserException e) {
             // SwaggerParserException indicates a wrong input file.
             throw new InputReaderException("Reader does not support input type or input is faulty", e);
+        } catch (IOException e) {
+            throw new InputReaderException("Could not read file " + path.toString(), e);
         }
     }
 
@@ -708,4 +673,114 @@ public class OpenAPIInputReader implements InputReader {
         String fileExtension = FilenameUtils.getExtension(path.toString()).toLowerCase();
         return validExtensions.contains(fileExtension);
     }
+
+    /**
+     * Index of the paths of an OpenApi3 file. The paths of each component are determined just once, whereas
+     * each component gets its own {@link PathDef}s.
+     */
+    private final class PathIndex {
+
+        /** Paths of the OpenApi3 file by their keys */
+        private final Map<String, ? extends Path> paths;
+
+        /** Lower case keys of the paths by their keys in the order of the OpenApi3 file */
+        private final Map<String, String> lowerCaseKeys = new LinkedHashMap<>();
+
+        /** Names of the components declared by the x-component tags of the paths in order of occurrence */
+        private final Set<String> componentNames = new LinkedHashSet<>();
+
+        /** Keys of the paths by the lower case name of the component they belong to */
+        private final Map<String, List<String>> pathKeysByComponent = new HashMap<>();
+
+        /**
+         * Creates the index of the given paths
+         * @param paths
+         *            the paths of the OpenApi3 file by their keys
+         */
+        PathIndex(Map<String, ? extends Path> paths) {
+            this.paths = paths;
+            for (Entry<String, ? extends Path> path : paths.entrySet()) {
+                lowerCaseKeys.put(path.getKey(), path.getKey().toLowerCase());
+                Object componentName = path.getValue().getExtensions().get(Constants.COMPONENT_EXT);
+                if (componentName != null && !componentName.toString().isEmpty()) {
+                    componentNames.add(componentName.toString());
+                }
+            }
+        }
+
+        /**
+         * Returns the names of the components declared by the x-component tags of the paths
+         * @return the component names in order of their first occurrence
+         */
+        Set<String> getComponentNames() {
+            return componentNames;
+        }
+
+        /**
+         * Returns the {@link PathDef}s of a component, i.e. of all paths containing the component's name. The
+         * matching paths are just determined once per component name, whereas the {@link PathDef}s are created
+         * anew on each call, such that changes to the model of one component do not affect other components.
+         * @param componentName
+         *            the component where the paths belong to
+         * @return a new list of new {@link PathDef}s of the component in the order of the OpenApi3 file
+         */
+        List<PathDef> getPathDefs(String componentName) {
+            String lowerCaseName = componentName.toLowerCase();
+            List<String> componentPathKeys = pathKeysByComponent.computeIfAbsent(lowerCaseName, name -> {
+                List<String> matchingPathKeys = new ArrayList<>();
+                for (Entry<String, String> key : lowerCaseKeys.entrySet()) {
+                    if (key.getValue().contains(name)) {
+                        matchingPathKeys.add(key.getKey());
+                    }
+                }
+                return matchingPathKeys;
+            });
+            List<PathDef> pathDefs = new LinkedList<>();
+            for (String pathKey : componentPathKeys) {
+                pathDefs.add(extractPath(pathKey, paths.get(pathKey)));
+            }
+            return pathDefs;
+        }
+    }
+
+    /**
+     * State of the extraction of the inputs of a single OpenApi3 file
+     */
+    private final class ExtractionContext {
+
+        /** The OpenApi3 file's model */
+        private final OpenApi3 openApi;
+
+        /** Index of the paths of the OpenApi3 file */
+        private final PathIndex pathIndex;
+
+        /**
+         * Components retrieved from an EntityDef. Used for not executing multiple times the retrieval of
+         * components
+         */
+        private final List<ComponentDef> components = new LinkedList<>();
+
+        /** First component retrieved for each component name */
+        private final Map<String, ComponentDef> componentsByName = new HashMap<>();
+
+        /**
+         * Creates a new context for extracting the inputs of the given OpenApi3 file
+         * @param openApi
+         *            the OpenApi3 file's model
+         */
+        ExtractionContext(OpenApi3 openApi) {
+            this.openApi = openApi;
+            pathIndex = new PathIndex(openApi.getPaths());
+        }
+
+        /**
+         * Adds a retrieved component
+         * @param componentDef
+         *            the component
+         */
+        void addComponent(ComponentDef componentDef) {
+            components.add(componentDef);
+            componentsByName.putIfAbsent(componentDef.getName(), componentDef);
+        }
+    }
 }
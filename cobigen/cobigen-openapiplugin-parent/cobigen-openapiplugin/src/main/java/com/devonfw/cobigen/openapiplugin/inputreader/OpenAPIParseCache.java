@@ -0,0 +1,243 @@
+package com.devonfw.cobigen.openapiplugin.inputreader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.reprezen.kaizen.oasparser.model3.OpenApi3;
+
+/**
+ * Cache of parsed OpenAPI specifications shared by all {@link OpenAPIInputReader}s. Specifications are cached
+ * by their canonical path and are revalidated by the size, last modification time and content hash of the
+ * specification file as well as of all local files referenced by {@code $ref} on each request, such that
+ * unchanged specifications are not parsed and resolved again. Each request thus still reads and hashes the
+ * specification file and all files it references. Specifications referencing remote files are not cached.<br>
+ * <br>
+ * The {@link OpenApi3} models are cached per thread, as JsonOverlay builds parts of a model lazily on read and
+ * does not guarantee reading a model from multiple threads to be safe. A cached model is thus just returned to
+ * the thread it has been parsed by and has to be treated as read-only by that thread.
+ */
+public class OpenAPIParseCache {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(OpenAPIParseCache.class);
+
+    /** Maximum number of parsed specifications to be cached */
+    private static final int MAX_CACHED_SPECS = 64;
+
+    /** Pattern of {@code $ref} values in YAML as well as JSON notation */
+    private static final Pattern REFERENCE = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}]+)");
+
+    /**
+     * Least recently used parsed specifications by the ID of the thread having parsed them and their canonical
+     * path. Values are softly referenced as models might be large.
+     */
+    private static final Cache<String, ParsedSpec> PARSED_SPECS =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SPECS).softValues().build();
+
+    /**
+     * Returns the parsed model of the given OpenAPI specification. The specification will just be parsed if it
+     * has not been parsed by the current thread before or if the specification or any of its referenced files
+     * has been changed since.
+     * @param path
+     *            the specification file
+     * @param parser
+     *            function parsing the specification file including its references, possibly returning
+     *            {@code null} if the file is not a valid specification
+     * @return the parsed model or {@code null} if the file is not a valid specification
+     * @throws IOException
+     *             if the specification or one of its referenced files could not be read
+     */
+    public static OpenApi3 getOpenApi(Path path, Function<Path, OpenApi3> parser) throws IOException {
+
+        String key = Thread.currentThread().getId() + ":" + path.toRealPath();
+        ParsedSpec parsedSpec = PARSED_SPECS.getIfPresent(key);
+        if (parsedSpec != null && parsedSpec.isUpToDate()) {
+            LOG.debug("Parsed OpenAPI specification {} retrieved from cache.", path);
+            return parsedSpec.openApi;
+        }
+
+        // determine the file states before parsing, such that changes while parsing invalidate the entry
+        Map<Path, FileState> fileStates = determineFileStates(path.toRealPath());
+        OpenApi3 openApi = parser.apply(path);
+        if (openApi != null && fileStates != null) {
+            PARSED_SPECS.put(key, new ParsedSpec(fileStates, openApi));
+        } else {
+            PARSED_SPECS.invalidate(key);
+        }
+        return openApi;
+    }
+
+    /** Clears the cache, e.g. to release the memory of parsed specifications no longer needed */
+    public static void clear() {
+        PARSED_SPECS.invalidateAll();
+    }
+
+    /**
+     * Determines the states of the given specification file and all local files referenced by it transitively
+     * @param specFile
+     *            canonical path of the specification file
+     * @return the states of all files by their canonical paths or {@code null} if the specification references
+     *         files, which cannot be tracked, e.g. remote files
+     * @throws IOException
+     *             if a file could not be read
+     */
+    private static Map<Path, FileState> determineFileStates(Path specFile) throws IOException {
+        Map<Path, FileState> fileStates = new LinkedHashMap<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.push(specFile);
+        while (!pending.isEmpty()) {
+            Path file = pending.pop();
+            if (fileStates.containsKey(file)) {
+                continue;
+            }
+            byte[] content = Files.readAllBytes(file);
+            fileStates.put(file, new FileState(file, content));
+
+            Matcher matcher = REFERENCE.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String reference = matcher.group(1);
+                int fragmentStart = reference.indexOf('#');
+                String document = fragmentStart >= 0 ? reference.substring(0, fragmentStart) : reference;
+                if (document.isEmpty()) {
+                    // reference within the same file
+                    continue;
+                }
+                Path referencedFile = resolveLocalFile(file, document);
+                if (referencedFile == null) {
+                    LOG.debug("OpenAPI specification {} references {}, which cannot be tracked. Not caching it.",
+                        specFile, reference);
+                    return null;
+                }
+                pending.push(referencedFile);
+            }
+        }
+        return fileStates;
+    }
+
+    /**
+     * Resolves a referenced document relative to the referencing file
+     * @param referencingFile
+     *            canonical path of the referencing file
+     * @param document
+     *            the referenced document, i.e. the reference without its fragment
+     * @return the canonical path of the referenced file or {@code null} if it is not an existing local file
+     * @throws IOException
+     *             if the canonical path could not be determined
+     */
+    private static Path resolveLocalFile(Path referencingFile, String document) throws IOException {
+        URI uri;
+        try {
+            uri = referencingFile.toUri().resolve(document);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!"file".equals(uri.getScheme())) {
+            return null;
+        }
+        Path file = Paths.get(uri);
+        return Files.isRegularFile(file) ? file.toRealPath() : null;
+    }
+
+    /** State of a file a specification has been parsed from */
+    private static final class FileState {
+
+        /** Size of the file */
+        private final long size;
+
+        /** Last modification time of the file */
+        private final long lastModified;
+
+        /** Hash of the file's content */
+        private final HashCode contentHash;
+
+        /**
+         * Creates the state of the given file
+         * @param file
+         *            the file
+         * @param content
+         *            content of the file
+         * @throws IOException
+         *             if the last modification time could not be read
+         */
+        FileState(Path file, byte[] content) throws IOException {
+            size = content.length;
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+            contentHash = Hashing.murmur3_128().hashBytes(content);
+        }
+
+        /**
+         * Checks whether the given file did not change since this state has been determined
+         * @param file
+         *            the file
+         * @return {@code true} if the file did not change, {@code false} otherwise
+         * @throws IOException
+         *             if the file could not be read
+         */
+        boolean isUpToDate(Path file) throws IOException {
+            if (!Files.isRegularFile(file) || Files.size(file) != size
+                || Files.getLastModifiedTime(file).toMillis() != lastModified) {
+                return false;
+            }
+            return contentHash.equals(Hashing.murmur3_128().hashBytes(Files.readAllBytes(file)));
+        }
+    }
+
+    /** A parsed specification together with the states of the files it has been parsed from */
+    private static final class ParsedSpec {
+
+        /** States of the specification file and all referenced files by their canonical paths */
+        private final Map<Path, FileState> fileStates;
+
+        /** The parsed specification */
+        private final OpenApi3 openApi;
+
+        /**
+         * Creates a new parsed specification
+         * @param fileStates
+         *            states of the specification file and all referenced files by their canonical paths
+         * @param openApi
+         *            the parsed specification
+         */
+        ParsedSpec(Map<Path, FileState> fileStates, OpenApi3 openApi) {
+            this.fileStates = fileStates;
+            this.openApi = openApi;
+        }
+
+        /**
+         * Checks whether neither the specification file nor any referenced file changed since parsing
+         * @return {@code true} if the parsed specification is up to date, {@code false} otherwise
+         */
+        boolean isUpToDate() {
+            try {
+                for (Entry<Path, FileState> fileState : fileStates.entrySet()) {
+                    if (!fileState.getValue().isUpToDate(fileState.getKey())) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                LOG.debug("Could not revalidate cached OpenAPI specification.", e);
+                return false;
+            }
+        }
+    }
+}
@@ -3,13 +3,20 @@ package com.devonfw.cobigen.openapiplugin.unittest.inputreader;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.extension.InputReader;
@@ -18,6 +25,7 @@ import com.devonfw.cobigen.openapiplugin.model.ComponentDef;
 import com.devonfw.cobigen.openapiplugin.model.EntityDef;
 import com.devonfw.cobigen.openapiplugin.model.HeaderDef;
 import com.devonfw.cobigen.openapiplugin.model.InfoDef;
+import com.devonfw.cobigen.openapiplugin.model.OpenAPIFile;
 import com.devonfw.cobigen.openapiplugin.model.OperationDef;
 import com.devonfw.cobigen.openapiplugin.model.ParameterDef;
 import com.devonfw.cobigen.openapiplugin.model.PathDef;
@@ -32,6 +40,10 @@ public class OpenAPIInputReaderTest {
     /** Testdata root path */
     private static final String testdataRoot = "src/test/resources/testdata/unittest/OpenAPIInputReaderTest";
 
+    /** Temporary folder rule to create new temporary folder and files */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Test {@link InputReader#getInputObjects(Object, Charset)} extracting two components
      * @throws Exception
@@ -386,6 +398,146 @@ public class OpenAPIInputReaderTest {
         Object inputObject = inputReader.read(Paths.get(testdataRoot, "CyclicalDependency.yaml"), TestConstants.UTF_8);
     }
 
+    /**
+     * Tests that an unchanged specification is not parsed again, but a specification is parsed again after a
+     * referenced file has been changed
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testReadCachedUntilReferencedFileChanges() throws Exception {
+
+        // arrange
+        Path spec = tmpFolder.newFile("spec.yaml").toPath();
+        Path types = tmpFolder.newFile("types.yaml").toPath();
+        Files.write(spec,
+            ("openapi: 3.0.0\ninfo:\n  title: Cache\n  version: 1.0.0\npaths: {}\ncomponents:\n  schemas:\n"
+                + "    Table:\n      x-component: tablemanagement\n      type: object\n      properties:\n"
+                + "        name:\n          $ref: 'types.yaml#/Name'\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(types, "Name:\n  type: string\n".getBytes(StandardCharsets.UTF_8));
+        OpenAPIInputReader inputReader = new OpenAPIInputReader();
+
+        // act
+        OpenAPIFile firstRead = (OpenAPIFile) inputReader.read(spec, TestConstants.UTF_8);
+        OpenAPIFile secondRead = (OpenAPIFile) inputReader.read(spec, TestConstants.UTF_8);
+        Files.write(types, "Name:\n  type: string\n  maxLength: 10\n".getBytes(StandardCharsets.UTF_8));
+        OpenAPIFile thirdRead = (OpenAPIFile) inputReader.read(spec, TestConstants.UTF_8);
+
+        // assert
+        assertThat(secondRead.getAST()).isSameAs(firstRead.getAST());
+        assertThat(thirdRead.getAST()).isNotSameAs(firstRead.getAST());
+        assertThat(thirdRead.getAST().getSchema("Table").getProperty("name").getMaxLength()).isEqualTo(10);
+    }
+
+    /**
+     * Tests that a parsed specification is not shared across threads, as the parsed models cannot be read safely
+     * by multiple threads at once
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testReadCachedPerThread() throws Exception {
+
+        // arrange
+        Path spec = tmpFolder.newFile("spec.yaml").toPath();
+        Files.write(spec, ("openapi: 3.0.0\ninfo:\n  title: Cache\n  version: 1.0.0\npaths: {}\n")
+            .getBytes(StandardCharsets.UTF_8));
+        OpenAPIInputReader inputReader = new OpenAPIInputReader();
+        ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+        // act
+        OpenAPIFile firstRead = (OpenAPIFile) inputReader.read(spec, TestConstants.UTF_8);
+        OpenAPIFile secondRead = (OpenAPIFile) inputReader.read(spec, TestConstants.UTF_8);
+        OpenAPIFile otherThreadRead;
+        try {
+            otherThreadRead =
+                (OpenAPIFile) otherThread.submit(() -> inputReader.read(spec, TestConstants.UTF_8)).get();
+        } finally {
+            otherThread.shutdownNow();
+        }
+
+        // assert
+        assertThat(secondRead.getAST()).isSameAs(firstRead.getAST());
+        assertThat(otherThreadRead.getAST()).isNotSameAs(firstRead.getAST());
+    }
+
+    /**
+     * Tests that the entities and components of a specification with many schemas are retrieved in the order of
+     * the specification
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testRetrieveManyInputsKeepsOrder() throws Exception {
+
+        // arrange
+        int schemaCount = 200;
+        StringBuilder spec = new StringBuilder("openapi: 3.0.0\ninfo:\n  title: Many\n  version: 1.0.0\npaths:\n");
+        for (int i = 0; i < schemaCount; i++) {
+            spec.append("  /c").append(i).append("management/v1/entity").append(i).append("/:\n");
+            spec.append("    x-component: c").append(i).append("management\n");
+            spec.append("    get:\n      responses:\n        '200':\n          description: Any\n");
+        }
+        spec.append("components:\n  schemas:\n");
+        for (int i = 0; i < schemaCount; i++) {
+            spec.append("    Entity").append(i).append(":\n      x-component: c").append(i).append("management\n");
+            spec.append("      type: object\n      properties:\n        name:\n          type: string\n");
+        }
+        Path specFile = tmpFolder.newFile("many.yaml").toPath();
+        Files.write(specFile, spec.toString().getBytes(StandardCharsets.UTF_8));
+        OpenAPIInputReader inputReader = new OpenAPIInputReader();
+
+        // act
+        List<Object> inputObjects =
+            inputReader.getInputObjects(inputReader.read(specFile, TestConstants.UTF_8), TestConstants.UTF_8);
+
+        // assert
+        assertThat(inputObjects).hasSize(2 * schemaCount);
+        for (int i = 0; i < schemaCount; i++) {
+            EntityDef entityDef = (EntityDef) inputObjects.get(i);
+            assertThat(entityDef.getName()).isEqualTo("Entity" + i);
+            assertThat(entityDef.getComponent()).isSameAs(inputObjects.get(schemaCount + i));
+            assertThat(entityDef.getComponent().getPaths()).extracting("pathURI").containsExactly("/entity" + i + "/");
+        }
+    }
+
+    /**
+     * Tests that entities of the same component do not share the {@link PathDef}s of their components, such that
+     * changing the model of one entity does not affect other entities
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testEntitiesOfSameComponentDoNotSharePaths() throws Exception {
+
+        // arrange
+        Path specFile = tmpFolder.newFile("same-component.yaml").toPath();
+        Files.write(specFile,
+            ("openapi: 3.0.0\ninfo:\n  title: Same component\n  version: 1.0.0\npaths:\n"
+                + "  /salemanagement/v1/sale/:\n    x-component: salemanagement\n"
+                + "    get:\n      responses:\n        '200':\n          description: Any\n"
+                + "components:\n  schemas:\n"
+                + "    Sale:\n      x-component: salemanagement\n      type: object\n      properties:\n"
+                + "        name:\n          type: string\n"
+                + "    Customer:\n      x-component: salemanagement\n      type: object\n      properties:\n"
+                + "        name:\n          type: string\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        OpenAPIInputReader inputReader = new OpenAPIInputReader();
+
+        // act
+        List<Object> inputObjects =
+            inputReader.getInputObjects(inputReader.read(specFile, TestConstants.UTF_8), TestConstants.UTF_8);
+        List<PathDef> salePaths = ((EntityDef) inputObjects.get(0)).getComponent().getPaths();
+        List<PathDef> customerPaths = ((EntityDef) inputObjects.get(1)).getComponent().getPaths();
+        salePaths.get(0).getOperations().clear();
+
+        // assert
+        assertThat(salePaths).hasSize(1);
+        assertThat(customerPaths).hasSize(1);
+        assertThat(customerPaths.get(0)).isNotSameAs(salePaths.get(0));
+        assertThat(customerPaths.get(0).getOperations()).hasSize(1);
+    }
+
     private List<Object> getInputs(String testInputFilename) throws Exception {
         OpenAPIInputReader inputReader = new OpenAPIInputReader();
         Object inputObject = inputReader.read(Paths.get(testdataRoot, testInputFilename), TestConstants.UTF_8);
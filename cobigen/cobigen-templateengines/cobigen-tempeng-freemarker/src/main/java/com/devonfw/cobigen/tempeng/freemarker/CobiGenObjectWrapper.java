@@ -0,0 +1,43 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.util.List;
+import java.util.Map;
+
+import freemarker.template.DefaultObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.Version;
+
+/**
+ * {@link DefaultObjectWrapper} tailored to the models created by CobiGen's input readers, which mainly consist
+ * of nested {@link Map maps} and {@link List lists} of strings. Maps and lists are exposed as views, which
+ * memoize the wrapped values of the keys and indices accessed during the processing of a template. Thus,
+ * traversing the same model path multiple times (e.g. <code>pojo.fields</code> within each getter of an entity)
+ * does not wrap the same values over and over again. All other objects are wrapped by the
+ * {@link DefaultObjectWrapper} and thus keep using its class introspection cache.<br>
+ * <br>
+ * The views still adapt the original objects, such that passing a map or list to a logic class method as
+ * well as the <code>?api</code> built-in provide the original {@link Map} or {@link List}. The model is
+ * expected not to be modified during the processing of a template.
+ */
+public class CobiGenObjectWrapper extends DefaultObjectWrapper {
+
+    /**
+     * Creates a new {@link CobiGenObjectWrapper}.
+     * @param incompatibleImprovements
+     *            FreeMarker version the wrapper should be compatible to
+     */
+    public CobiGenObjectWrapper(Version incompatibleImprovements) {
+        super(incompatibleImprovements);
+    }
+
+    @Override
+    public TemplateModel wrap(Object obj) throws TemplateModelException {
+        if (obj instanceof Map) {
+            return new MemoizingMapModel((Map<?, ?>) obj, this);
+        } else if (obj instanceof List) {
+            return new MemoizingListModel((List<?>) obj, this);
+        }
+        return super.wrap(obj);
+    }
+}
@@ -2,24 +2,22 @@ package com.devonfw.cobigen.tempeng.freemarker;
 
 import java.io.Writer;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import com.devonfw.cobigen.api.annotation.Name;
 import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.extension.TextTemplate;
 import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.tempeng.freemarker.constant.FreemarkerMetadata;
 
-import freemarker.cache.NullCacheStorage;
-import freemarker.core.Environment;
-import freemarker.core.ParseException;
-import freemarker.template.Configuration;
-import freemarker.template.DefaultObjectWrapperBuilder;
-import freemarker.template.Template;
-import freemarker.template.TemplateException;
-
 /**
- * {@link TextTemplateEngine} implementation for Apache FreeMarker.
+ * {@link TextTemplateEngine} implementation for Apache FreeMarker. Processing templates by this engine
+ * directly resolves them on the template folder set by {@link #setTemplateFolder(Path)}, which is shared by
+ * all callers and thus restricted to a single thread. Use {@link #forTemplateFolder(Path)} to process templates
+ * concurrently.
  */
 @Name("FreeMarker")
 public class FreeMarkerTemplateEngine implements TextTemplateEngine {
@@ -27,21 +25,27 @@ public class FreeMarkerTemplateEngine implements TextTemplateEngine {
     /** The file extension of the template files. */
     private static final String TEMPLATE_EXTENSION = ".ftl";
 
-    /** The commonly used FreeMarker engine configuration */
-    private Configuration freeMarkerConfig;
+    /** Maximum number of template folders, whose configuration and template cache is kept */
+    private static final int MAX_CACHED_TEMPLATE_FOLDERS = 16;
 
     /**
-     * Constructor, which initializes the commonly used FreeMarker configuration.
+     * Configurations mapped by their template folder. Each template folder has its own FreeMarker configuration
+     * and template cache, such that templates of different template folders do not interfere. Only the most
+     * recently used template folders are kept, engines bound to an evicted folder keep its configuration.
      */
-    public FreeMarkerTemplateEngine() {
-        freeMarkerConfig = new Configuration(Configuration.VERSION_2_3_23);
-        freeMarkerConfig.setObjectWrapper(new DefaultObjectWrapperBuilder(Configuration.VERSION_2_3_23).build());
-        freeMarkerConfig.clearEncodingMap();
-        freeMarkerConfig.setDefaultEncoding("UTF-8");
-        freeMarkerConfig.setLocalizedLookup(false);
-        freeMarkerConfig.setTemplateLoader(new NioFileSystemTemplateLoader());
-        freeMarkerConfig.setCacheStorage(new NullCacheStorage());
-    }
+    private final Map<Path, FreeMarkerTemplateFolder> templateFolders =
+        new LinkedHashMap<Path, FreeMarkerTemplateFolder>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Entry<Path, FreeMarkerTemplateFolder> eldest) {
+                return size() > MAX_CACHED_TEMPLATE_FOLDERS;
+            }
+        };
+
+    /**
+     * The engine of the template folder set by {@link #setTemplateFolder(Path)}. It is shared by all callers
+     * processing templates by this engine directly, which thus must not be used concurrently.
+     */
+    private volatile FreeMarkerTemplateFolderEngine currentTemplateFolderEngine;
 
     @Override
     public String getTemplateFileEnding() {
@@ -50,41 +54,57 @@ public class FreeMarkerTemplateEngine implements TextTemplateEngine {
 
     @Override
     public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
-        Template fmTemplate = null;
-        try {
-            fmTemplate = freeMarkerConfig.getTemplate(template.getRelativeTemplatePath());
-        } catch (ParseException e) {
-            throw new CobiGenRuntimeException(
-                "Could not parse FreeMarker template: " + template.getAbsoluteTemplatePath() + ". (FreeMarker v"
-                    + FreemarkerMetadata.VERSION + " )\n" + e.getMessage(),
-                e);
-        } catch (Throwable e) {
-            throw new CobiGenRuntimeException(
-                "An error occured while retrieving the FreeMarker template: " + template.getAbsoluteTemplatePath()
-                    + " from the FreeMarker configuration. (FreeMarker v" + FreemarkerMetadata.VERSION + " )",
-                e);
-        }
+        getCurrentTemplateFolderEngine().process(template, model, out, outputEncoding);
+    }
 
-        if (fmTemplate != null) {
-            try {
-                Environment env = fmTemplate.createProcessingEnvironment(model, out);
-                env.setOutputEncoding(outputEncoding);
-                env.process();
-            } catch (TemplateException e) {
-                throw new CobiGenRuntimeException(
-                    "An error occurred while generating the template: " + template.getAbsoluteTemplatePath()
-                        + " (FreeMarker v" + FreemarkerMetadata.VERSION + ")" + "\n" + e.getMessage(),
-                    e);
-            } catch (Throwable e) {
-                throw new CobiGenRuntimeException("An unkonwn error occurred while generating the template: "
-                    + template.getAbsoluteTemplatePath() + " (FreeMarker v" + FreemarkerMetadata.VERSION + ")", e);
-            }
-        }
+    @Override
+    public void compile(TextTemplate template) {
+        getCurrentTemplateFolderEngine().compile(template);
+    }
+
+    @Override
+    public ModelUsageTo getModelUsage(TextTemplate template) {
+        return getCurrentTemplateFolderEngine().getModelUsage(template);
+    }
+
+    @Override
+    public TextTemplateEngine forTemplateFolder(Path templateFolderPath) {
+        return new FreeMarkerTemplateFolderEngine(this, getTemplateFolder(templateFolderPath));
+    }
+
+    @Override
+    public TextTemplateEngine withSharedVariables(Map<String, Object> sharedVariables) {
+        return getCurrentTemplateFolderEngine().withSharedVariables(sharedVariables);
     }
 
     @Override
     public void setTemplateFolder(Path templateFolderPath) {
-        ((NioFileSystemTemplateLoader) freeMarkerConfig.getTemplateLoader()).setTemplateRoot(templateFolderPath);
+        currentTemplateFolderEngine = (FreeMarkerTemplateFolderEngine) forTemplateFolder(templateFolderPath);
+    }
+
+    /**
+     * Returns the configuration and template cache of the given template folder
+     * @param templateFolderPath
+     *            the root folder of all templates.
+     * @return the configuration of the template folder, created once per template folder
+     */
+    FreeMarkerTemplateFolder getTemplateFolder(Path templateFolderPath) {
+        synchronized (templateFolders) {
+            return templateFolders.computeIfAbsent(templateFolderPath, FreeMarkerTemplateFolder::new);
+        }
+    }
+
+    /**
+     * Returns the engine of the template folder set by {@link #setTemplateFolder(Path)}
+     * @return the engine of the current template folder
+     */
+    private FreeMarkerTemplateFolderEngine getCurrentTemplateFolderEngine() {
+        FreeMarkerTemplateFolderEngine engine = currentTemplateFolderEngine;
+        if (engine == null) {
+            throw new CobiGenRuntimeException(
+                "No template root has been defined. This is a bug. (FreeMarker v" + FreemarkerMetadata.VERSION + ")");
+        }
+        return engine;
     }
 
 }
@@ -0,0 +1,92 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+import com.devonfw.cobigen.tempeng.freemarker.constant.FreemarkerMetadata;
+
+import freemarker.cache.StrongCacheStorage;
+import freemarker.core.ParseException;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+
+/**
+ * Thread-safe FreeMarker configuration and template cache of a single template folder. Instances are created
+ * and cached by the {@link FreeMarkerTemplateEngine} and shared by all {@link FreeMarkerTemplateFolderEngine}s
+ * bound to the same template folder.
+ */
+class FreeMarkerTemplateFolder {
+
+    /** The FreeMarker engine configuration holding the template cache of the template folder */
+    private final Configuration freeMarkerConfig;
+
+    /** Model usages of the templates, which could be analyzed successfully or are {@code null} otherwise */
+    private final Map<Template, Optional<ModelUsageTo>> modelUsages;
+
+    /**
+     * Creates a new FreeMarker configuration resolving templates from the given template folder.
+     * @param templateFolderPath
+     *            the root folder of all templates.
+     */
+    FreeMarkerTemplateFolder(Path templateFolderPath) {
+        freeMarkerConfig = new Configuration(Configuration.VERSION_2_3_23);
+        freeMarkerConfig.setObjectWrapper(new CobiGenObjectWrapper(Configuration.VERSION_2_3_23));
+        freeMarkerConfig.clearEncodingMap();
+        freeMarkerConfig.setDefaultEncoding("UTF-8");
+        freeMarkerConfig.setLocalizedLookup(false);
+        freeMarkerConfig.setTemplateLoader(new NioFileSystemTemplateLoader(templateFolderPath));
+        // keep compiled templates, but check for modifications on each retrieval
+        freeMarkerConfig.setCacheStorage(new StrongCacheStorage());
+        freeMarkerConfig.setTemplateUpdateDelayMilliseconds(0);
+        modelUsages = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+
+    /**
+     * Returns the FreeMarker configuration of the template folder
+     * @return the FreeMarker configuration
+     */
+    Configuration getConfiguration() {
+        return freeMarkerConfig;
+    }
+
+    /**
+     * Determines the model usage of the given template once per compiled template
+     * @param template
+     *            to be analyzed
+     * @return the model usage or {@code null} if it could not be determined
+     */
+    ModelUsageTo getModelUsage(TextTemplate template) {
+        return modelUsages.computeIfAbsent(getTemplate(template),
+            fmTemplate -> Optional.ofNullable(new ModelUsageAnalyzer(freeMarkerConfig).analyze(fmTemplate)))
+            .orElse(null);
+    }
+
+    /**
+     * Retrieves the compiled FreeMarker template from the template cache. The template will be parsed if it is
+     * not yet cached or has been modified.
+     * @param template
+     *            to be retrieved
+     * @return the compiled FreeMarker template
+     */
+    Template getTemplate(TextTemplate template) {
+        try {
+            return freeMarkerConfig.getTemplate(template.getRelativeTemplatePath());
+        } catch (ParseException e) {
+            throw new CobiGenRuntimeException(
+                "Could not parse FreeMarker template: " + template.getAbsoluteTemplatePath() + ". (FreeMarker v"
+                    + FreemarkerMetadata.VERSION + " )\n" + e.getMessage(),
+                e);
+        } catch (Throwable e) {
+            throw new CobiGenRuntimeException(
+                "An error occured while retrieving the FreeMarker template: " + template.getAbsoluteTemplatePath()
+                    + " from the FreeMarker configuration. (FreeMarker v" + FreemarkerMetadata.VERSION + " )",
+                e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+import com.devonfw.cobigen.tempeng.freemarker.constant.FreemarkerMetadata;
+
+import freemarker.core.Environment;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateHashModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+/**
+ * Thread-safe {@link TextTemplateEngine} implementation for Apache FreeMarker bound to a template folder.
+ * Instances are created by the {@link FreeMarkerTemplateEngine} and share the configuration and template cache
+ * of their template folder with all other instances bound to the same folder.
+ */
+public class FreeMarkerTemplateFolderEngine implements TextTemplateEngine {
+
+    /** The FreeMarker engine, which created this instance */
+    private final FreeMarkerTemplateEngine parentEngine;
+
+    /** Configuration and template cache of the template folder this engine is bound to */
+    private volatile FreeMarkerTemplateFolder templateFolder;
+
+    /** Wrapped variables shared by all templates or {@code null} if there are none */
+    private final Map<String, TemplateModel> sharedVariables;
+
+    /**
+     * Creates a new FreeMarker engine resolving templates from the given template folder.
+     * @param parentEngine
+     *            the FreeMarker engine, which created this instance
+     * @param templateFolder
+     *            configuration and template cache of the template folder
+     */
+    FreeMarkerTemplateFolderEngine(FreeMarkerTemplateEngine parentEngine, FreeMarkerTemplateFolder templateFolder) {
+        this(parentEngine, templateFolder, null);
+    }
+
+    /**
+     * Creates a new FreeMarker engine resolving templates from the given template folder, which additionally
+     * provides the given shared variables to all templates.
+     * @param parentEngine
+     *            the FreeMarker engine, which created this instance
+     * @param templateFolder
+     *            configuration and template cache of the template folder
+     * @param sharedVariables
+     *            wrapped variables shared by all templates or {@code null} if there are none
+     */
+    private FreeMarkerTemplateFolderEngine(FreeMarkerTemplateEngine parentEngine,
+        FreeMarkerTemplateFolder templateFolder, Map<String, TemplateModel> sharedVariables) {
+        this.parentEngine = parentEngine;
+        this.templateFolder = templateFolder;
+        this.sharedVariables = sharedVariables;
+    }
+
+    @Override
+    public String getTemplateFileEnding() {
+        return parentEngine.getTemplateFileEnding();
+    }
+
+    @Override
+    public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
+        FreeMarkerTemplateFolder currentTemplateFolder = templateFolder;
+        Template fmTemplate = currentTemplateFolder.getTemplate(template);
+
+        try {
+            Object dataModel = model;
+            if (sharedVariables != null) {
+                ObjectWrapper objectWrapper = currentTemplateFolder.getConfiguration().getObjectWrapper();
+                dataModel = new SharedVariablesHashModel((TemplateHashModelEx) objectWrapper.wrap(model),
+                    sharedVariables, objectWrapper);
+            }
+            Environment env = fmTemplate.createProcessingEnvironment(dataModel, out);
+            env.setOutputEncoding(outputEncoding);
+            env.process();
+        } catch (TemplateException e) {
+            throw new CobiGenRuntimeException("An error occurred while generating the template: "
+                + template.getAbsoluteTemplatePath() + " (FreeMarker v" + FreemarkerMetadata.VERSION + ")" + "\n"
+                + e.getMessage(), e);
+        } catch (Throwable e) {
+            throw new CobiGenRuntimeException("An unkonwn error occurred while generating the template: "
+                + template.getAbsoluteTemplatePath() + " (FreeMarker v" + FreemarkerMetadata.VERSION + ")", e);
+        }
+    }
+
+    @Override
+    public void compile(TextTemplate template) {
+        templateFolder.getTemplate(template);
+    }
+
+    @Override
+    public ModelUsageTo getModelUsage(TextTemplate template) {
+        return templateFolder.getModelUsage(template);
+    }
+
+    /**
+     * Wraps the given shared variables once, such that they do not have to be wrapped again for each template
+     * processed by the returned engine.
+     */
+    @Override
+    public TextTemplateEngine withSharedVariables(Map<String, Object> variables) {
+        Map<String, TemplateModel> wrappedVariables = new HashMap<>();
+        FreeMarkerTemplateFolder currentTemplateFolder = templateFolder;
+        ObjectWrapper objectWrapper = currentTemplateFolder.getConfiguration().getObjectWrapper();
+        for (Entry<String, Object> variable : variables.entrySet()) {
+            try {
+                wrappedVariables.put(variable.getKey(), objectWrapper.wrap(variable.getValue()));
+            } catch (TemplateModelException e) {
+                throw new CobiGenRuntimeException("Could not provide the shared variable '" + variable.getKey()
+                    + "' to the templates. (FreeMarker v" + FreemarkerMetadata.VERSION + ")", e);
+            }
+        }
+        return new FreeMarkerTemplateFolderEngine(parentEngine, currentTemplateFolder, wrappedVariables);
+    }
+
+    @Override
+    public TextTemplateEngine forTemplateFolder(Path otherTemplateFolderPath) {
+        return parentEngine.forTemplateFolder(otherTemplateFolderPath);
+    }
+
+    /**
+     * Binds just this engine to the given template folder sharing the configuration and template cache of the
+     * template folder with all other engines bound to it. Templates currently processed by this engine are not
+     * affected.
+     * @param otherTemplateFolderPath
+     *            the root folder of all templates.
+     */
+    @Override
+    public void setTemplateFolder(Path otherTemplateFolderPath) {
+        templateFolder = parentEngine.getTemplateFolder(otherTemplateFolderPath);
+    }
+
+}
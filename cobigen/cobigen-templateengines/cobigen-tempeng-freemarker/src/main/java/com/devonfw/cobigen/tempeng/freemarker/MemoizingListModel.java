@@ -0,0 +1,79 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.util.List;
+
+import freemarker.ext.util.WrapperTemplateModel;
+import freemarker.template.AdapterTemplateModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateModelWithAPISupport;
+import freemarker.template.TemplateSequenceModel;
+import freemarker.template.WrappingTemplateModel;
+import freemarker.template.utility.ObjectWrapperWithAPISupport;
+
+/**
+ * Sequence view on a {@link List}, which memoizes the wrapped elements accessed. The elements are copied to
+ * an array on first access, such that indexed access is cheap even for linked lists. Besides that, it behaves
+ * like FreeMarker's {@link freemarker.template.DefaultListAdapter}.
+ */
+class MemoizingListModel extends WrappingTemplateModel
+    implements TemplateSequenceModel, AdapterTemplateModel, WrapperTemplateModel, TemplateModelWithAPISupport {
+
+    /** The adapted list */
+    private final List<?> list;
+
+    /** Elements of the list, initialized lazily */
+    private Object[] elements;
+
+    /** Wrapped elements by index, initialized lazily */
+    private TemplateModel[] wrappedElements;
+
+    /**
+     * Creates a new view on the given list.
+     * @param list
+     *            to be adapted
+     * @param wrapper
+     *            to wrap the elements of the list
+     */
+    MemoizingListModel(List<?> list, ObjectWrapperWithAPISupport wrapper) {
+        super(wrapper);
+        this.list = list;
+    }
+
+    @Override
+    public TemplateModel get(int index) throws TemplateModelException {
+        if (elements == null) {
+            elements = list.toArray();
+            wrappedElements = new TemplateModel[elements.length];
+        }
+        if (index < 0 || index >= elements.length) {
+            return null;
+        }
+        TemplateModel wrappedElement = wrappedElements[index];
+        if (wrappedElement == null && elements[index] != null) {
+            wrappedElement = wrap(elements[index]);
+            wrappedElements[index] = wrappedElement;
+        }
+        return wrappedElement;
+    }
+
+    @Override
+    public int size() {
+        return elements != null ? elements.length : list.size();
+    }
+
+    @Override
+    public Object getAdaptedObject(@SuppressWarnings("rawtypes") Class hint) {
+        return list;
+    }
+
+    @Override
+    public Object getWrappedObject() {
+        return list;
+    }
+
+    @Override
+    public TemplateModel getAPI() throws TemplateModelException {
+        return ((ObjectWrapperWithAPISupport) getObjectWrapper()).wrapAsAPI(list);
+    }
+}
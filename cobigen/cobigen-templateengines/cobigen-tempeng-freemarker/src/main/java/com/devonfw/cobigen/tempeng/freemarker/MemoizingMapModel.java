@@ -0,0 +1,106 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+
+import freemarker.ext.util.WrapperTemplateModel;
+import freemarker.template.AdapterTemplateModel;
+import freemarker.template.MapKeyValuePairIterator;
+import freemarker.template.SimpleCollection;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModelEx2;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateModelWithAPISupport;
+import freemarker.template.WrappingTemplateModel;
+import freemarker.template.utility.ObjectWrapperWithAPISupport;
+
+/**
+ * Hash view on a {@link Map}, which memoizes the wrapped values of all keys accessed. Besides that, it behaves
+ * like FreeMarker's {@link freemarker.template.DefaultMapAdapter}.
+ */
+class MemoizingMapModel extends WrappingTemplateModel
+    implements TemplateHashModelEx2, AdapterTemplateModel, WrapperTemplateModel, TemplateModelWithAPISupport {
+
+    /** The adapted map */
+    private final Map<?, ?> map;
+
+    /** Wrapped values by key, including {@code null} for keys not being available */
+    private final Map<String, TemplateModel> wrappedValues = new HashMap<>();
+
+    /**
+     * Creates a new view on the given map.
+     * @param map
+     *            to be adapted
+     * @param wrapper
+     *            to wrap the values of the map
+     */
+    MemoizingMapModel(Map<?, ?> map, ObjectWrapperWithAPISupport wrapper) {
+        super(wrapper);
+        this.map = map;
+    }
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        if (wrappedValues.containsKey(key)) {
+            return wrappedValues.get(key);
+        }
+
+        Object value;
+        try {
+            value = map.get(key);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new TemplateModelException("Could not retrieve key '" + key + "' from the map of type "
+                + map.getClass().getName() + " as it does not support String keys.", e);
+        }
+        // FreeMarker passes single characters as strings, so also check for character keys
+        if (value == null && key.length() == 1 && !(map instanceof SortedMap)) {
+            value = map.get(Character.valueOf(key.charAt(0)));
+        }
+
+        TemplateModel wrappedValue = value == null ? null : wrap(value);
+        wrappedValues.put(key, wrappedValue);
+        return wrappedValue;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public TemplateCollectionModel keys() {
+        return new SimpleCollection(map.keySet(), getObjectWrapper());
+    }
+
+    @Override
+    public TemplateCollectionModel values() {
+        return new SimpleCollection(map.values(), getObjectWrapper());
+    }
+
+    @Override
+    public KeyValuePairIterator keyValuePairIterator() {
+        return new MapKeyValuePairIterator(map, getObjectWrapper());
+    }
+
+    @Override
+    public Object getAdaptedObject(@SuppressWarnings("rawtypes") Class hint) {
+        return map;
+    }
+
+    @Override
+    public Object getWrappedObject() {
+        return map;
+    }
+
+    @Override
+    public TemplateModel getAPI() throws TemplateModelException {
+        return ((ObjectWrapperWithAPISupport) getObjectWrapper()).wrapAsAPI(map);
+    }
+}
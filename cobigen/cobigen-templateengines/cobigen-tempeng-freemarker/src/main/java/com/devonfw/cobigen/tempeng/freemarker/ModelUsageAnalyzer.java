@@ -0,0 +1,545 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.api.to.ModelUsageTo;
+
+import freemarker.core.TemplateElement;
+import freemarker.core.TemplateObject;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.utility.StringUtil;
+
+/**
+ * Static analysis of a FreeMarker template and all templates it includes or imports, determining the paths of
+ * the model used. Loop variables and assignments are resolved to the model paths they refer to. Model parts
+ * passed to macros, functions or logic class methods as well as model parts accessed by dynamic keys are
+ * considered to be used completely. The analysis fails for dynamic lookups of the model itself (e.g.
+ * <code>.data_model</code>, <code>?eval</code> or dynamic template names), in which case the complete model is
+ * required.<br>
+ * <br>
+ * As FreeMarker does not provide a public API to the AST of a template, the parameters of the AST nodes are
+ * retrieved by reflection. The analysis fails as well if this is not possible.
+ */
+class ModelUsageAnalyzer {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(ModelUsageAnalyzer.class);
+
+    /** Built-ins exposing the complete sub-model of the left-hand operand */
+    private static final Set<String> EXPOSING_BUILT_INS = new HashSet<>(Arrays.asList("keys", "values", "api"));
+
+    /** Built-ins, which evaluate arbitrary expressions against the model */
+    private static final Set<String> EVALUATING_BUILT_INS =
+        new HashSet<>(Arrays.asList("eval", "eval_json", "interpret"));
+
+    /** Built-ins returning (parts of) the sequence of the left-hand operand */
+    private static final Set<String> SEQUENCE_BUILT_INS =
+        new HashSet<>(Arrays.asList("first", "last", "reverse", "sort", "sequence"));
+
+    /** Special variables providing dynamic access to the model */
+    private static final Set<String> DYNAMIC_SPECIAL_VARIABLES = new HashSet<>(
+        Arrays.asList(".data_model", ".vars", ".globals", ".locals", ".main", ".namespace", ".current_namespace"));
+
+    /** {@code TemplateObject#getParameterCount()} */
+    private static final Method GET_PARAMETER_COUNT;
+
+    /** {@code TemplateObject#getParameterValue(int)} */
+    private static final Method GET_PARAMETER_VALUE;
+
+    static {
+        Method getParameterCount = null;
+        Method getParameterValue = null;
+        try {
+            getParameterCount = TemplateObject.class.getDeclaredMethod("getParameterCount");
+            getParameterCount.setAccessible(true);
+            getParameterValue = TemplateObject.class.getDeclaredMethod("getParameterValue", int.class);
+            getParameterValue.setAccessible(true);
+        } catch (NoSuchMethodException | SecurityException e) {
+            LOG.warn("The AST of FreeMarker templates is not accessible. The complete model will be created for "
+                + "each template.", e);
+            getParameterCount = null;
+        }
+        GET_PARAMETER_COUNT = getParameterCount;
+        GET_PARAMETER_VALUE = getParameterValue;
+    }
+
+    /** The FreeMarker configuration to load included templates from */
+    private final Configuration freeMarkerConfig;
+
+    /** Model paths referred to by variables assigned in the templates */
+    private final Map<String, Set<String>> aliases = new HashMap<>();
+
+    /** Model paths being accessed */
+    private final Set<String> accessedPaths = new HashSet<>();
+
+    /** Model paths being used completely */
+    private final Set<String> completelyUsedPaths = new HashSet<>();
+
+    /** Names of the templates already analyzed during the current pass */
+    private final Set<String> analyzedTemplates = new HashSet<>();
+
+    /** Model paths of the enclosing lists of <code>#items</code> directives */
+    private final Deque<Set<String>> listSources = new ArrayDeque<>();
+
+    /**
+     * Creates a new analyzer
+     * @param freeMarkerConfig
+     *            the FreeMarker configuration to load included templates from
+     */
+    ModelUsageAnalyzer(Configuration freeMarkerConfig) {
+        this.freeMarkerConfig = freeMarkerConfig;
+    }
+
+    /**
+     * Analyzes the given template. As variables might be used before their assignment (e.g. within macros),
+     * the analysis is repeated until no further variable assignments to model paths are discovered.
+     * @param template
+     *            to be analyzed
+     * @return the model usage of the template or {@code null} if the model usage could not be determined
+     */
+    ModelUsageTo analyze(Template template) {
+        if (GET_PARAMETER_COUNT == null) {
+            return null;
+        }
+        try {
+            int aliasCount;
+            do {
+                aliasCount = countAliases();
+                analyzedTemplates.clear();
+                analyzeTemplate(template);
+            } while (aliasCount != countAliases());
+            return new ModelUsageTo(accessedPaths, completelyUsedPaths);
+        } catch (DynamicModelAccessException e) {
+            LOG.debug("Template {} requires the complete model: {}", template.getName(), e.getMessage());
+        } catch (IOException e) {
+            LOG.debug("Could not analyze the templates included by template {}.", template.getName(), e);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Could not analyze the AST of template {}.", template.getName(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Analyzes the given template if it has not yet been analyzed during the current pass
+     * @param template
+     *            to be analyzed
+     * @throws DynamicModelAccessException
+     *             if the template accesses the model dynamically
+     * @throws IOException
+     *             if an included template could not be loaded
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    @SuppressWarnings("deprecation")
+    private void analyzeTemplate(Template template)
+        throws DynamicModelAccessException, IOException, ReflectiveOperationException {
+        if (analyzedTemplates.add(template.getName())) {
+            analyzeElement(template.getRootTreeNode(), template);
+        }
+    }
+
+    /**
+     * Analyzes the given template element and its children
+     * @param element
+     *            to be analyzed
+     * @param template
+     *            the template containing the element
+     * @throws DynamicModelAccessException
+     *             if the element accesses the model dynamically
+     * @throws IOException
+     *             if an included template could not be loaded
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private void analyzeElement(TemplateElement element, Template template)
+        throws DynamicModelAccessException, IOException, ReflectiveOperationException {
+
+        boolean pushedListSource = false;
+        switch (element.getClass().getSimpleName()) {
+        case "IteratorBlock":
+        case "Items":
+            List<String> loopVariables = getStringParameters(element);
+            Set<String> source;
+            if (element.getClass().getSimpleName().equals("Items")) {
+                if (listSources.isEmpty()) {
+                    throw new DynamicModelAccessException("#items outside of #list");
+                }
+                source = listSources.peek();
+            } else {
+                source = resolve((TemplateObject) getParameter(element, 0), template);
+                accessedPaths.addAll(source);
+            }
+            if (loopVariables.size() == 1) {
+                alias(loopVariables.get(0), source);
+            } else if (loopVariables.size() > 1) {
+                // key-value listing of a hash
+                completelyUsedPaths.addAll(source);
+            } else {
+                listSources.push(source);
+                pushedListSource = true;
+            }
+            break;
+        case "Assignment":
+            String target = (String) getParameter(element, 0);
+            Object assignmentSource = getParameter(element, 2);
+            if (assignmentSource instanceof TemplateObject) {
+                Set<String> assignedPaths = resolve((TemplateObject) assignmentSource, template);
+                accessedPaths.addAll(assignedPaths);
+                alias(target, assignedPaths);
+            }
+            analyzeParameters(element, template, 3);
+            break;
+        case "Include":
+        case "LibraryLoad":
+            analyzeIncludedTemplate((TemplateObject) getParameter(element, 0), template);
+            analyzeParameters(element, template, 1);
+            break;
+        default:
+            analyzeParameters(element, template, 0);
+        }
+
+        for (int i = 0; i < element.getChildCount(); i++) {
+            analyzeElement((TemplateElement) element.getChildAt(i), template);
+        }
+        if (pushedListSource) {
+            listSources.pop();
+        }
+    }
+
+    /**
+     * Analyzes the template included or imported by the given template name expression
+     * @param templateName
+     *            expression of the template name
+     * @param template
+     *            the including template
+     * @throws DynamicModelAccessException
+     *             if the template name is dynamic or the included template accesses the model dynamically
+     * @throws IOException
+     *             if the included template could not be loaded
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private void analyzeIncludedTemplate(TemplateObject templateName, Template template)
+        throws DynamicModelAccessException, IOException, ReflectiveOperationException {
+        if (!templateName.getClass().getSimpleName().equals("StringLiteral") || getParameterCount(templateName) > 0) {
+            throw new DynamicModelAccessException("dynamic template name " + templateName.getCanonicalForm());
+        }
+        String canonicalName = templateName.getCanonicalForm();
+        String name;
+        try {
+            name = StringUtil.FTLStringLiteralDec(canonicalName.substring(1, canonicalName.length() - 1));
+        } catch (freemarker.core.ParseException e) {
+            throw new DynamicModelAccessException("unsupported template name " + canonicalName);
+        }
+
+        if (name.startsWith("/")) {
+            name = name.substring(1);
+        } else if (template.getName().contains("/")) {
+            name = template.getName().substring(0, template.getName().lastIndexOf('/') + 1) + name;
+        }
+        analyzeTemplate(freeMarkerConfig.getTemplate(name));
+    }
+
+    /**
+     * Analyzes all parameters of the given AST node starting at the given index. The model paths of
+     * expressions are considered to be used completely and nested elements are analyzed recursively.
+     * @param node
+     *            the AST node
+     * @param template
+     *            the template containing the node
+     * @param fromIndex
+     *            index of the first parameter to be analyzed
+     * @throws DynamicModelAccessException
+     *             if the node accesses the model dynamically
+     * @throws IOException
+     *             if an included template could not be loaded
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private void analyzeParameters(TemplateObject node, Template template, int fromIndex)
+        throws DynamicModelAccessException, IOException, ReflectiveOperationException {
+        int parameterCount = getParameterCount(node);
+        for (int i = fromIndex; i < parameterCount; i++) {
+            Object parameter = getParameter(node, i);
+            if (parameter instanceof TemplateElement) {
+                analyzeElement((TemplateElement) parameter, template);
+            } else if (parameter instanceof TemplateObject) {
+                completelyUsedPaths.addAll(resolve((TemplateObject) parameter, template));
+            } else if (parameter != null && !(parameter instanceof String) && !(parameter instanceof Number)
+                && !(parameter instanceof Boolean)) {
+                throw new DynamicModelAccessException(
+                    "unsupported parameter " + parameter.getClass().getSimpleName() + " of " + node.getCanonicalForm());
+            }
+        }
+    }
+
+    /**
+     * Resolves the model paths the value of the given expression refers to. Model paths used by the
+     * expression, but not being part of its value, are recorded as accessed or completely used.
+     * @param expression
+     *            to be resolved
+     * @param template
+     *            the template containing the expression
+     * @return the model paths the value of the expression refers to. Empty if the value is not part of the
+     *         model.
+     * @throws DynamicModelAccessException
+     *             if the expression accesses the model dynamically
+     * @throws IOException
+     *             if an included template could not be loaded
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private Set<String> resolve(TemplateObject expression, Template template)
+        throws DynamicModelAccessException, IOException, ReflectiveOperationException {
+
+        String nodeType = expression.getClass().getSimpleName();
+        switch (nodeType) {
+        case "Identifier":
+            String name = expression.getCanonicalForm();
+            if (aliases.containsKey(name)) {
+                return new HashSet<>(aliases.get(name));
+            }
+            return new HashSet<>(Collections.singleton(name));
+        case "Dot":
+            return append(resolve((TemplateObject) getParameter(expression, 0), template),
+                (String) getParameter(expression, 1));
+        case "DynamicKeyName":
+            Set<String> hashPaths = resolve((TemplateObject) getParameter(expression, 0), template);
+            TemplateObject key = (TemplateObject) getParameter(expression, 1);
+            String keyType = key.getClass().getSimpleName();
+            if (keyType.equals("StringLiteral") && getParameterCount(key) == 0) {
+                String literal = key.getCanonicalForm();
+                try {
+                    return append(hashPaths,
+                        StringUtil.FTLStringLiteralDec(literal.substring(1, literal.length() - 1)));
+                } catch (freemarker.core.ParseException e) {
+                    throw new DynamicModelAccessException("unsupported key " + literal);
+                }
+            } else if (keyType.equals("NumberLiteral") || keyType.equals("Range")) {
+                // element or slice of a sequence
+                completelyUsedPaths.addAll(resolve(key, template));
+                accessedPaths.addAll(hashPaths);
+                return hashPaths;
+            } else {
+                completelyUsedPaths.addAll(resolve(key, template));
+                completelyUsedPaths.addAll(hashPaths);
+                return new HashSet<>();
+            }
+        case "ParentheticalExpression":
+            return resolve((TemplateObject) getParameter(expression, 0), template);
+        case "DefaultToExpression":
+            Set<String> paths = resolve((TemplateObject) getParameter(expression, 0), template);
+            Object defaultValue = getParameter(expression, 1);
+            if (defaultValue instanceof TemplateObject) {
+                paths.addAll(resolve((TemplateObject) defaultValue, template));
+            }
+            return paths;
+        case "ExistsExpression":
+            accessedPaths.addAll(resolve((TemplateObject) getParameter(expression, 0), template));
+            return new HashSet<>();
+        case "BuiltinVariable":
+            if (DYNAMIC_SPECIAL_VARIABLES.contains(expression.getCanonicalForm())) {
+                throw new DynamicModelAccessException("special variable " + expression.getCanonicalForm());
+            }
+            return new HashSet<>();
+        case "LocalLambdaExpression":
+            // the lambda parameters refer to the elements of the completely used left-hand operand of the
+            // built-in, such that just the body has to be resolved
+            completelyUsedPaths.addAll(resolve((TemplateObject) getParameter(expression, 1), template));
+            return new HashSet<>();
+        case "StringLiteral":
+            analyzeParameters(expression, template, 0);
+            return new HashSet<>();
+        default:
+            if (!isBuiltIn(expression)) {
+                analyzeParameters(expression, template, 0);
+                return new HashSet<>();
+            }
+            return resolveBuiltIn(expression, template);
+        }
+    }
+
+    /**
+     * Resolves the model paths the value of the given built-in refers to
+     * @param builtIn
+     *            the built-in expression
+     * @param template
+     *            the template containing the expression
+     * @return the model paths the value of the built-in refers to
+     * @throws DynamicModelAccessException
+     *             if the built-in accesses the model dynamically
+     * @throws IOException
+     *             if an included template could not be loaded
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private Set<String> resolveBuiltIn(TemplateObject builtIn, Template template)
+        throws DynamicModelAccessException, IOException, ReflectiveOperationException {
+
+        Set<String> operandPaths = resolve((TemplateObject) getParameter(builtIn, 0), template);
+        String name = (String) getParameter(builtIn, 1);
+        if (EVALUATING_BUILT_INS.contains(name)) {
+            throw new DynamicModelAccessException("built-in ?" + name);
+        } else if (EXPOSING_BUILT_INS.contains(name) || getParameterCount(builtIn) > 2) {
+            completelyUsedPaths.addAll(operandPaths);
+            analyzeParameters(builtIn, template, 2);
+            return new HashSet<>();
+        } else if (SEQUENCE_BUILT_INS.contains(name)) {
+            accessedPaths.addAll(operandPaths);
+            return operandPaths;
+        } else {
+            accessedPaths.addAll(operandPaths);
+            return new HashSet<>();
+        }
+    }
+
+    /**
+     * Checks whether the given expression is a built-in, i.e. whether its first parameter is the left-hand
+     * operand and its second parameter is the name of the built-in.
+     * @param expression
+     *            to be checked
+     * @return {@code true} if the expression is a built-in, {@code false} otherwise
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private boolean isBuiltIn(TemplateObject expression) throws ReflectiveOperationException {
+        return getParameterCount(expression) >= 2 && getParameter(expression, 1) instanceof String
+            && expression.getCanonicalForm().contains("?" + getParameter(expression, 1));
+    }
+
+    /**
+     * Appends the given key to all given model paths
+     * @param paths
+     *            the model paths
+     * @param key
+     *            to be appended
+     * @return the resulting model paths
+     */
+    private Set<String> append(Set<String> paths, String key) {
+        Set<String> appendedPaths = new HashSet<>();
+        for (String path : paths) {
+            appendedPaths.add(ModelUsageTo.path(path, key));
+        }
+        return appendedPaths;
+    }
+
+    /**
+     * Registers the given model paths to be referred to by the given variable
+     * @param variable
+     *            name of the variable
+     * @param paths
+     *            model paths referred to
+     */
+    private void alias(String variable, Set<String> paths) {
+        aliases.computeIfAbsent(variable, v -> new HashSet<>()).addAll(paths);
+    }
+
+    /**
+     * Counts all model paths referred to by variables
+     * @return the number of model paths referred to by variables
+     */
+    private int countAliases() {
+        return aliases.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Returns all {@link String} parameters of the given AST node, i.e. the loop variable names of a list
+     * @param node
+     *            the AST node
+     * @return the {@link String} parameters
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private List<String> getStringParameters(TemplateObject node) throws ReflectiveOperationException {
+        List<String> strings = new ArrayList<>();
+        int parameterCount = getParameterCount(node);
+        for (int i = 0; i < parameterCount; i++) {
+            if (getParameter(node, i) instanceof String) {
+                strings.add((String) getParameter(node, i));
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Returns the number of parameters of the given AST node
+     * @param node
+     *            the AST node
+     * @return the number of parameters
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private static int getParameterCount(TemplateObject node) throws ReflectiveOperationException {
+        return (Integer) invoke(GET_PARAMETER_COUNT, node);
+    }
+
+    /**
+     * Returns the parameter of the given AST node at the given index
+     * @param node
+     *            the AST node
+     * @param index
+     *            of the parameter
+     * @return the parameter value
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private static Object getParameter(TemplateObject node, int index) throws ReflectiveOperationException {
+        return invoke(GET_PARAMETER_VALUE, node, index);
+    }
+
+    /**
+     * Invokes the given method of the AST
+     * @param method
+     *            to be invoked
+     * @param node
+     *            the AST node to invoke the method on
+     * @param args
+     *            of the method
+     * @return the return value of the method
+     * @throws ReflectiveOperationException
+     *             if the AST could not be accessed
+     */
+    private static Object invoke(Method method, TemplateObject node, Object... args)
+        throws ReflectiveOperationException {
+        try {
+            return method.invoke(node, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw new ReflectiveOperationException(e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    /** Thrown if a template accesses the model dynamically, such that the model usage cannot be determined */
+    private static class DynamicModelAccessException extends Exception {
+
+        /** Default serial version UID */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new exception with the given message
+         * @param message
+         *            describing the dynamic access
+         */
+        DynamicModelAccessException(String message) {
+            super(message);
+        }
+    }
+}
@@ -31,6 +31,22 @@ public class NioFileSystemTemplateLoader implements TemplateLoader {
      */
     private Path templatesRoot;
 
+    /**
+     * Creates a new {@link TemplateLoader} without any template root. The template root has to be set via
+     * {@link #setTemplateRoot(Path)} before resolving any template.
+     */
+    public NioFileSystemTemplateLoader() {
+    }
+
+    /**
+     * Creates a new {@link TemplateLoader} resolving templates from the given template root.
+     * @param templateRoot
+     *            root path to resolve templates from
+     */
+    public NioFileSystemTemplateLoader(Path templateRoot) {
+        templatesRoot = templateRoot;
+    }
+
     @Override
     public Object findTemplateSource(String name) throws IOException {
         if (templatesRoot == null) {
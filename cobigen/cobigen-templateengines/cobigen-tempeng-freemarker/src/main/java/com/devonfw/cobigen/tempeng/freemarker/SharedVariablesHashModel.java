@@ -0,0 +1,97 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.SimpleCollection;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateModelIterator;
+import freemarker.template.TemplateScalarModel;
+
+/**
+ * Data model of a template, which falls back to variables shared by all templates of a generation run for
+ * all names not available in the model.
+ */
+class SharedVariablesHashModel implements TemplateHashModelEx {
+
+    /** The wrapped model of the template */
+    private final TemplateHashModelEx model;
+
+    /** Wrapped variables shared by all templates */
+    private final Map<String, TemplateModel> sharedVariables;
+
+    /** Object wrapper to wrap the keys and values with */
+    private final ObjectWrapper objectWrapper;
+
+    /**
+     * Creates a new data model.
+     * @param model
+     *            the wrapped model of the template
+     * @param sharedVariables
+     *            wrapped variables shared by all templates
+     * @param objectWrapper
+     *            object wrapper to wrap the keys and values with
+     */
+    SharedVariablesHashModel(TemplateHashModelEx model, Map<String, TemplateModel> sharedVariables,
+        ObjectWrapper objectWrapper) {
+        this.model = model;
+        this.sharedVariables = sharedVariables;
+        this.objectWrapper = objectWrapper;
+    }
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        TemplateModel value = model.get(key);
+        if (value == null) {
+            value = sharedVariables.get(key);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isEmpty() throws TemplateModelException {
+        return model.isEmpty() && sharedVariables.isEmpty();
+    }
+
+    @Override
+    public int size() throws TemplateModelException {
+        return getKeys().size();
+    }
+
+    @Override
+    public TemplateCollectionModel keys() throws TemplateModelException {
+        return new SimpleCollection(getKeys(), objectWrapper);
+    }
+
+    @Override
+    public TemplateCollectionModel values() throws TemplateModelException {
+        List<TemplateModel> values = new ArrayList<>();
+        for (String key : getKeys()) {
+            values.add(get(key));
+        }
+        return new SimpleCollection(values, objectWrapper);
+    }
+
+    /**
+     * Returns the keys of the model followed by the keys of the shared variables not available in the model
+     * @return the keys of all variables
+     * @throws TemplateModelException
+     *             if the keys of the model could not be retrieved
+     */
+    private Set<String> getKeys() throws TemplateModelException {
+        Set<String> keys = new LinkedHashSet<>();
+        TemplateModelIterator modelKeys = model.keys().iterator();
+        while (modelKeys.hasNext()) {
+            keys.add(((TemplateScalarModel) modelKeys.next()).getAsString());
+        }
+        keys.addAll(sharedVariables.keySet());
+        return keys;
+    }
+}
@@ -0,0 +1,132 @@
+package com.devonfw.cobigen.tempeng.freemarker.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.devonfw.cobigen.tempeng.freemarker.CobiGenObjectWrapper;
+
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapperBuilder;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+
+/**
+ * Micro benchmark comparing FreeMarker's default object wrapper with the {@link CobiGenObjectWrapper} by
+ * rendering an entity template on a model shaped like the model of the java plugin. Run it by executing the
+ * {@link #main(String[])} method from the project folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectWrapperBenchmark {
+
+    /** Root path of the test resources for this benchmark */
+    private static final String testFileRootPath = "src/test/resources/benchmark/ObjectWrapperBenchmark/";
+
+    /** Object wrapper to be benchmarked */
+    @Param({ "default", "cobigen" })
+    public String objectWrapper;
+
+    /** Number of fields of the entity */
+    @Param({ "10", "50" })
+    public int fieldCount;
+
+    /** The compiled entity template */
+    private Template template;
+
+    /** The model to render the template with */
+    private Map<String, Object> model;
+
+    /**
+     * Compiles the entity template and creates the model.
+     * @throws IOException
+     *             if the template could not be read
+     */
+    @Setup
+    public void setup() throws IOException {
+        Configuration freeMarkerConfig = new Configuration(Configuration.VERSION_2_3_23);
+        if ("cobigen".equals(objectWrapper)) {
+            freeMarkerConfig.setObjectWrapper(new CobiGenObjectWrapper(Configuration.VERSION_2_3_23));
+        } else {
+            freeMarkerConfig.setObjectWrapper(new DefaultObjectWrapperBuilder(Configuration.VERSION_2_3_23).build());
+        }
+        freeMarkerConfig.setDefaultEncoding("UTF-8");
+        freeMarkerConfig.setDirectoryForTemplateLoading(new File(testFileRootPath));
+        template = freeMarkerConfig.getTemplate("entity.ftl");
+
+        List<Object> fields = new ArrayList<>();
+        for (int i = 0; i < fieldCount; i++) {
+            Map<String, Object> field = new HashMap<>();
+            field.put("name", "field" + i);
+            field.put("type", i % 5 == 0 ? "OtherEntity" : i % 2 == 0 ? "String" : "Long");
+            field.put("canonicalType", i % 5 == 0 ? "com.example.domain.other.OtherEntity" : "java.lang.String");
+            Map<String, Object> javaDoc = new HashMap<>();
+            javaDoc.put("comment", "The field number " + i);
+            field.put("javaDoc", javaDoc);
+            Map<String, Object> annotations = new HashMap<>();
+            annotations.put("javax_validation_constraints_NotNull", new HashMap<>());
+            field.put("annotations", annotations);
+            fields.add(field);
+        }
+        Map<String, Object> pojo = new HashMap<>();
+        pojo.put("name", "SampleEntity");
+        pojo.put("fields", fields);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("rootPackage", "com.example.domain");
+        variables.put("component", "samplecomponent");
+        variables.put("entityName", "Sample");
+        model = new HashMap<>();
+        model.put("pojo", pojo);
+        model.put("variables", variables);
+    }
+
+    /**
+     * Renders the entity template.
+     * @return the generated contents
+     * @throws IOException
+     *             if the template could not be written
+     * @throws TemplateException
+     *             if the template could not be processed
+     */
+    @Benchmark
+    public String render() throws TemplateException, IOException {
+        StringWriter out = new StringWriter();
+        template.process(model, out);
+        return out.toString();
+    }
+
+    /**
+     * Runs the benchmark.
+     * @param args
+     *            not used
+     * @throws RunnerException
+     *             if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ObjectWrapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -1,17 +1,23 @@
 package com.devonfw.cobigen.tempeng.freemarker.unittest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.File;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.api.to.ModelUsageTo;
 import com.devonfw.cobigen.tempeng.freemarker.FreeMarkerTemplateEngine;
 
 /** Test suite for {@link FreeMarkerTemplateEngine} */
@@ -62,4 +68,313 @@ public class FreeMarkerTemplateEngineTest {
         // assert
         assertThat(out).hasToString("A,B,C,");
     }
+
+    /**
+     * Tests that syntax errors of a template are reported on ahead-of-time compilation
+     */
+    @Test
+    public void testCompileReportsParseErrors() {
+        // arrange
+        final File templateFolder = new File(testFileRootPath + "compileError/").getAbsoluteFile();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.toPath().resolve("template.ftl");
+            }
+        };
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+        templateEngine.setTemplateFolder(templateFolder.toPath());
+
+        // act
+        Throwable thrown = catchThrowable(() -> templateEngine.compile(template));
+
+        // assert
+        assertThat(thrown).isInstanceOf(CobiGenRuntimeException.class)
+            .hasMessageContaining("Could not parse FreeMarker template");
+    }
+
+    /**
+     * Tests that engines bound to different template folders resolve templates with the same relative path
+     * from their own template folder
+     */
+    @Test
+    public void testForTemplateFolderIsolatesTemplateFolders() {
+        // arrange
+        final Path templateFolder = new File(testFileRootPath + "basicGeneration/").getAbsoluteFile().toPath();
+        final Path otherTemplateFolder =
+            new File(testFileRootPath + "otherTemplateFolder/").getAbsoluteFile().toPath();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.resolve("template.ftl");
+            }
+        };
+        HashMap<String, Object> model = new HashMap<>();
+        List<Object> fields = new ArrayList<>();
+        HashMap<Object, Object> fieldAttr = new HashMap<>();
+        fieldAttr.put("type", "A");
+        fields.add(fieldAttr);
+        HashMap<String, Object> fieldsAccessor = new HashMap<>();
+        fieldsAccessor.put("fields", fields);
+        model.put("pojo", fieldsAccessor);
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+
+        // act
+        TextTemplateEngine engine = templateEngine.forTemplateFolder(templateFolder);
+        TextTemplateEngine otherEngine = templateEngine.forTemplateFolder(otherTemplateFolder);
+        StringWriter out = new StringWriter();
+        engine.process(template, model, out, "UTF-8");
+        StringWriter otherOut = new StringWriter();
+        otherEngine.process(template, model, otherOut, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString("A,");
+        assertThat(otherOut).hasToString("A;");
+    }
+
+    /**
+     * Tests that setting the template folder of an engine bound to a template folder rebinds just this engine
+     */
+    @Test
+    public void testSetTemplateFolderRebindsOnlyThisEngine() {
+        // arrange
+        final Path templateFolder = new File(testFileRootPath + "basicGeneration/").getAbsoluteFile().toPath();
+        final Path otherTemplateFolder =
+            new File(testFileRootPath + "otherTemplateFolder/").getAbsoluteFile().toPath();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.resolve("template.ftl");
+            }
+        };
+        HashMap<String, Object> model = new HashMap<>();
+        List<Object> fields = new ArrayList<>();
+        HashMap<Object, Object> fieldAttr = new HashMap<>();
+        fieldAttr.put("type", "A");
+        fields.add(fieldAttr);
+        HashMap<String, Object> fieldsAccessor = new HashMap<>();
+        fieldsAccessor.put("fields", fields);
+        model.put("pojo", fieldsAccessor);
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+        TextTemplateEngine engine = templateEngine.forTemplateFolder(templateFolder);
+        TextTemplateEngine otherEngine = templateEngine.forTemplateFolder(templateFolder);
+
+        // act
+        engine.setTemplateFolder(otherTemplateFolder);
+        StringWriter out = new StringWriter();
+        engine.process(template, model, out, "UTF-8");
+        StringWriter otherOut = new StringWriter();
+        otherEngine.process(template, model, otherOut, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString("A;");
+        assertThat(otherOut).hasToString("A,");
+    }
+
+    /**
+     * Tests that maps and lists of the model are accessible by templates and passed unwrapped to logic class
+     * methods
+     */
+    @Test
+    public void testModelContainersArePassedUnwrappedToLogicClasses() {
+        // arrange
+        final File templateFolder = new File(testFileRootPath + "objectWrapper/").getAbsoluteFile();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.toPath().resolve("template.ftl");
+            }
+        };
+        HashMap<String, Object> model = new HashMap<>();
+        List<Object> fields = new LinkedList<>();
+        HashMap<Object, Object> fieldAttr = new HashMap<>();
+        fieldAttr.put("type", "A");
+        fields.add(fieldAttr);
+        fieldAttr = new HashMap<>();
+        fieldAttr.put("type", "B");
+        fields.add(fieldAttr);
+        HashMap<String, Object> fieldsAccessor = new HashMap<>();
+        fieldsAccessor.put("fields", fields);
+        model.put("pojo", fieldsAccessor);
+        model.put("util", new ContainerLogic());
+
+        // act
+        StringWriter out = new StringWriter();
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+        templateEngine.setTemplateFolder(templateFolder.toPath());
+        templateEngine.process(template, model, out, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString("2:AB:LinkedList/HashMap:fields");
+    }
+
+    /**
+     * Tests that shared variables are provided to templates and that the model takes precedence over them
+     */
+    @Test
+    public void testSharedVariables() {
+        // arrange
+        final Path templateFolder = new File(testFileRootPath + "sharedVariables/").getAbsoluteFile().toPath();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.resolve("template.ftl");
+            }
+        };
+        HashMap<String, Object> model = new HashMap<>();
+        HashMap<String, Object> fieldsAccessor = new HashMap<>();
+        fieldsAccessor.put("fields", new ArrayList<>());
+        model.put("pojo", fieldsAccessor);
+        model.put("name", "model");
+        HashMap<String, Object> sharedVariables = new HashMap<>();
+        sharedVariables.put("util", new ContainerLogic());
+        sharedVariables.put("name", "shared");
+
+        // act
+        StringWriter out = new StringWriter();
+        TextTemplateEngine templateEngine =
+            new FreeMarkerTemplateEngine().forTemplateFolder(templateFolder).withSharedVariables(sharedVariables);
+        templateEngine.process(template, model, out, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString("ArrayList/HashMap:model");
+    }
+
+    /**
+     * Tests that the keys of the root model of a template cover the model as well as the shared variables
+     */
+    @Test
+    public void testSharedVariablesListedByKeys() {
+        // arrange
+        final Path templateFolder = new File(testFileRootPath + "sharedVariableKeys/").getAbsoluteFile().toPath();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.resolve("template.ftl");
+            }
+        };
+        HashMap<String, Object> model = new HashMap<>();
+        model.put("pojo", new HashMap<>());
+        model.put("name", "model");
+        HashMap<String, Object> sharedVariables = new HashMap<>();
+        sharedVariables.put("util", new ContainerLogic());
+        sharedVariables.put("name", "shared");
+
+        // act
+        StringWriter out = new StringWriter();
+        TextTemplateEngine templateEngine =
+            new FreeMarkerTemplateEngine().forTemplateFolder(templateFolder).withSharedVariables(sharedVariables);
+        templateEngine.process(template, model, out, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString("name;pojo;util;");
+    }
+
+    /**
+     * Tests that the model usage of a template covers all model paths accessed by the template and its static
+     * includes, but no other parts of the model
+     */
+    @Test
+    public void testGetModelUsage() {
+        // arrange
+        final Path templateFolder = new File(testFileRootPath + "modelUsage/").getAbsoluteFile().toPath();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "template.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.resolve("template.ftl");
+            }
+        };
+
+        // act
+        TextTemplateEngine templateEngine = new FreeMarkerTemplateEngine().forTemplateFolder(templateFolder);
+        ModelUsageTo modelUsage = templateEngine.getModelUsage(template);
+
+        // assert
+        assertThat(modelUsage).isNotNull();
+        assertThat(modelUsage.isUsed("pojo.name")).isTrue();
+        assertThat(modelUsage.isUsed("pojo.extendedType.name")).isTrue();
+        assertThat(modelUsage.isUsed("pojo.fields.name")).isTrue();
+        assertThat(modelUsage.isUsed("pojo.fields.type")).isTrue();
+        assertThat(modelUsage.isUsed("pojo.fields.javaDoc")).isFalse();
+        assertThat(modelUsage.isUsed("pojo.extendedType.javaDoc")).isFalse();
+        assertThat(modelUsage.isUsed("pojo.methods")).isFalse();
+    }
+
+    /**
+     * Tests that the model usage of a template accessing the model dynamically cannot be determined
+     */
+    @Test
+    public void testGetModelUsageOfDynamicModelAccess() {
+        // arrange
+        final Path templateFolder = new File(testFileRootPath + "modelUsage/").getAbsoluteFile().toPath();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "dynamic.ftl";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.resolve("dynamic.ftl");
+            }
+        };
+
+        // act
+        TextTemplateEngine templateEngine = new FreeMarkerTemplateEngine().forTemplateFolder(templateFolder);
+        ModelUsageTo modelUsage = templateEngine.getModelUsage(template);
+
+        // assert
+        assertThat(modelUsage).isNull();
+    }
+
+    /** Logic class determining the types of the objects passed */
+    public static class ContainerLogic {
+
+        /**
+         * Returns the simple class names of the given list and map
+         * @param list
+         *            any list
+         * @param map
+         *            any map
+         * @return the simple class names separated by a slash
+         */
+        public String describe(List<?> list, Map<?, ?> map) {
+            return list.getClass().getSimpleName() + "/" + map.getClass().getSimpleName();
+        }
+    }
 }
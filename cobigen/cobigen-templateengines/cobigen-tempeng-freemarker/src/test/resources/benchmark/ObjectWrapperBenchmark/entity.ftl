@@ -0,0 +1,49 @@
+package ${variables.rootPackage}.${variables.component}.dataaccess.api;
+
+<#list pojo.fields as field>
+<#if field.type?contains("Entity")>
+import ${field.canonicalType};
+</#if>
+</#list>
+
+/**
+ * Data access object for ${variables.entityName}.
+ */
+@Entity
+@Table(name = "${variables.entityName}")
+public class ${variables.entityName}Entity extends ApplicationPersistenceEntity implements ${variables.entityName} {
+
+  private static final long serialVersionUID = 1L;
+
+<#list pojo.fields as field>
+  <#if field.javaDoc.comment??>
+  /** ${field.javaDoc.comment} */
+  </#if>
+  <#list field.annotations?keys as annotation>
+  @${annotation}
+  </#list>
+  private ${field.type} ${field.name};
+
+</#list>
+<#list pojo.fields as field>
+  /**
+   * @return ${field.name}
+   */
+  public ${field.type} get${field.name?cap_first}() {
+    return this.${field.name};
+  }
+
+  /**
+   * @param ${field.name} new value of {@link #get${field.name?cap_first}}.
+   */
+  public void set${field.name?cap_first}(${field.type} ${field.name}) {
+    this.${field.name} = ${field.name};
+  }
+
+  <#list pojo.fields as other>
+  <#if other.name != field.name && other.type == field.type>
+  // ${field.name} shares its type with ${other.name} of ${pojo.name}
+  </#if>
+  </#list>
+</#list>
+}
@@ -0,0 +1 @@
+<#list pojo.fields as field>${field.type},
\ No newline at end of file
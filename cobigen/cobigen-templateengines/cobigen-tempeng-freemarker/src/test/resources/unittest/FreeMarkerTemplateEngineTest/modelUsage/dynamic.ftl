@@ -0,0 +1 @@
+<#list .data_model?keys as key>${key}</#list>
@@ -0,0 +1,3 @@
+<#list pojo.fields as field>
+  private ${field.type} ${field.name};
+</#list>
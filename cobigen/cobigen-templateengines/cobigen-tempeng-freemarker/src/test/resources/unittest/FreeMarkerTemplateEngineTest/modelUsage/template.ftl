@@ -0,0 +1,4 @@
+public class ${pojo.name} {
+<#include "/fields.ftl">
+<#if pojo.extendedType??>  // extends ${pojo.extendedType.name}</#if>
+}
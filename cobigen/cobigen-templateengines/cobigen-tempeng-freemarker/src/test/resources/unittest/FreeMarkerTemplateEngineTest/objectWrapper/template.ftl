@@ -0,0 +1 @@
+${pojo.fields?size}:<#list pojo.fields as field>${field.type}</#list>:${util.describe(pojo.fields, pojo)}:<#list pojo?keys as key>${key}</#list>
\ No newline at end of file
@@ -0,0 +1 @@
+<#list pojo.fields as field>${field.type};</#list>
\ No newline at end of file
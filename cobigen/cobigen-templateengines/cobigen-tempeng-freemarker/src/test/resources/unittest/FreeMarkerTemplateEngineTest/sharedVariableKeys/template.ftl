@@ -0,0 +1 @@
+<#list .data_model?keys?sort as key>${key};</#list>
\ No newline at end of file
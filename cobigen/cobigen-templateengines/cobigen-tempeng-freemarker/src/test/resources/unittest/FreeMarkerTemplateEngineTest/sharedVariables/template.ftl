@@ -0,0 +1 @@
+${util.describe(pojo.fields, pojo)}:${name}
\ No newline at end of file
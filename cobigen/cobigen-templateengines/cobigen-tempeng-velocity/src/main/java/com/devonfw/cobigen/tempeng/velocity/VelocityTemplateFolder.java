@@ -0,0 +1,89 @@
+package com.devonfw.cobigen.tempeng.velocity;
+
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.tempeng.velocity.log.LogChuteDelegate;
+import com.devonfw.cobigen.tempeng.velocity.runtime.resources.NullResourceCache;
+import com.devonfw.cobigen.tempeng.velocity.runtime.resources.ResourceManagerDelegate;
+
+/**
+ * Velocity engine of a single template folder. Instances are created and cached by the
+ * {@link VelocityTemplateEngine} and shared by all {@link VelocityTemplateFolderEngine}s bound to the same
+ * template folder.
+ */
+class VelocityTemplateFolder {
+
+    /**
+     * The used template engine
+     */
+    private final VelocityEngine engine;
+
+    /**
+     * Constructor that initializes the Velocity engine for the given template folder with the most common
+     * properties<br>
+     *
+     * <ul>
+     * <li>A slf4j based logger</li>
+     * <li>Default encoding of UTF-8</li>
+     * <li>No Cache</li>
+     * <li>FileResourceLoader class by default</li>
+     * </ul>
+     * @param templateFolderPath
+     *            the root folder of all templates.
+     */
+    VelocityTemplateFolder(Path templateFolderPath) {
+        engine = new VelocityEngine();
+        engine.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM,
+            new LogChuteDelegate(LoggerFactory.getLogger(VelocityEngine.class)));
+        engine.setProperty(RuntimeConstants.ENCODING_DEFAULT, "UTF-8");
+        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_CACHE, new Boolean(false));
+        engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CLASS, ResourceManagerDelegate.class.getName());
+        engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_LOGWHENFOUND, new Boolean(true));
+        engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CACHE_CLASS, NullResourceCache.class.getName());
+        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, templateFolderPath.toString());
+        executeInThisClassloader(null, (p) -> {
+            engine.init();
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves the template of the given path relative to the template folder
+     * @param relativeTemplatePath
+     *            path of the template relative to the template folder
+     * @return the Velocity template
+     */
+    Template getTemplate(String relativeTemplatePath) {
+        return executeInThisClassloader(relativeTemplatePath, (path) -> engine.getTemplate(path));
+    }
+
+    /**
+     * Execute a function within the classloader loading THIS class to circumvent from velocity classpath
+     * conflicts in osgi environments
+     * @param <T>
+     *            parameter type of the function
+     * @param <R>
+     *            return type of the function
+     * @param param
+     *            function parameter
+     * @param exec
+     *            function to be called
+     * @return the return value of the function
+     */
+    private <T, R> R executeInThisClassloader(T param, Function<T, R> exec) {
+        Thread thread = Thread.currentThread();
+        ClassLoader loader = thread.getContextClassLoader();
+        thread.setContextClassLoader(this.getClass().getClassLoader());
+        try {
+            return exec.apply(param);
+        } finally {
+            thread.setContextClassLoader(loader);
+        }
+    }
+}
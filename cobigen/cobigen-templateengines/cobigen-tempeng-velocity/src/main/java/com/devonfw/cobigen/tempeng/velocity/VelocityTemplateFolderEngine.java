@@ -0,0 +1,106 @@
+package com.devonfw.cobigen.tempeng.velocity;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.context.Context;
+import org.apache.velocity.exception.VelocityException;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.devonfw.cobigen.tempeng.velocity.constant.VelocityMetadata;
+
+/**
+ * Thread-safe template engine for Apache Velocity bound to a template folder. Instances are created by the
+ * {@link VelocityTemplateEngine} and share the Velocity engine of their template folder with all other
+ * instances bound to the same folder.
+ */
+public class VelocityTemplateFolderEngine implements TextTemplateEngine {
+
+    /** The Velocity engine, which created this instance */
+    private final VelocityTemplateEngine parentEngine;
+
+    /** Velocity engine of the template folder this engine is bound to */
+    private volatile VelocityTemplateFolder templateFolder;
+
+    /** Context of the variables shared by all templates or {@code null} if there are none */
+    private final Context sharedContext;
+
+    /**
+     * Creates a new Velocity engine resolving templates from the given template folder, which additionally
+     * provides the variables of the given context to all templates.
+     * @param parentEngine
+     *            the Velocity engine, which created this instance
+     * @param templateFolder
+     *            Velocity engine of the template folder
+     * @param sharedContext
+     *            context of the variables shared by all templates or {@code null} if there are none
+     */
+    VelocityTemplateFolderEngine(VelocityTemplateEngine parentEngine, VelocityTemplateFolder templateFolder,
+        Context sharedContext) {
+        this.parentEngine = parentEngine;
+        this.templateFolder = templateFolder;
+        this.sharedContext = sharedContext;
+    }
+
+    @Override
+    public String getTemplateFileEnding() {
+        return parentEngine.getTemplateFileEnding();
+    }
+
+    @Override
+    public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
+        Context context =
+            sharedContext == null ? new VelocityContext(model) : new VelocityContext(model, sharedContext);
+        Template vmTemplate = null;
+        try {
+            vmTemplate = templateFolder.getTemplate(template.getRelativeTemplatePath());
+        } catch (Throwable e) {
+            throw new CobiGenRuntimeException(
+                "An error occured while retrieving the Velocity template " + template.getAbsoluteTemplatePath()
+                    + " from the Velocity configuration. (Velocity v" + VelocityMetadata.VERSION + ")",
+                e);
+        }
+
+        if (vmTemplate != null) {
+            try {
+                vmTemplate.merge(context, out);
+            } catch (VelocityException e) {
+                throw new CobiGenRuntimeException(
+                    "An error occurred while generating the template." + template.getAbsoluteTemplatePath()
+                        + "(Velocity v" + VelocityMetadata.VERSION + ")" + "\n" + e.getMessage(),
+                    e);
+            } catch (Throwable e) {
+                throw new CobiGenRuntimeException("An unkonwn error occurred while generating the template."
+                    + template.getAbsoluteTemplatePath() + "(Velocity v" + VelocityMetadata.VERSION + ")", e);
+            }
+        }
+    }
+
+    @Override
+    public TextTemplateEngine withSharedVariables(Map<String, Object> sharedVariables) {
+        return new VelocityTemplateFolderEngine(parentEngine, templateFolder,
+            new VelocityContext(new HashMap<>(sharedVariables)));
+    }
+
+    @Override
+    public TextTemplateEngine forTemplateFolder(Path otherTemplateFolderPath) {
+        return parentEngine.forTemplateFolder(otherTemplateFolderPath);
+    }
+
+    /**
+     * Binds just this engine to the given template folder sharing the Velocity engine of the template folder
+     * with all other engines bound to it. Templates currently processed by this engine are not affected.
+     * @param otherTemplateFolderPath
+     *            the root folder of all templates.
+     */
+    @Override
+    public void setTemplateFolder(Path otherTemplateFolderPath) {
+        templateFolder = parentEngine.getTemplateFolder(otherTemplateFolderPath);
+    }
+}
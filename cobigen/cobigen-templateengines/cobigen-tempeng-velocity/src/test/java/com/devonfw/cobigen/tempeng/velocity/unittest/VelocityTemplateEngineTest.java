@@ -14,6 +14,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
 import com.devonfw.cobigen.tempeng.velocity.VelocityTemplateEngine;
 
 /**
@@ -78,4 +79,41 @@ public class VelocityTemplateEngineTest {
         assertThat(out).hasToString("A,B,C,");
     }
 
+    /**
+     * Tests that an engine bound to a template folder can be bound to another template folder
+     */
+    @Test
+    public void testSetTemplateFolderOfTemplateFolderEngine() {
+        // arrange
+        final File templateFolder = new File("src/test/resources/unit/").getAbsoluteFile();
+        TextTemplate template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return "temp1.vm";
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.toPath().resolve("temp1.vm");
+            }
+        };
+        HashMap<String, Object> model = new HashMap<>();
+        List<Object> fields = new ArrayList<>();
+        HashMap<Object, Object> fieldAttr = new HashMap<>();
+        fieldAttr.put("type", "A");
+        fields.add(fieldAttr);
+        HashMap<String, Object> fieldsAccessor = new HashMap<>();
+        fieldsAccessor.put("fields", fields);
+        model.put("pojo", fieldsAccessor);
+        TextTemplateEngine templateFolderEngine = engine.forTemplateFolder(Paths.get("src/test/resources"));
+
+        // act
+        StringWriter out = new StringWriter();
+        templateFolderEngine.setTemplateFolder(templateFolder.toPath());
+        templateFolderEngine.process(template, model, out, "UTF-8");
+
+        // assert
+        assertThat(out).hasToString("A,");
+    }
+
 }
@@ -15,6 +15,7 @@ import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.extension.MatcherInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.api.to.VariableAssignmentTo;
+import com.devonfw.cobigen.api.util.RegexUtil;
 import com.devonfw.cobigen.tsplugin.inputreader.TypeScriptInputReader;
 import com.google.common.collect.Maps;
 
@@ -44,7 +45,7 @@ public class TypeScriptMatcher implements MatcherInterpreter {
         if (matchesFqn) {
             String fqn = getFqn(matcher);
             LOG.debug("Matching input FQN {} against regex '{}'", fqn, matcher.getValue());
-            return fqn != null && fqn.matches(matcher.getValue());
+            return fqn != null && matcher.getValuePattern().matcher(fqn).matches();
         }
         return matchesFqn;
     }
@@ -147,7 +148,7 @@ public class TypeScriptMatcher implements MatcherInterpreter {
     private String resolveRegexValue(MatcherType matcherType, String matcherValue, String stringToMatch,
         VariableAssignmentTo va) throws InvalidConfigurationException {
 
-        Pattern p = Pattern.compile(matcherValue);
+        Pattern p = RegexUtil.compile(matcherValue);
         Matcher m = p.matcher(stringToMatch);
 
         if (m != null) {
@@ -1,39 +1,95 @@
 package com.devonfw.cobigen.xmlplugin.matcher;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
-/** Namespace Resolver backed by an existing DOM Document */
+/**
+ * Namespace Resolver backed by an existing DOM Document. The namespaces in scope of the document are collected
+ * once on creation, such that the resolver does not keep a reference to the document and two resolvers are
+ * equal if they declare the same namespaces.
+ */
 public class NamespaceResolver implements NamespaceContext {
 
-    /** the delegating source document */
-    private Node sourceDocument;
+    /** Namespace URIs in scope mapped by their prefix, the default namespace being mapped by the empty prefix */
+    private final Map<String, String> namespaces = new LinkedHashMap<>();
 
     /**
-     * This constructor stores the source document to search the namespaces in it.
+     * This constructor collects the namespaces in scope of the source document.
      * @param document
      *            source document
      */
     public NamespaceResolver(Node document) {
-        sourceDocument = document;
+        Node node = document instanceof Document ? ((Document) document).getDocumentElement() : document;
+        while (node != null && node.getNodeType() != Node.ELEMENT_NODE) {
+            node = node.getParentNode();
+        }
+        for (; node instanceof Element; node = node.getParentNode()) {
+            collectNamespaces((Element) node);
+        }
+    }
+
+    /**
+     * Collects the namespaces declared by the given element, which are not already declared by a descendant,
+     * with the same precedence as {@link Node#lookupNamespaceURI(String)}.
+     * @param element
+     *            element to collect the namespace declarations of
+     */
+    private void collectNamespaces(Element element) {
+        if (element.getNamespaceURI() != null) {
+            String prefix = element.getPrefix() != null ? element.getPrefix() : XMLConstants.DEFAULT_NS_PREFIX;
+            declare(prefix, element.getNamespaceURI());
+        }
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node attribute = attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+                if (XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getNodeName())) {
+                    declare(XMLConstants.DEFAULT_NS_PREFIX, attribute.getNodeValue());
+                } else if (XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getPrefix())) {
+                    declare(attribute.getLocalName(), attribute.getNodeValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Declares the given namespace if the prefix has not been declared yet. An empty namespace URI undeclares
+     * the prefix.
+     * @param prefix
+     *            namespace prefix
+     * @param namespaceURI
+     *            namespace URI
+     */
+    private void declare(String prefix, String namespaceURI) {
+        if (!namespaces.containsKey(prefix)) {
+            namespaces.put(prefix, namespaceURI.isEmpty() ? null : namespaceURI);
+        }
     }
 
     @Override
     public String getNamespaceURI(String prefix) {
-        if (prefix.equals(XMLConstants.DEFAULT_NS_PREFIX)) {
-            return sourceDocument.lookupNamespaceURI(null);
-        } else {
-            return sourceDocument.lookupNamespaceURI(prefix);
-        }
+        return namespaces.get(prefix);
     }
 
     @Override
     public String getPrefix(String namespaceURI) {
-        return sourceDocument.lookupPrefix(namespaceURI);
+        for (Entry<String, String> namespace : namespaces.entrySet()) {
+            if (!namespace.getKey().isEmpty() && namespace.getValue() != null
+                && namespace.getValue().equals(namespaceURI)) {
+                return namespace.getKey();
+            }
+        }
+        return null;
     }
 
     @Override
@@ -41,4 +97,14 @@ public class NamespaceResolver implements NamespaceContext {
         return null;
     }
 
+    @Override
+    public int hashCode() {
+        return namespaces.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof NamespaceResolver && namespaces.equals(((NamespaceResolver) obj).namespaces);
+    }
+
 }
@@ -1,11 +1,20 @@
 package com.devonfw.cobigen.xmlplugin.matcher;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
@@ -20,6 +29,7 @@ import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.extension.MatcherInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.api.to.VariableAssignmentTo;
+import com.devonfw.cobigen.api.util.RegexUtil;
 import com.devonfw.cobigen.xmlplugin.inputreader.XmlInputReader;
 
 /** {@link MatcherInterpreter} for XML matcher configurations. */
@@ -28,8 +38,36 @@ public class XmlMatcher implements MatcherInterpreter {
     /** Assigning logger to XmlClassMatcher */
     private static final Logger LOG = LoggerFactory.getLogger(XmlMatcher.class);
 
-    /** XPath object to evaluate xpath expressions with */
-    private static final XPath XPathObj = XPathFactory.newInstance().newXPath();
+    /** Maximum number of compiled XPath expressions to be cached per thread */
+    private static final int MAX_CACHED_EXPRESSIONS = 256;
+
+    /** XPath objects to compile xpath expressions with, one per thread as they are not thread-safe */
+    private static final ThreadLocal<XPath> XPATH =
+        ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+    /**
+     * Compiled xpath expressions mapped by the expression and the namespace context they have been compiled with.
+     * Cached per thread as {@link XPathExpression}s are not thread-safe.
+     */
+    private static final ThreadLocal<Map<Entry<String, NamespaceContext>, XPathExpression>> XPATH_EXPRESSIONS =
+        ThreadLocal.withInitial(() -> new LinkedHashMap<Entry<String, NamespaceContext>, XPathExpression>(16, 0.75f,
+            true) {
+            @Override
+            protected boolean removeEldestEntry(Entry<Entry<String, NamespaceContext>, XPathExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        });
+
+    /** Namespace contexts of the documents matched recently, not preventing the documents to be collected */
+    private static final Map<Node, NamespaceContext> NAMESPACE_CONTEXTS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Pattern of XPath expressions, which just match documents with a specific root element. The first group
+     * is the local name of the root element.
+     */
+    private static final Pattern ROOT_ELEMENT_XPATH =
+        Pattern.compile("/(?:[\\w.\\-]+:)?([\\p{Alpha}_][\\w.\\-]*)(?:[/\\[].*)?", Pattern.DOTALL);
 
     /** Currently supported matcher types */
     private enum MatcherType {
@@ -57,15 +95,15 @@ public class XmlMatcher implements MatcherInterpreter {
                 if (target instanceof Document) {
                     String documentRootName = ((Document) target).getDocumentElement().getNodeName();
                     return documentRootName != null && !documentRootName.equals("")
-                        && matcher.getValue().matches(documentRootName);
+                        && RegexUtil.matches(documentRootName, matcher.getValue());
                 }
                 break;
             case XPATH:
                 Node targetNode = getDocElem(target, 1);
-                XPath xPath = createXpathObject(target);
                 String xpathExpression = matcher.getValue();
                 try {
-                    return (boolean) xPath.evaluate(xpathExpression, targetNode, XPathConstants.BOOLEAN);
+                    return (boolean) compile(xpathExpression, getNamespaceContext(target)).evaluate(targetNode,
+                        XPathConstants.BOOLEAN);
                 } catch (XPathExpressionException e) {
                     if (checkXPathSyntax(xpathExpression)) {
                         return false;
@@ -79,6 +117,39 @@ public class XmlMatcher implements MatcherInterpreter {
         return false;
     }
 
+    @Override
+    public String getInputKey(String matcherType, Object matcherInput) {
+        if (MatcherType.XPATH.name().equalsIgnoreCase(matcherType)) {
+            try {
+                Node targetNode = getDocElem(matcherInput, 1);
+                Document document =
+                    targetNode instanceof Document ? (Document) targetNode : targetNode.getOwnerDocument();
+                if (document != null && document.getDocumentElement() != null) {
+                    Node rootElement = document.getDocumentElement();
+                    String rootName = rootElement.getLocalName() != null ? rootElement.getLocalName()
+                        : rootElement.getNodeName().replaceFirst(".*:", "");
+                    return "/" + rootName + "/";
+                }
+            } catch (IllegalArgumentException e) {
+                LOG.debug("No input key for input of type {}.", matcherInput.getClass(), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getInputKeyPrefix(String matcherType, String matcherValue) {
+        // unions and disjunctions might match different root elements
+        if (MatcherType.XPATH.name().equalsIgnoreCase(matcherType) && !matcherValue.contains("|")
+            && !matcherValue.matches("(?s).*\\bor\\b.*")) {
+            Matcher rootElementMatcher = ROOT_ELEMENT_XPATH.matcher(matcherValue.trim());
+            if (rootElementMatcher.matches()) {
+                return "/" + rootElementMatcher.group(1) + "/";
+            }
+        }
+        return null;
+    }
+
     /**
      * Checks whether a given XPath syntax is correct or not.
      * @param xpathExpression
@@ -86,10 +157,8 @@ public class XmlMatcher implements MatcherInterpreter {
      * @return true if the syntax is correct
      */
     private boolean checkXPathSyntax(String xpathExpression) {
-        XPathFactory factory = XPathFactory.newInstance();
-        XPath xpath = factory.newXPath();
         try {
-            xpath.compile(xpathExpression);
+            compile(xpathExpression, null);
         } catch (XPathExpressionException e) {
             return false;
         }
@@ -97,15 +166,43 @@ public class XmlMatcher implements MatcherInterpreter {
     }
 
     /**
-     * Creates a new namespace aware XPath object for xpath evaluation
+     * Returns the namespace context of the full document of the given matcher target. The namespace context is
+     * cached per document.
      * @param target
      *            the matcher target
-     * @return the created {@link XPath} object
+     * @return the {@link NamespaceContext} of the full document
      */
-    private XPath createXpathObject(Object target) {
-        Node fullDoc = getDocElem(target, 0);
-        XPathObj.setNamespaceContext(new NamespaceResolver(fullDoc));
-        return XPathObj;
+    private NamespaceContext getNamespaceContext(Object target) {
+        return NAMESPACE_CONTEXTS.computeIfAbsent(getDocElem(target, 0), NamespaceResolver::new);
+    }
+
+    /**
+     * Compiles the given xpath expression with respect to the given namespace context. The compiled expression
+     * is cached for the current thread.
+     * @param xpathExpression
+     *            the xpath expression
+     * @param namespaceContext
+     *            the {@link NamespaceContext} to resolve namespace prefixes with or {@code null} if the
+     *            expression is not namespace aware
+     * @return the compiled {@link XPathExpression}
+     * @throws XPathExpressionException
+     *             if the expression cannot be compiled
+     */
+    private XPathExpression compile(String xpathExpression, NamespaceContext namespaceContext)
+        throws XPathExpressionException {
+        Map<Entry<String, NamespaceContext>, XPathExpression> cache = XPATH_EXPRESSIONS.get();
+        Entry<String, NamespaceContext> key = new SimpleImmutableEntry<>(xpathExpression, namespaceContext);
+        XPathExpression compiledExpression = cache.get(key);
+        if (compiledExpression == null) {
+            XPath xPath = XPATH.get();
+            xPath.reset();
+            if (namespaceContext != null) {
+                xPath.setNamespaceContext(namespaceContext);
+            }
+            compiledExpression = xPath.compile(xpathExpression);
+            cache.put(key, compiledExpression);
+        }
+        return compiledExpression;
     }
 
     /**
@@ -190,10 +287,9 @@ public class XmlMatcher implements MatcherInterpreter {
      *         results in an empty list
      */
     private String resolveVariablesXPath(Node doc, String xpathExpression) {
-        XPath xPath = XPathFactory.newInstance().newXPath();
         LOG.debug("Evaluating xpath {}", xpathExpression);
         try {
-            NodeList list = (NodeList) xPath.evaluate(xpathExpression, doc, XPathConstants.NODESET);
+            NodeList list = (NodeList) compile(xpathExpression, null).evaluate(doc, XPathConstants.NODESET);
             if (list.getLength() > 0) {
                 // currently, we just allow strings as variable assignment values
                 LOG.debug("... found {} nodes.", list.getLength());
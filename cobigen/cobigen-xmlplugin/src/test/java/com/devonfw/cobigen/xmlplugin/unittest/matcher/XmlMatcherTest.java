@@ -0,0 +1,91 @@
+package com.devonfw.cobigen.xmlplugin.unittest.matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import com.devonfw.cobigen.api.to.MatcherTo;
+import com.devonfw.cobigen.xmlplugin.matcher.XmlMatcher;
+
+/** Test suite for {@link XmlMatcher} */
+public class XmlMatcherTest {
+
+    /**
+     * Tests that a cached XPath expression is not reused for a document binding its prefix to another namespace
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testXPathMatchingRespectsNamespacesOfDocument() throws Exception {
+        // arrange
+        XmlMatcher xmlMatcher = new XmlMatcher();
+        Document matchingDoc = parse("<a:root xmlns:a=\"urn:first\"/>");
+        Document otherDoc = parse("<root xmlns=\"urn:first\" xmlns:a=\"urn:second\"/>");
+        String xpath = "/a:root";
+
+        // act
+        boolean matching = xmlMatcher.matches(new MatcherTo("xpath", xpath, matchingDoc));
+        boolean other = xmlMatcher.matches(new MatcherTo("xpath", xpath, otherDoc));
+
+        // assert
+        assertThat(matching).isTrue();
+        assertThat(other).isFalse();
+    }
+
+    /**
+     * Tests that XPath matchers can be evaluated concurrently
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testConcurrentXPathMatching() throws Exception {
+        // arrange
+        XmlMatcher xmlMatcher = new XmlMatcher();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<Boolean>> matches = IntStream.range(0, 200).mapToObj(i -> (Callable<Boolean>) () -> {
+            String namespace = "urn:ns" + i % 7;
+            Document doc = parse("<p:root xmlns:p=\"" + namespace + "\"><p:child name=\"" + i + "\"/></p:root>");
+            return xmlMatcher.matches(new MatcherTo("xpath", "/p:root/p:child[@name='" + i % 3 + "']", doc));
+        }).collect(Collectors.toList());
+
+        // act
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(matches);
+        } finally {
+            executor.shutdown();
+        }
+
+        // assert
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get()).as("match of input " + i).isEqualTo(i < 3);
+        }
+    }
+
+    /**
+     * Parses the given xml namespace aware
+     * @param xml
+     *            to be parsed
+     * @return the parsed {@link Document}
+     * @throws Exception
+     *             if the xml could not be parsed
+     */
+    private static Document parse(String xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+}